@@ -0,0 +1,41 @@
+package com.hackfest.aicodechallenge.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fast-doubling Fibonacci with the memo disabled, so every invocation does the full computation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FibonacciBenchmark {
+
+    @Param({"40", "92", "1000", "100000", "1000000"})
+    private int n;
+
+    private FibonacciService uncached;
+    private FibonacciService memoized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        uncached = new FibonacciService(10_000_000, 0, 0);
+        memoized = new FibonacciService(10_000_000, 256, 64L << 20);
+        memoized.fibonacci(n);
+    }
+
+    @Benchmark
+    public BigInteger fibonacciUncached() {
+        return uncached.fibonacciExact(n);
+    }
+
+    @Benchmark
+    public BigInteger fibonacciMemoized() {
+        return memoized.fibonacciExact(n);
+    }
+}
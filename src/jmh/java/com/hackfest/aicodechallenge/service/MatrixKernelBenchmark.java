@@ -0,0 +1,44 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The compute endpoint's matrix workload for each kernel mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatrixKernelBenchmark {
+
+    @Param({"64", "256", "512", "1024"})
+    private int n;
+
+    @Param({"NAIVE", "TILED", "PARALLEL"})
+    private String mode;
+
+    private MatrixKernelService matrixKernelService;
+    private MatrixKernelService.Mode kernelMode;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        matrixKernelService = new MatrixKernelService(new ExecutorRegistry("platform", new SimpleMeterRegistry()), 0, 2048);
+        kernelMode = MatrixKernelService.Mode.from(mode);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        matrixKernelService.shutdown();
+    }
+
+    @Benchmark
+    public int workloadCorner() {
+        return matrixKernelService.workloadCorner(n, kernelMode);
+    }
+}
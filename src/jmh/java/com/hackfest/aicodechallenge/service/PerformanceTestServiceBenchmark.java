@@ -0,0 +1,114 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.PerformanceTestPage;
+import com.hackfest.aicodechallenge.model.dto.PerformanceTestRequest;
+import com.hackfest.aicodechallenge.model.dto.PerformanceTestResponse;
+import com.hackfest.aicodechallenge.model.entity.PerformanceTest;
+import com.hackfest.aicodechallenge.repository.PerformanceTestRepository;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import com.hackfest.aicodechallenge.service.load.DistributedLoadCoordinator;
+import com.hackfest.aicodechallenge.service.load.HttpLoadTargetFactory;
+import com.hackfest.aicodechallenge.service.load.LoadGenerator;
+import com.hackfest.aicodechallenge.service.load.StubTargetServer;
+import com.hackfest.aicodechallenge.service.timeseries.TimeSeriesService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Response mapping and listing of stored tests as the store grows. {@code getTests} reads one
+ * 100-test page, which should cost the same at every {@code storedTests}; {@code exportTests} drains
+ * every stored test to ndjson the way {@code GET /tests/export} does, and grows with the store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PerformanceTestServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int storedTests;
+
+    private LoadGenerator loadGenerator;
+    private StubTargetServer stubTarget;
+    private HttpLoadTargetFactory httpLoadTargetFactory;
+    private PerformanceTestService performanceTestService;
+    private PerformanceTest sample;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ExecutorRegistry executorRegistry = new ExecutorRegistry("platform", new SimpleMeterRegistry());
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        loadGenerator = new LoadGenerator(executorRegistry, 1, 1, 50_000);
+        stubTarget = new StubTargetServer(false, 0, "FIXED", 0, 0, 0, 0.0, 503);
+        httpLoadTargetFactory = new HttpLoadTargetFactory(stubTarget, executorRegistry, 1, 1000, 1000, 30);
+        PerformanceStreamService streamService =
+                new PerformanceStreamService(new ObjectMapper(), executorRegistry, 60_000, 16, 1);
+        TimeSeriesService timeSeriesService = new TimeSeriesService(900, 1080, 1440, 100);
+        performanceTestService = new PerformanceTestService(
+                new PerformanceTestRepository(new ObjectMapper(), false, null, 0, 0, 0, 0),
+                loadGenerator, httpLoadTargetFactory, streamService,
+                new TestMetricsSampler(streamService, timeSeriesService, 1000), timeSeriesService,
+                new TestScheduler(4, 5000),
+                new DistributedLoadCoordinator(new ObjectMapper(), "", 1000, 5000, 2000, ""),
+                new TestResultCache(new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), 1 << 20, 1024));
+        for (int i = 0; i < storedTests; i++) {
+            performanceTestService.createTest(benchmarkRequest(i));
+        }
+        sample = new PerformanceTest("Sample", 60, 10, "Sample test");
+        sample.setTotalRequests(600);
+        sample.setSuccessfulRequests(570);
+        sample.setFailedRequests(30);
+        sample.setAverageResponseTime(120.0);
+        sample.setMinResponseTime(50.0);
+        sample.setMaxResponseTime(480.0);
+        sample.setThroughput(10.0);
+        sample.setErrorRate(5.0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loadGenerator.shutdown();
+        httpLoadTargetFactory.shutdown();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public PerformanceTestResponse mapToResponse() {
+        return performanceTestService.mapToResponse(sample);
+    }
+
+    @Benchmark
+    public PerformanceTestPage getTests() {
+        return performanceTestService.getTests(null, null, null, null, 100);
+    }
+
+    @Benchmark
+    public long exportTests() throws IOException {
+        long written = 0;
+        try (Stream<PerformanceTestResponse> tests = performanceTestService.streamTests(null, null, null);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+            generator.setRootValueSeparator(null);
+            for (PerformanceTestResponse test : (Iterable<PerformanceTestResponse>) tests::iterator) {
+                generator.writeObject(test);
+                generator.writeRaw('\n');
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static PerformanceTestRequest benchmarkRequest(int i) {
+        PerformanceTestRequest request = new PerformanceTestRequest("Benchmark " + i, 60, 10, "Benchmark test");
+        request.setTargetUrl("http://localhost:8080/compute/inefficient/10");
+        return request;
+    }
+}
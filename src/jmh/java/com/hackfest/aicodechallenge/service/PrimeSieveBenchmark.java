@@ -0,0 +1,38 @@
+package com.hackfest.aicodechallenge.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prime counting from a warm (already sieved) cache versus sieving from scratch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimeSieveBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int n;
+
+    private PrimeSieveService warm;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        warm = new PrimeSieveService(100_000_000, 1_000_000);
+        warm.countPrimes(n);
+    }
+
+    @Benchmark
+    public int countPrimesWarm() {
+        return warm.countPrimes(n);
+    }
+
+    @Benchmark
+    public int countPrimesCold() {
+        return new PrimeSieveService(100_000_000, 1_000_000).countPrimes(n);
+    }
+}
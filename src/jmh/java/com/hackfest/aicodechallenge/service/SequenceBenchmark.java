@@ -0,0 +1,34 @@
+package com.hackfest.aicodechallenge.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concatenation stage: arithmetic length and streaming the sequence into a discarding sink.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequenceBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int n;
+
+    private final SequenceService sequenceService = new SequenceService();
+
+    @Benchmark
+    public long sequenceLength() {
+        return sequenceService.sequenceLength(n);
+    }
+
+    @Benchmark
+    public void writeSequence() throws IOException {
+        sequenceService.writeSequence(n, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,40 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contended recording into a shared latency histogram, with and without a concurrent reader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LatencyRecorderBenchmark {
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    @Benchmark
+    @Group("record")
+    public void record() {
+        recorder.record(ThreadLocalRandom.current().nextLong(100_000, 500_000_000));
+    }
+
+    @Benchmark
+    @Group("recordWhileReading")
+    @GroupThreads(3)
+    public void recordWithReader() {
+        recorder.record(ThreadLocalRandom.current().nextLong(100_000, 500_000_000));
+    }
+
+    @Benchmark
+    @Group("recordWhileReading")
+    public double snapshot() {
+        return recorder.snapshot().getPercentileMillis(99);
+    }
+}
@@ -0,0 +1,48 @@
+package com.hackfest.aicodechallenge.service.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of route instrumentation under contention, with and without a concurrent scrape.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RouteMetricsRegistryBenchmark {
+
+    private final RouteMetricsRegistry registry = new RouteMetricsRegistry(new SimpleMeterRegistry(), 60_000, 3);
+
+    @Setup
+    public void setUp() {
+        registry.requestFinished(registry.requestStarted("GET", "/compute/fibonacci/{n}"), 200, 1_000_000);
+    }
+
+    @Benchmark
+    @Group("record")
+    public void record() {
+        registry.requestFinished(registry.requestStarted("GET", "/compute/fibonacci/{n}"), 200,
+                ThreadLocalRandom.current().nextLong(100_000, 500_000_000));
+    }
+
+    @Benchmark
+    @Group("recordWhileScraping")
+    @GroupThreads(3)
+    public void recordWithScraper() {
+        registry.requestFinished(registry.requestStarted("GET", "/compute/fibonacci/{n}"), 200,
+                ThreadLocalRandom.current().nextLong(100_000, 500_000_000));
+    }
+
+    @Benchmark
+    @Group("recordWhileScraping")
+    public double scrape() {
+        return registry.getRoutes().get(0).percentileSeconds(99);
+    }
+}
@@ -1,15 +1,28 @@
 package com.hackfest.aicodechallenge.config;
 
+import com.hackfest.aicodechallenge.filter.RequestMetricsFilter;
+import com.hackfest.aicodechallenge.filter.RouteLoggingInterceptor;
+import com.hackfest.aicodechallenge.filter.RouteMetricsInterceptor;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import com.hackfest.aicodechallenge.service.metrics.RouteMetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
-import java.util.concurrent.Executor;
 
 @Configuration
 @EnableAsync
@@ -29,13 +42,68 @@ public class ApplicationConfig {
     }
     
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("AsyncTask-");
-        executor.initialize();
-        return executor;
+    public AsyncTaskExecutor taskExecutor(ExecutorRegistry executorRegistry,
+                                          @Value("${execution.async.threads:20}") int threads,
+                                          @Value("${execution.async.queue-capacity:100}") int queueCapacity) {
+        return new TaskExecutorAdapter(executorRegistry.create("async", threads, queueCapacity));
+    }
+    
+    @Bean
+    public WebMvcConfigurer asyncSupportConfigurer(AsyncTaskExecutor taskExecutor) {
+        // Run StreamingResponseBody writers on the bounded pool instead of a thread per request
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(taskExecutor);
+            }
+        };
+    }
+    
+    @Bean
+    public WebMvcConfigurer routeLoggingConfigurer() {
+        // Tags log events with their route, for per-endpoint sampling
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new RouteLoggingInterceptor());
+            }
+        };
+    }
+    
+    @Bean
+    public WebMvcConfigurer routeMetricsConfigurer(RouteMetricsRegistry routeMetricsRegistry) {
+        // Counts requests in flight per route once a handler is chosen; requestMetricsFilter ends them
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new RouteMetricsInterceptor(routeMetricsRegistry));
+            }
+        };
+    }
+    
+    /**
+     * Handles requests on an executor of the configured strategy instead of Tomcat's own pool, so
+     * request threads follow {@code execution.strategy} and report the same saturation metrics.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> requestExecutorCustomizer(
+            ExecutorRegistry executorRegistry,
+            @Value("${execution.requests.threads:200}") int threads,
+            @Value("${execution.requests.queue-capacity:10000}") int queueCapacity) {
+        return factory -> factory.addProtocolHandlerCustomizers(protocolHandler ->
+                protocolHandler.setExecutor(executorRegistry.create("http", threads, queueCapacity)));
+    }
+    
+    /**
+     * Records latency and status per route template. Registered ahead of the concurrency limits so
+     * shed requests are counted too.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(RouteMetricsRegistry routeMetricsRegistry) {
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(routeMetricsRegistry));
+        registration.setName("requestMetricsFilter");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
     }
 }
@@ -0,0 +1,67 @@
+package com.hackfest.aicodechallenge.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.filter.ConcurrencyLimitFilter;
+import com.hackfest.aicodechallenge.filter.RequestCostEstimator;
+import com.hackfest.aicodechallenge.service.limit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Adaptive concurrency limits in front of the computation and performance test endpoints.
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "limiter.compute.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> computeConcurrencyLimitFilter(
+            MeterRegistry meterRegistry, ObjectMapper objectMapper,
+            @Value("${limiter.compute.initial-limit:20}") int initialLimit,
+            @Value("${limiter.compute.min-limit:4}") int minLimit,
+            @Value("${limiter.compute.max-limit:200}") int maxLimit,
+            @Value("${limiter.compute.cost-base-n:1024}") long costBaseN,
+            @Value("${limiter.compute.max-cost:16}") int maxCost,
+            @Value("${limiter.tolerance:1.5}") double tolerance,
+            @Value("${limiter.smoothing:0.2}") double smoothing) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("compute",
+                initialLimit, minLimit, maxLimit, tolerance, smoothing, meterRegistry);
+        // Jobs answer immediately and run on their own bounded executor; polls may wait by design
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter,
+                RequestCostEstimator.logarithmic(costBaseN, maxCost), List.of("/compute/jobs/**"), objectMapper);
+        return registration(filter, "computeConcurrencyLimitFilter", "/compute/*");
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "limiter.performance.enabled", havingValue = "true")
+    public FilterRegistrationBean<ConcurrencyLimitFilter> performanceConcurrencyLimitFilter(
+            MeterRegistry meterRegistry, ObjectMapper objectMapper,
+            @Value("${limiter.performance.initial-limit:50}") int initialLimit,
+            @Value("${limiter.performance.min-limit:10}") int minLimit,
+            @Value("${limiter.performance.max-limit:500}") int maxLimit,
+            @Value("${limiter.tolerance:1.5}") double tolerance,
+            @Value("${limiter.smoothing:0.2}") double smoothing) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("performance",
+                initialLimit, minLimit, maxLimit, tolerance, smoothing, meterRegistry);
+        // Streams and exports last as long as the client wants, which says nothing about load
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, RequestCostEstimator.constant(),
+                List.of("/api/v1/performance/tests/*/stream", "/api/v1/performance/tests/export",
+                        "/api/v1/performance/health"),
+                objectMapper);
+        return registration(filter, "performanceConcurrencyLimitFilter", "/api/v1/performance/*");
+    }
+
+    private static FilterRegistrationBean<ConcurrencyLimitFilter> registration(ConcurrencyLimitFilter filter,
+                                                                              String name, String urlPattern) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setName(name);
+        registration.addUrlPatterns(urlPattern);
+        return registration;
+    }
+}
@@ -1,69 +1,146 @@
 package com.hackfest.aicodechallenge.controller;
 
-import java.util.ArrayList;
+import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.BatchComputationRequest;
+import com.hackfest.aicodechallenge.model.dto.BatchComputationResponse;
 import com.hackfest.aicodechallenge.model.dto.ComputationResult;
+import com.hackfest.aicodechallenge.model.dto.FibonacciResult;
+import com.hackfest.aicodechallenge.model.dto.PrimeRangeResult;
+import com.hackfest.aicodechallenge.service.BatchComputationService;
+import com.hackfest.aicodechallenge.service.ComputationResultCache;
+import com.hackfest.aicodechallenge.service.ComputationService;
+import com.hackfest.aicodechallenge.service.FibonacciService;
+import com.hackfest.aicodechallenge.service.MatrixKernelService;
+import com.hackfest.aicodechallenge.service.PrimeSieveService;
+import com.hackfest.aicodechallenge.service.SequenceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/compute")
+@RequiredArgsConstructor
 public class ComputationController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final ComputationService computationService;
+    private final BatchComputationService batchComputationService;
+    private final ComputationResultCache computationResultCache;
+    private final PrimeSieveService primeSieveService;
+    private final FibonacciService fibonacciService;
+    private final SequenceService sequenceService;
+    private final ObjectMapper objectMapper;
+
     @GetMapping("/inefficient/{n}")
-    public ResponseEntity<ComputationResult> inefficientComputation(@PathVariable int n) {
-        long startTime = System.currentTimeMillis();
-        
-        // Inefficient prime number calculation
-        List<Integer> primes = new ArrayList();
-        for (int i = 2; i <= n; i++) {
-            boolean isPrime = true;
-            for (int j = 2; j < i; j++) {  // Inefficient check
-                if (i % j == 0) {
-                    isPrime = false;
-                    break;
-                }
-            }
-            if (isPrime) {
-                primes.add(i);
-            }
-        }
+    public ResponseEntity<ComputationResult> inefficientComputation(
+            @PathVariable int n,
+            @RequestParam(defaultValue = "AUTO") String mode) {
+        MatrixKernelService.Mode matrixMode = parseMode(mode);
 
-        // Fibonacci with recursion (O(2^n) time)
-        long fib = fibonacci(n % 40); // Limit to prevent stack overflow
+        ComputationResult result = computationResultCache.get(n, matrixMode, () -> computationService.compute(n, matrixMode));
 
-        // String concatenation in loop
-        String concatenated = "";
-        for (int i = 0; i < n; i++) {
-            concatenated += i + ",";  // Creates new string each iteration
-        }
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchComputationResponse> batchComputation(
+            @Valid @RequestBody BatchComputationRequest request) {
+        MatrixKernelService.Mode matrixMode = parseMode(request.getMode());
+
+        return ResponseEntity.ok(batchComputationService.compute(request.getValues(), matrixMode));
+    }
+
+    @PostMapping(value = "/batch/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> batchComputationStream(
+            @Valid @RequestBody BatchComputationRequest request) {
+        MatrixKernelService.Mode matrixMode = parseMode(request.getMode());
 
-        // Unnecessary matrix multiplication
-        int[][] matrix = new int[n][n];
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                for (int k = 0; k < n; k++) {  // O(n³) operation
-                    matrix[i][j] += i * k + j * k;
+        // Shared phases run here so invalid input still fails with 400 before streaming starts
+        Map<Integer, CompletableFuture<ComputationResult>> futures =
+                batchComputationService.submit(request.getValues(), matrixMode);
+        BlockingQueue<CompletableFuture<ComputationResult>> completed = new LinkedBlockingQueue<>();
+        futures.values().forEach(future -> future.whenComplete((result, error) -> completed.add(future)));
+
+        StreamingResponseBody body = out -> {
+            for (int remaining = futures.size(); remaining > 0; remaining--) {
+                CompletableFuture<ComputationResult> next;
+                try {
+                    next = completed.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
                 }
+                out.write(objectMapper.writeValueAsBytes(next.join()));
+                out.write('\n');
+                out.flush();
             }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    @GetMapping(value = "/sequence/{n}", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> sequence(@PathVariable int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Sequence length must not be negative: " + n);
         }
+        StreamingResponseBody body = out -> sequenceService.writeSequence(n, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .contentLength(sequenceService.sequenceLength(n))
+                .body(body);
+    }
+
+    @GetMapping("/primes")
+    public ResponseEntity<PrimeRangeResult> primesInRange(@RequestParam long from, @RequestParam long to) {
+        long startTime = System.currentTimeMillis();
 
-        long endTime = System.currentTimeMillis();
-        long duration = endTime - startTime;
+        List<Long> primes = primeSieveService.primesInRange(from, to);
 
-        return ResponseEntity.ok(
-            new ComputationResult(primes.size(), fib, concatenated.length(), matrix[n-1][n-1], duration)
-        );
+        return ResponseEntity.ok(PrimeRangeResult.builder()
+                .from(from)
+                .to(to)
+                .count(primes.size())
+                .primes(primes)
+                .computationTimeMs(System.currentTimeMillis() - startTime)
+                .build());
     }
 
-    // Inefficient recursive Fibonacci
-    private long fibonacci(int n) {
-        if (n <= 1) return n;
-        return fibonacci(n - 1) + fibonacci(n - 2);
+    @GetMapping("/fibonacci/{n}")
+    public ResponseEntity<FibonacciResult> fibonacci(@PathVariable int n) {
+        long startTime = System.currentTimeMillis();
+
+        BigInteger value = fibonacciService.fibonacciExact(n);
+        boolean exceedsLong = value.bitLength() > 63;
+
+        return ResponseEntity.ok(FibonacciResult.builder()
+                .n(n)
+                .value(exceedsLong ? value : Long.valueOf(value.longValue()))
+                .bitLength(value.bitLength())
+                .exceedsLong(exceedsLong)
+                .computationTimeMs(System.currentTimeMillis() - startTime)
+                .build());
     }
-}
 
+    private static MatrixKernelService.Mode parseMode(String mode) {
+        return mode == null ? MatrixKernelService.Mode.AUTO : MatrixKernelService.Mode.from(mode);
+    }
+}
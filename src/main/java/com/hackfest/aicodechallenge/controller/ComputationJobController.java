@@ -0,0 +1,64 @@
+package com.hackfest.aicodechallenge.controller;
+
+import com.hackfest.aicodechallenge.model.dto.ApiResponse;
+import com.hackfest.aicodechallenge.model.dto.ComputationJobRequest;
+import com.hackfest.aicodechallenge.model.dto.ComputationJobResponse;
+import com.hackfest.aicodechallenge.service.ComputationJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/compute/jobs")
+@RequiredArgsConstructor
+public class ComputationJobController {
+    
+    private final ComputationJobService computationJobService;
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<ComputationJobResponse>> submitJob(
+            @Valid @RequestBody ComputationJobRequest request) {
+        
+        try {
+            ComputationJobResponse response = computationJobService.submit(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(response, "Computation job submitted"));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error("Computation job queue is full"));
+        }
+    }
+    
+    @GetMapping("/{jobId}")
+    public CompletableFuture<ResponseEntity<ApiResponse<ComputationJobResponse>>> getJob(
+            @PathVariable @NotBlank String jobId,
+            @RequestParam(defaultValue = "0") long waitMs) {
+        
+        try {
+            return computationJobService.awaitJob(jobId, waitMs)
+                    .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response)));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage())));
+        }
+    }
+    
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<ApiResponse<ComputationJobResponse>> cancelJob(
+            @PathVariable @NotBlank String jobId) {
+        
+        try {
+            ComputationJobResponse response = computationJobService.cancel(jobId);
+            return ResponseEntity.ok(ApiResponse.success(response, "Cancellation requested"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+}
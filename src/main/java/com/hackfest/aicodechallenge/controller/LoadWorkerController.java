@@ -0,0 +1,77 @@
+package com.hackfest.aicodechallenge.controller;
+
+import com.hackfest.aicodechallenge.model.dto.ApiResponse;
+import com.hackfest.aicodechallenge.model.dto.WorkerReport;
+import com.hackfest.aicodechallenge.model.dto.WorkerRunRequest;
+import com.hackfest.aicodechallenge.service.load.LoadWorker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Control API a distributed-test coordinator uses to drive this instance as a load worker. Calls
+ * without the shared worker token are answered with 401.
+ */
+@RestController
+@RequestMapping("/api/v1/worker/runs")
+@RequiredArgsConstructor
+public class LoadWorkerController {
+
+    private final LoadWorker loadWorker;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<WorkerReport>> startRun(
+            @RequestHeader(value = LoadWorker.TOKEN_HEADER, required = false) String token,
+            @Valid @RequestBody WorkerRunRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(loadWorker.start(token, request), "Worker run started"));
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{runId}")
+    public ResponseEntity<ApiResponse<WorkerReport>> getReport(
+            @RequestHeader(value = LoadWorker.TOKEN_HEADER, required = false) String token,
+            @PathVariable @NotBlank String runId) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(loadWorker.getReport(token, runId)));
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{runId}/cancel")
+    public ResponseEntity<ApiResponse<WorkerReport>> cancelRun(
+            @RequestHeader(value = LoadWorker.TOKEN_HEADER, required = false) String token,
+            @PathVariable @NotBlank String runId) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(loadWorker.cancel(token, runId), "Cancellation requested"));
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package com.hackfest.aicodechallenge.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hackfest.aicodechallenge.model.dto.ApiResponse;
+import com.hackfest.aicodechallenge.model.dto.PerformanceTestPage;
 import com.hackfest.aicodechallenge.model.dto.PerformanceTestRequest;
 import com.hackfest.aicodechallenge.model.dto.PerformanceTestResponse;
+import com.hackfest.aicodechallenge.model.dto.TimeSeriesResponse;
 import com.hackfest.aicodechallenge.service.PerformanceTestService;
+import com.hackfest.aicodechallenge.service.TestResultCache;
+import com.hackfest.aicodechallenge.service.timeseries.TestTimeSeries;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -23,18 +41,24 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class PerformanceTestController {
     
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    
     private final PerformanceTestService performanceTestService;
+    private final ObjectMapper objectMapper;
     
     @PostMapping("/tests")
     public ResponseEntity<ApiResponse<PerformanceTestResponse>> createTest(
             @Valid @RequestBody PerformanceTestRequest request) {
         
-        log.info("Creating performance test: {}", request.getTestName());
-        
         try {
             PerformanceTestResponse response = performanceTestService.createTest(request);
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success(response, "Performance test created successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("Error creating test", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -46,11 +70,11 @@ public class PerformanceTestController {
     public ResponseEntity<ApiResponse<PerformanceTestResponse>> startTest(
             @PathVariable @NotBlank String testId) {
         
-        log.info("Starting performance test: {}", testId);
-        
         try {
             PerformanceTestResponse response = performanceTestService.startTest(testId);
-            return ResponseEntity.ok(ApiResponse.success(response, "Performance test started"));
+            String message = "QUEUED".equals(response.getStatus())
+                    ? "Performance test queued" : "Performance test started";
+            return ResponseEntity.ok(ApiResponse.success(response, message));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error(e.getMessage()));
@@ -61,15 +85,44 @@ public class PerformanceTestController {
         }
     }
     
-    @GetMapping("/tests/{testId}")
-    public ResponseEntity<ApiResponse<PerformanceTestResponse>> getTestResult(
+    @PostMapping("/tests/{testId}/cancel")
+    public ResponseEntity<ApiResponse<PerformanceTestResponse>> cancelTest(
             @PathVariable @NotBlank String testId) {
         
-        log.info("Getting test result: {}", testId);
+        try {
+            PerformanceTestResponse response = performanceTestService.cancelTest(testId);
+            return ResponseEntity.ok(ApiResponse.success(response, "Cancellation requested"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    /**
+     * A test and its results, as JSON or, for {@code Accept: application/cbor}, CBOR. Finished tests
+     * are served from pre-encoded bytes, gzip-compressed when the client accepts it, with a strong
+     * ETag that answers a matching {@code If-None-Match} with 304.
+     */
+    @GetMapping("/tests/{testId}")
+    public ResponseEntity<?> getTestResult(
+            @PathVariable @NotBlank String testId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        
+        log.debug("Getting test result: {}", testId);
         
         try {
+            TestResultCache.Format format = negotiate(accept);
+            Optional<TestResultCache.Representation> cached = performanceTestService.getCachedResult(testId, format);
+            if (cached.isPresent()) {
+                return cachedResult(cached.get(), acceptEncoding, ifNoneMatch);
+            }
             PerformanceTestResponse response = performanceTestService.getTestResult(testId);
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(format.getMediaType()))
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .body(ApiResponse.success(response));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error(e.getMessage()));
@@ -80,18 +133,187 @@ public class PerformanceTestController {
         }
     }
     
+    private static ResponseEntity<?> cachedResult(TestResultCache.Representation representation,
+                                                  String acceptEncoding, String ifNoneMatch) {
+        boolean gzipped = representation.gzip() != null && acceptsGzip(acceptEncoding);
+        boolean notModified = representation.matches(ifNoneMatch);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(representation.etag(gzipped))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (notModified) {
+            return response.build();
+        }
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.contentType(MediaType.parseMediaType(representation.format().getMediaType()))
+                .body(gzipped ? representation.gzip() : representation.identity());
+    }
+    
+    /**
+     * CBOR when the client rates it above JSON, or equally but names it explicitly; JSON otherwise.
+     */
+    private static TestResultCache.Format negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return TestResultCache.Format.JSON;
+        }
+        double cbor = 0;
+        double json = 0;
+        boolean jsonExplicit = false;
+        try {
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                double quality = mediaType.getQualityValue();
+                if (mediaType.equalsTypeAndSubtype(CBOR)) {
+                    cbor = Math.max(cbor, quality);
+                } else if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON) && quality >= json) {
+                    boolean explicit = !mediaType.isWildcardType() && !mediaType.isWildcardSubtype();
+                    jsonExplicit = explicit || (quality == json && jsonExplicit);
+                    json = quality;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return TestResultCache.Format.JSON;
+        }
+        return cbor > json || (cbor > 0 && cbor == json && !jsonExplicit)
+                ? TestResultCache.Format.CBOR : TestResultCache.Format.JSON;
+    }
+    
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].trim().matches("q\\s*=\\s*0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+    
+    @GetMapping(value = "/tests/{testId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTest(@PathVariable @NotBlank String testId) {
+        
+        log.debug("Streaming test metrics: {}", testId);
+        
+        try {
+            return ResponseEntity.ok(performanceTestService.streamTest(testId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Metrics of a test over time. {@code from} and {@code to} are epoch seconds; {@code resolution}
+     * is {@code 1s}, {@code 10s}, {@code 1m}, or {@code auto} for the finest one covering the range.
+     */
+    @GetMapping("/tests/{testId}/timeseries")
+    public ResponseEntity<ApiResponse<TimeSeriesResponse>> getTimeSeries(
+            @PathVariable @NotBlank String testId,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(defaultValue = "auto") String resolution) {
+        
+        TestTimeSeries.Resolution parsed;
+        try {
+            parsed = TestTimeSeries.Resolution.from(resolution);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+        
+        try {
+            TimeSeriesResponse response = performanceTestService.getTimeSeries(testId, from, to, parsed);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    /**
+     * One page of tests in creation order. {@code status} and the ISO date-time range
+     * [{@code from}, {@code to}) filter the listing. While more tests follow, the cursor of the next
+     * page is in the body's {@code nextCursor} and the {@value #NEXT_CURSOR_HEADER} header.
+     */
     @GetMapping("/tests")
-    public ResponseEntity<ApiResponse<List<PerformanceTestResponse>>> getAllTests() {
+    public ResponseEntity<ApiResponse<List<PerformanceTestResponse>>> getAllTests(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
         
-        log.info("Getting all performance tests");
+        log.debug("Listing performance tests");
         
+        PerformanceTestPage page;
         try {
-            List<PerformanceTestResponse> tests = performanceTestService.getAllTests();
-            return ResponseEntity.ok(ApiResponse.success(tests, "Retrieved all tests"));
-        } catch (Exception e) {
-            log.error("Error getting all tests", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to get tests: " + e.getMessage()));
+            page = performanceTestService.getTests(status, parseTime("from", from), parseTime("to", to),
+                    cursor, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        ApiResponse<List<PerformanceTestResponse>> body =
+                ApiResponse.success(page.getTests(), "Retrieved " + page.getTests().size() + " tests");
+        body.setNextCursor(page.getNextCursor());
+        return response.body(body);
+    }
+    
+    /**
+     * Every test matching the filters, written one at a time as {@code ndjson} (one object per line)
+     * or as a {@code json} array, so the listing is never held in memory.
+     */
+    @GetMapping("/tests/export")
+    public ResponseEntity<StreamingResponseBody> exportTests(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        
+        boolean ndjson = switch (format.trim().toLowerCase(Locale.ROOT)) {
+            case "ndjson" -> true;
+            case "json" -> false;
+            default -> throw new IllegalArgumentException("Unsupported export format: " + format);
+        };
+        // Filters are checked here so invalid input still fails with 400 before streaming starts
+        Stream<PerformanceTestResponse> tests = performanceTestService.streamTests(
+                status, parseTime("from", from), parseTime("to", to));
+        
+        StreamingResponseBody body = out -> {
+            try (tests; JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+                for (PerformanceTestResponse test : (Iterable<PerformanceTestResponse>) tests::iterator) {
+                    generator.writeObject(test);
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                }
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.parseMediaType(NDJSON_VALUE) : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+    
+    private static LocalDateTime parseTime(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + " time, expected ISO date-time: " + value);
         }
     }
     
@@ -99,8 +321,6 @@ public class PerformanceTestController {
     public ResponseEntity<ApiResponse<Void>> deleteTest(
             @PathVariable @NotBlank String testId) {
         
-        log.info("Deleting performance test: {}", testId);
-        
         try {
             performanceTestService.deleteTest(testId);
             return ResponseEntity.ok(ApiResponse.success(null, "Test deleted successfully"));
@@ -117,13 +337,18 @@ public class PerformanceTestController {
     @PostMapping("/load-test")
     public ResponseEntity<ApiResponse<PerformanceTestResponse>> simulateLoad(
             @RequestParam @Min(1) @Max(10000) int requests,
-            @RequestParam @Min(0) @Max(5000) int delayMs) {
-        
-        log.info("Simulating load with {} requests and {}ms delay", requests, delayMs);
+            @RequestParam @Min(0) @Max(5000) int delayMs,
+            @RequestParam(required = false) @Min(1) @Max(10000) Integer concurrency,
+            @RequestParam(required = false) @Positive Double ratePerSecond) {
         
         try {
-            PerformanceTestResponse response = performanceTestService.simulateLoad(requests, delayMs);
-            return ResponseEntity.ok(ApiResponse.success(response, "Load simulation completed"));
+            PerformanceTestResponse response = performanceTestService.startLoadSimulation(
+                    requests, delayMs, concurrency, ratePerSecond);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(response, "Load simulation started"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("Error simulating load", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -131,6 +356,23 @@ public class PerformanceTestController {
         }
     }
     
+    @GetMapping("/load-test/{runId}")
+    public ResponseEntity<ApiResponse<PerformanceTestResponse>> getLoadSimulation(
+            @PathVariable @NotBlank String runId) {
+        
+        try {
+            PerformanceTestResponse response = performanceTestService.getLoadSimulation(runId);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error getting load simulation: {}", runId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to get load simulation: " + e.getMessage()));
+        }
+    }
+    
     @GetMapping("/health")
     public ResponseEntity<ApiResponse<String>> healthCheck() {
         return ResponseEntity.ok(ApiResponse.success("OK", "Service is healthy"));
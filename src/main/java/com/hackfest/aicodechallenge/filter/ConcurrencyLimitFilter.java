@@ -0,0 +1,133 @@
+package com.hackfest.aicodechallenge.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.ApiResponse;
+import com.hackfest.aicodechallenge.service.limit.AdaptiveConcurrencyLimiter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheds load in front of a group of endpoints with an {@link AdaptiveConcurrencyLimiter}.
+ *
+ * <p>Each request takes permits according to its estimated cost and returns them when its response
+ * is complete, including asynchronous responses. A request that does not fit is answered at once
+ * with 429 and a {@code Retry-After} of about one request's worth of time, instead of waiting behind
+ * the work that is saturating the service. Server errors release as drops, so the limit backs off;
+ * client errors do not count either way.</p>
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final RequestCostEstimator costEstimator;
+    private final List<String> excludedPatterns;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * @param excludedPatterns Ant-style paths left unlimited, such as long-lived streams whose
+     *                         duration says nothing about load
+     */
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, RequestCostEstimator costEstimator,
+                                  List<String> excludedPatterns, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.costEstimator = costEstimator;
+        this.excludedPatterns = List.copyOf(excludedPatterns);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return excludedPatterns.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        int cost = costEstimator.cost(request);
+        Optional<AdaptiveConcurrencyLimiter.Permit> acquired = limiter.tryAcquire(cost);
+        if (acquired.isEmpty()) {
+            reject(response, cost);
+            return;
+        }
+        AdaptiveConcurrencyLimiter.Permit permit = acquired.get();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                async = true;
+                request.getAsyncContext().addListener(new PermitReleaser(permit, response));
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            permit.release(AdaptiveConcurrencyLimiter.Outcome.DROPPED);
+            throw e;
+        } finally {
+            if (!async) {
+                permit.release(outcome(response.getStatus()));
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response, int cost) throws IOException {
+        long retryAfter = Math.max(1, Math.min(MAX_RETRY_AFTER_SECONDS,
+                TimeUnit.NANOSECONDS.toSeconds(limiter.estimateNanos(cost) + TimeUnit.SECONDS.toNanos(1) - 1)));
+        log.debug("Shedding request of cost {} at {} limit {}", cost, limiter.getName(), limiter.getLimit());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("Server is at capacity, retry in " + retryAfter + "s"));
+    }
+
+    private static AdaptiveConcurrencyLimiter.Outcome outcome(int status) {
+        if (status >= 500) {
+            return AdaptiveConcurrencyLimiter.Outcome.DROPPED;
+        }
+        return status >= 400 ? AdaptiveConcurrencyLimiter.Outcome.IGNORED : AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED;
+    }
+
+    /**
+     * Returns an asynchronous request's permits once its response is complete.
+     */
+    private record PermitReleaser(AdaptiveConcurrencyLimiter.Permit permit, HttpServletResponse response)
+            implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.release(outcome(response.getStatus()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.release(AdaptiveConcurrencyLimiter.Outcome.DROPPED);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.release(AdaptiveConcurrencyLimiter.Outcome.DROPPED);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hackfest.aicodechallenge.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Estimates how much of a concurrency limit a request will use, before it runs.
+ */
+@FunctionalInterface
+public interface RequestCostEstimator {
+
+    int cost(HttpServletRequest request);
+
+    /**
+     * Every request costs one permit.
+     */
+    static RequestCostEstimator constant() {
+        return request -> 1;
+    }
+
+    /**
+     * Cost that grows with the logarithm of the request's problem size: one permit up to
+     * {@code baseSize}, one more for every doubling beyond it, at most {@code maxCost}. The size is the
+     * span {@code to - from} when both query parameters are given, else the {@code n} query parameter,
+     * else the last path segment if it is a number; requests without one cost one permit.
+     */
+    static RequestCostEstimator logarithmic(long baseSize, int maxCost) {
+        return request -> {
+            long size = size(request);
+            if (size <= baseSize) {
+                return 1;
+            }
+            int doublings = 63 - Long.numberOfLeadingZeros(size / baseSize);
+            return Math.min(maxCost, 1 + doublings);
+        };
+    }
+
+    private static long size(HttpServletRequest request) {
+        Long from = parse(request.getParameter("from"));
+        Long to = parse(request.getParameter("to"));
+        if (from != null && to != null) {
+            return Math.max(0, to - from);
+        }
+        Long n = parse(request.getParameter("n"));
+        if (n != null) {
+            return n;
+        }
+        String uri = request.getRequestURI();
+        Long last = parse(uri.substring(uri.lastIndexOf('/') + 1));
+        return last != null ? last : 0;
+    }
+
+    private static Long parse(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.hackfest.aicodechallenge.filter;
+
+import com.hackfest.aicodechallenge.service.metrics.RouteMetricsRegistry;
+import com.hackfest.aicodechallenge.service.metrics.RouteStats;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records every request's latency, status class and route template in a {@link RouteMetricsRegistry}.
+ *
+ * <p>The route is the handler mapping's pattern, such as {@code /compute/fibonacci/{n}}, so path
+ * variables never become tags. Requests no handler matched are grouped under {@code NOT_FOUND},
+ * {@code REDIRECTION} or {@code UNKNOWN}, the last including requests shed before dispatch.
+ * Asynchronous requests are recorded when their response completes, which also ends the in-flight
+ * count the {@link RouteMetricsInterceptor} started.</p>
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final RouteMetricsRegistry routeMetricsRegistry;
+
+    public RequestMetricsFilter(RouteMetricsRegistry routeMetricsRegistry) {
+        this.routeMetricsRegistry = routeMetricsRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        boolean async = false;
+        boolean failed = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                async = true;
+                request.getAsyncContext().addListener(new AsyncCompletion(request, response, startNanos));
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            if (!async) {
+                finish(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                        startNanos);
+            }
+        }
+    }
+
+    private void finish(HttpServletRequest request, int status, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        if (request.getAttribute(RouteMetricsInterceptor.STARTED_ATTRIBUTE) instanceof RouteStats started) {
+            routeMetricsRegistry.requestFinished(started, status, nanos);
+        } else {
+            routeMetricsRegistry.requestFinished(request.getMethod(), route(request, status), status, nanos);
+        }
+    }
+
+    static String route(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        if (status == HttpServletResponse.SC_NOT_FOUND) {
+            return "NOT_FOUND";
+        }
+        return status / 100 == 3 ? "REDIRECTION" : "UNKNOWN";
+    }
+
+    /**
+     * Records an asynchronous request once its response is complete, including after a timeout or
+     * error, which the container follows with completion.
+     */
+    private class AsyncCompletion implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long startNanos;
+
+        AsyncCompletion(HttpServletRequest request, HttpServletResponse response, long startNanos) {
+            this.request = request;
+            this.response = response;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            finish(request, response.getStatus(), startNanos);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.hackfest.aicodechallenge.filter;
+
+import com.hackfest.aicodechallenge.service.logging.AsyncBatchingAppender;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Puts the handling route, such as {@code GET /compute/fibonacci/{n}}, in the MDC while a handler
+ * runs, so log sampling can tell endpoints apart.
+ */
+public class RouteLoggingInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            MDC.put(AsyncBatchingAppender.ROUTE_MDC_KEY, request.getMethod() + ' ' + pattern);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        MDC.remove(AsyncBatchingAppender.ROUTE_MDC_KEY);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        MDC.remove(AsyncBatchingAppender.ROUTE_MDC_KEY);
+    }
+}
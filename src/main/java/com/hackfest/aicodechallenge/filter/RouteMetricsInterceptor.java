@@ -0,0 +1,36 @@
+package com.hackfest.aicodechallenge.filter;
+
+import com.hackfest.aicodechallenge.service.metrics.RouteMetricsRegistry;
+import com.hackfest.aicodechallenge.service.metrics.RouteStats;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Marks a request in flight on its route as soon as a handler is chosen. The
+ * {@link RequestMetricsFilter} ends it when the response completes, so the count includes
+ * asynchronous requests still streaming.
+ */
+public class RouteMetricsInterceptor implements HandlerInterceptor {
+
+    /** Request attribute holding the {@link RouteStats} the request is in flight on. */
+    static final String STARTED_ATTRIBUTE = RouteMetricsInterceptor.class.getName() + ".started";
+
+    private final RouteMetricsRegistry routeMetricsRegistry;
+
+    public RouteMetricsInterceptor(RouteMetricsRegistry routeMetricsRegistry) {
+        this.routeMetricsRegistry = routeMetricsRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Async and error dispatches run interceptors again; the request is already counted
+        if (pattern != null && request.getAttribute(STARTED_ATTRIBUTE) == null) {
+            request.setAttribute(STARTED_ATTRIBUTE,
+                    routeMetricsRegistry.requestStarted(request.getMethod(), pattern.toString()));
+        }
+        return true;
+    }
+}
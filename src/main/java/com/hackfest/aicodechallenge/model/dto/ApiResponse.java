@@ -1,5 +1,6 @@
 package com.hackfest.aicodechallenge.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,6 +20,10 @@ public class ApiResponse<T> {
     private LocalDateTime timestamp;
     private String requestId;
     
+    /** Cursor of the next page of a paged listing; omitted on the last page and everywhere else. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    
     public static <T> ApiResponse<T> success(T data) {
         return ApiResponse.<T>builder()
                 .success(true)
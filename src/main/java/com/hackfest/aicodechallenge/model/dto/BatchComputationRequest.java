@@ -0,0 +1,21 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchComputationRequest {
+    
+    @NotEmpty(message = "At least one value of n is required")
+    private List<@NotNull @Positive(message = "Values of n must be positive") Integer> values;
+    
+    private String mode;
+}
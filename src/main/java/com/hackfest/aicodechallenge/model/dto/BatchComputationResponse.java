@@ -0,0 +1,20 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchComputationResponse {
+    
+    private int count;
+    private int distinctCount;
+    private List<ComputationResult> results;
+    private long computationTimeMs;
+}
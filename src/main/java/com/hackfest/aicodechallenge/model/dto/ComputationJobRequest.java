@@ -0,0 +1,23 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComputationJobRequest {
+    
+    @NotNull(message = "n is required")
+    @Positive(message = "n must be positive")
+    private Integer n;
+    
+    private String mode;
+    
+    @Positive(message = "Timeout must be positive")
+    private Long timeoutMs;
+}
@@ -0,0 +1,26 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ComputationJobResponse {
+    
+    private String jobId;
+    private int n;
+    private String mode;
+    private String status;
+    private long timeoutMs;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private ComputationResult result;
+    private String error;
+}
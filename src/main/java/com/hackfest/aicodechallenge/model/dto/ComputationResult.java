@@ -8,11 +8,25 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 public class ComputationResult {
+    private int n;
     private int primeCount;
-    private long fibonacci;
-    private int concatenatedLength;
+    private Number fibonacci;
+    private long concatenatedLength;
     private int matrixValue;
     private long computationTimeMs;
+    private StageTimings stageTimings;
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class StageTimings {
+        private double primesMs;
+        private double fibonacciMs;
+        private double concatenationMs;
+        private double matrixMs;
+    }
 
     // constructor, getters, setters...
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FibonacciResult {
+    private int n;
+    private Number value;
+    private int bitLength;
+    private boolean exceedsLong;
+    private long computationTimeMs;
+}
@@ -0,0 +1,18 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One bar of a latency distribution: samples above the previous bucket's bound and at most
+ * {@code upperBoundMs}. The last bucket has no upper bound.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyBucket {
+
+    private Double upperBoundMs;
+    private Long count;
+}
@@ -0,0 +1,33 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * One stage of a load profile. A {@code LINEAR} stage ramps from the previous stage's rate (zero
+ * for the first stage) to {@code targetRate}; a {@code STEP} stage holds {@code targetRate} for its
+ * whole duration.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoadStage {
+
+    @NotNull(message = "Stage duration is required")
+    @Positive(message = "Stage duration must be positive")
+    private Integer durationSeconds;
+
+    @NotNull(message = "Stage target rate is required")
+    @PositiveOrZero(message = "Stage target rate must not be negative")
+    private Double targetRate;
+
+    /** LINEAR or STEP; defaults to LINEAR. */
+    private String shape;
+}
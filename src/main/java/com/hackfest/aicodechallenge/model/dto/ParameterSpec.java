@@ -0,0 +1,40 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+/**
+ * How to generate one request template parameter.
+ *
+ * <ul>
+ *   <li>{@code UNIFORM}: integer between {@code min} and {@code max}, inclusive.</li>
+ *   <li>{@code NORMAL}: integer around {@code mean} with {@code stddev}, kept within {@code min} and
+ *       {@code max} when given.</li>
+ *   <li>{@code EXPONENTIAL}: integer with the given {@code mean}, kept within {@code min} and
+ *       {@code max} when given.</li>
+ *   <li>{@code SEQUENCE}: counts up from {@code min}, wrapping after {@code max} when given.</li>
+ *   <li>{@code CHOICE}: one of {@code values}, uniformly.</li>
+ *   <li>{@code UUID}: a random UUID.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParameterSpec {
+
+    @NotBlank(message = "Parameter type is required")
+    private String type;
+
+    private Long min;
+    private Long max;
+    private Double mean;
+    private Double stddev;
+    private List<String> values;
+}
@@ -0,0 +1,41 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Live metrics of a running test over one sampling interval. Rates and percentiles cover only the
+ * interval; the {@code total} fields are cumulative since the test started.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PerformanceSnapshot {
+    
+    private String testId;
+    private Long sequence;
+    private LocalDateTime timestamp;
+    private String status;
+    private Double elapsedSeconds;
+    private Double intervalSeconds;
+    private Long intervalRequests;
+    private Double throughput;
+    private Double errorRate;
+    private Double averageResponseTime;
+    private Double p50ResponseTime;
+    private Double p90ResponseTime;
+    private Double p99ResponseTime;
+    private Double p999ResponseTime;
+    private Double maxResponseTime;
+    /** How late the pacer released arrivals in this interval, in milliseconds. */
+    private Double p99ScheduleLag;
+    private Double maxScheduleLag;
+    private Long totalRequests;
+    private Long totalFailedRequests;
+    private Integer inFlightRequests;
+}
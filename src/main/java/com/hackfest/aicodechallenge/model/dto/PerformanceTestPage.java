@@ -0,0 +1,22 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a test listing. {@code nextCursor} resumes the listing after the last test on this page
+ * and is null once there are no more.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PerformanceTestPage {
+
+    private List<PerformanceTestResponse> tests;
+    private String nextCursor;
+}
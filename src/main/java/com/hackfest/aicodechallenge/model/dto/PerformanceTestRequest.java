@@ -4,9 +4,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -16,13 +19,55 @@ public class PerformanceTestRequest {
     @NotBlank(message = "Test name is required")
     private String testName;
     
-    @NotNull(message = "Duration is required")
+    /** Required unless {@code stages} is given. */
     @Positive(message = "Duration must be positive")
     private Integer durationSeconds;
     
-    @NotNull(message = "Load level is required")
+    /** Constant rate in requests per second; required unless {@code stages} is given. */
     @Positive(message = "Load level must be positive")
     private Integer loadLevel;
     
     private String description;
+    
+    /** Absolute http(s) URL to drive; blank targets the embedded stub. */
+    private String targetUrl;
+    
+    /** GET, HEAD, POST, PUT, PATCH or DELETE; defaults to GET. */
+    private String httpMethod;
+    
+    /** Sent as {@code application/json} with every request when present. */
+    private String requestBody;
+    
+    @Positive(message = "Concurrency must be positive")
+    private Integer concurrency;
+    
+    /** Owner for fair-share scheduling; defaults to {@code default}. */
+    @Size(max = 64, message = "Tenant must be at most 64 characters")
+    private String tenant;
+    
+    /** Higher runs first among the tenant's queued tests; defaults to 0. */
+    private Integer priority;
+    
+    /**
+     * Shaped load instead of a constant {@code loadLevel}. When present, {@code durationSeconds}
+     * becomes the stages' total and {@code loadLevel} their peak rate.
+     */
+    @Valid
+    @Size(max = 100, message = "At most 100 stages are allowed")
+    private List<LoadStage> stages;
+    
+    /**
+     * Weighted mix of requests to send instead of a single request; {@code targetUrl} is then the
+     * base URL their paths are appended to, and {@code httpMethod} and {@code requestBody} are unused.
+     */
+    @Valid
+    @Size(max = 50, message = "At most 50 request templates are allowed")
+    private List<RequestTemplate> scenario;
+    
+    public PerformanceTestRequest(String testName, Integer durationSeconds, Integer loadLevel, String description) {
+        this.testName = testName;
+        this.durationSeconds = durationSeconds;
+        this.loadLevel = loadLevel;
+        this.description = description;
+    }
 }
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -16,11 +17,23 @@ public class PerformanceTestResponse {
     private String testId;
     private String testName;
     private String status;
+    private String tenant;
+    private Integer priority;
+    private LocalDateTime createdTime;
+    private LocalDateTime queuedTime;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private Integer durationSeconds;
     private Integer loadLevel;
+    private List<LoadStage> stages;
     private String description;
+    private String targetUrl;
+    private String httpMethod;
+    private List<RequestTemplate> scenario;
+    private Integer concurrency;
+    /** Workers the test was split across; absent for tests run on this instance. */
+    private Integer workers;
+    private Integer lostWorkers;
     private PerformanceMetrics metrics;
     
     @Data
@@ -31,10 +44,21 @@ public class PerformanceTestResponse {
         private Double averageResponseTime;
         private Double maxResponseTime;
         private Double minResponseTime;
+        private Double p50ResponseTime;
+        private Double p90ResponseTime;
+        private Double p99ResponseTime;
+        private Double p999ResponseTime;
+        private Double p9999ResponseTime;
+        private List<LatencyBucket> latencyDistribution;
+        /** How late the pacer released arrivals behind their schedule, in milliseconds. */
+        private Double p99ScheduleLag;
+        private Double maxScheduleLag;
         private Integer totalRequests;
         private Integer successfulRequests;
         private Integer failedRequests;
         private Double throughput;
         private Double errorRate;
+        /** Results per request template of a scenario test. */
+        private List<TemplateMetrics> templates;
     }
 }
@@ -0,0 +1,18 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PrimeRangeResult {
+    private long from;
+    private long to;
+    private int count;
+    private List<Long> primes;
+    private long computationTimeMs;
+}
@@ -0,0 +1,53 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.util.Map;
+
+/**
+ * One kind of request in a scenario. {@code path} and {@code requestBody} may contain
+ * {@code {name}} placeholders, filled per request from {@code parameters}; values are
+ * percent-encoded in the path and JSON-escaped in the body, so they belong inside a JSON string or in
+ * a numeric position. A relative path is appended to the test's target URL.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RequestTemplate {
+
+    @NotBlank(message = "Template name is required")
+    private String name;
+
+    /** Relative share of the scenario's requests. */
+    @NotNull(message = "Template weight is required")
+    @Positive(message = "Template weight must be positive")
+    private Double weight;
+
+    /** GET, HEAD, POST, PUT, PATCH or DELETE; defaults to GET. */
+    private String httpMethod;
+
+    private String path;
+
+    /** Sent as {@code application/json} when present. */
+    private String requestBody;
+
+    private Map<String, @Valid ParameterSpec> parameters;
+
+    /** Pause before sending, holding the request's concurrency slot like a user reading a page. */
+    @PositiveOrZero(message = "Think time must not be negative")
+    private Integer thinkTimeMs;
+
+    /** Up to this much uniform random time is added to {@code thinkTimeMs}. */
+    @PositiveOrZero(message = "Think time jitter must not be negative")
+    private Integer thinkTimeJitterMs;
+}
@@ -0,0 +1,31 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Requests served by one route template and method. Counts are since startup; latencies cover the
+ * last {@code metrics.routes.window-ms} and are in milliseconds.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RouteMetrics {
+
+    private String method;
+    private String route;
+    private Long totalRequests;
+    private Long inFlight;
+    /** Requests by status class, e.g. {@code 2xx}; every class is present. */
+    private Map<String, Long> statusCounts;
+    private Double averageResponseTime;
+    private Double p50ResponseTime;
+    private Double p90ResponseTime;
+    private Double p99ResponseTime;
+    private Double maxResponseTime;
+}
@@ -0,0 +1,21 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-route request statistics served by the {@code routes} Actuator endpoint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RouteMetricsReport {
+
+    private Long inFlight;
+    private List<RouteMetrics> routes;
+}
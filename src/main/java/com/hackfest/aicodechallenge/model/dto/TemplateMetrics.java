@@ -0,0 +1,28 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Results of one request template of a scenario test. Latency excludes think time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TemplateMetrics {
+
+    private String name;
+    private Double weight;
+    private Long totalRequests;
+    private Long successfulRequests;
+    private Long failedRequests;
+    private Double errorRate;
+    private Double averageResponseTime;
+    private Double p50ResponseTime;
+    private Double p90ResponseTime;
+    private Double p99ResponseTime;
+    private Double maxResponseTime;
+}
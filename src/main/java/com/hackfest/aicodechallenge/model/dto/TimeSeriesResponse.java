@@ -0,0 +1,30 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Metrics of a test over a time range, one array per metric with one element per point. Timestamps
+ * are epoch seconds marking the start of each point's window of {@code resolutionSeconds}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeSeriesResponse {
+
+    private String testId;
+    private Integer resolutionSeconds;
+    private long[] timestamps;
+    private long[] requests;
+    private long[] failures;
+    private double[] throughput;
+    private double[] errorRate;
+    private double[] averageResponseTime;
+    private double[] p50ResponseTime;
+    private double[] p90ResponseTime;
+    private double[] p99ResponseTime;
+    private double[] maxResponseTime;
+}
@@ -0,0 +1,29 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a worker's run. Counters and {@code latencyHistogram} are cumulative since the run
+ * started, so a lost report costs nothing: the next one carries everything. The histogram is an
+ * HdrHistogram in compressed encoding (Base64 in JSON), in microseconds.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkerReport {
+
+    private String runId;
+    private String status;
+    private Double elapsedSeconds;
+    private Long completedRequests;
+    private Long successfulRequests;
+    private Long failedRequests;
+    private Integer inFlightRequests;
+    private byte[] latencyHistogram;
+    /** How late the worker's pacer released arrivals, in the same encoding. */
+    private byte[] scheduleLagHistogram;
+}
@@ -0,0 +1,50 @@
+package com.hackfest.aicodechallenge.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+/**
+ * A worker's share of a distributed test, sent by the coordinator. Starting the same {@code runId}
+ * twice returns the existing run, so the coordinator can retry safely.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkerRunRequest {
+
+    @NotBlank(message = "Run id is required")
+    private String runId;
+
+    @NotBlank(message = "Target URL is required")
+    private String targetUrl;
+
+    private String httpMethod;
+
+    private String requestBody;
+
+    @NotNull(message = "Total requests is required")
+    @Positive(message = "Total requests must be positive")
+    private Integer totalRequests;
+
+    @NotNull(message = "Rate is required")
+    @Positive(message = "Rate must be positive")
+    private Double ratePerSecond;
+
+    @NotNull(message = "Concurrency is required")
+    @Positive(message = "Concurrency must be positive")
+    private Integer concurrency;
+
+    /** Load profile scaled to this share; when present, {@code ratePerSecond} is its peak rate. */
+    @Valid
+    private List<LoadStage> stages;
+}
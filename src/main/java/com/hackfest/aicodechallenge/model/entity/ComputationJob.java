@@ -0,0 +1,50 @@
+package com.hackfest.aicodechallenge.model.entity;
+
+import com.hackfest.aicodechallenge.model.dto.ComputationResult;
+import com.hackfest.aicodechallenge.service.CancellationToken;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * An asynchronous compute request. Status moves from {@code QUEUED} to {@code RUNNING} and ends in
+ * one of {@code COMPLETED}, {@code FAILED}, {@code CANCELLED} or {@code TIMED_OUT}.
+ */
+@Getter
+@Setter
+public class ComputationJob {
+
+    private final String id;
+    private final int n;
+    private final String mode;
+    private final long timeoutMs;
+    private final LocalDateTime submittedAt;
+    private final CancellationToken token;
+    /** Completes with this job once it reaches a terminal status; used for long-polling. */
+    private final CompletableFuture<ComputationJob> completion = new CompletableFuture<>();
+
+    private volatile String status;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile ComputationResult result;
+    private volatile String error;
+    private volatile Future<?> execution;
+
+    public ComputationJob(int n, String mode, long timeoutMs) {
+        this.id = UUID.randomUUID().toString();
+        this.n = n;
+        this.mode = mode;
+        this.timeoutMs = timeoutMs;
+        this.submittedAt = LocalDateTime.now();
+        this.token = CancellationToken.withTimeoutMillis(timeoutMs);
+        this.status = "QUEUED";
+    }
+
+    public boolean isTerminal() {
+        return completion.isDone();
+    }
+}
@@ -1,11 +1,16 @@
 package com.hackfest.aicodechallenge.model.entity;
 
+import com.hackfest.aicodechallenge.model.dto.LatencyBucket;
+import com.hackfest.aicodechallenge.model.dto.LoadStage;
+import com.hackfest.aicodechallenge.model.dto.RequestTemplate;
+import com.hackfest.aicodechallenge.model.dto.TemplateMetrics;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -17,19 +22,40 @@ public class PerformanceTest {
     private String id;
     private String testName;
     private String status;
+    private String tenant;
+    private Integer priority;
+    private LocalDateTime createdTime;
+    private LocalDateTime queuedTime;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private Integer durationSeconds;
     private Integer loadLevel;
+    private List<LoadStage> stages;
     private String description;
+    private String targetUrl;
+    private String httpMethod;
+    private String requestBody;
+    private List<RequestTemplate> scenario;
+    private Integer concurrency;
+    private Integer workers;
+    private Integer lostWorkers;
     private Double averageResponseTime;
     private Double maxResponseTime;
     private Double minResponseTime;
+    private Double p50ResponseTime;
+    private Double p90ResponseTime;
+    private Double p99ResponseTime;
+    private Double p999ResponseTime;
+    private Double p9999ResponseTime;
+    private List<LatencyBucket> latencyDistribution;
+    private Double p99ScheduleLag;
+    private Double maxScheduleLag;
     private Integer totalRequests;
     private Integer successfulRequests;
     private Integer failedRequests;
     private Double throughput;
     private Double errorRate;
+    private List<TemplateMetrics> templateMetrics;
     
     public PerformanceTest(String testName, Integer durationSeconds, Integer loadLevel, String description) {
         this.id = UUID.randomUUID().toString();
@@ -38,6 +64,7 @@ public class PerformanceTest {
         this.loadLevel = loadLevel;
         this.description = description;
         this.status = "PENDING";
-        this.startTime = LocalDateTime.now();
+        this.createdTime = LocalDateTime.now();
+        this.startTime = this.createdTime;
     }
 }
@@ -0,0 +1,301 @@
+package com.hackfest.aicodechallenge.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.entity.PerformanceTest;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * In-memory store of performance tests backed by a {@link TestJournal}.
+ *
+ * <p>Reads are served from a map. Every save appends the test's full state as JSON and every delete
+ * appends a tombstone, so replaying the journal at startup rebuilds the map. Writes return once the
+ * record is in the memory-mapped segment; a background task forces segments to disk every
+ * {@code fsync-interval-ms}, so a crash loses at most that window. The journal is compacted into a
+ * snapshot periodically once it has grown past {@code compaction-threshold-bytes}.</p>
+ *
+ * <p>Tests are also indexed by creation time, overall and per status, in skip lists. Listing a page
+ * or streaming a filtered range walks only the matching entries, in a stable order, without copying
+ * the store. The status index reflects each test's status as of its last save.</p>
+ */
+@Slf4j
+@Repository
+public class PerformanceTestRepository {
+
+    private final Map<String, PerformanceTest> tests = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Key, PerformanceTest> byCreated = new ConcurrentSkipListMap<>();
+    private final Map<String, ConcurrentSkipListMap<Key, PerformanceTest>> byStatus = new ConcurrentHashMap<>();
+    /** Where each test currently sits in the indexes; guarded by the test's monitor. */
+    private final Map<String, Indexed> indexed = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final TestJournal journal;
+    private final long compactionThresholdBytes;
+    private final ScheduledExecutorService maintenance;
+
+    public PerformanceTestRepository(ObjectMapper objectMapper,
+                                     @Value("${performance.store.enabled:true}") boolean enabled,
+                                     @Value("${performance.store.directory:data/performance-tests}") String directory,
+                                     @Value("${performance.store.segment-bytes:16777216}") int segmentBytes,
+                                     @Value("${performance.store.fsync-interval-ms:50}") long fsyncIntervalMs,
+                                     @Value("${performance.store.compaction-interval-ms:60000}") long compactionIntervalMs,
+                                     @Value("${performance.store.compaction-threshold-bytes:8388608}") long compactionThresholdBytes)
+            throws IOException {
+        // Fields added or removed between releases must not make old records unreadable
+        this.objectMapper = objectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        if (!enabled) {
+            this.journal = null;
+            this.maintenance = null;
+            return;
+        }
+        this.journal = new TestJournal(Path.of(directory), segmentBytes);
+        journal.open(this::replay);
+        log.info("Recovered {} performance tests from {}", tests.size(), Path.of(directory).toAbsolutePath());
+
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(ExecutorRegistry.daemonThreads("TestJournal-"));
+        maintenance.scheduleWithFixedDelay(this::flushQuietly, fsyncIntervalMs, fsyncIntervalMs, TimeUnit.MILLISECONDS);
+        maintenance.scheduleWithFixedDelay(this::compactIfNeeded,
+                compactionIntervalMs, compactionIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public Optional<PerformanceTest> findById(String id) {
+        return Optional.ofNullable(tests.get(id));
+    }
+
+    public Collection<PerformanceTest> findAll() {
+        return Collections.unmodifiableCollection(tests.values());
+    }
+
+    public boolean existsById(String id) {
+        return tests.containsKey(id);
+    }
+
+    /**
+     * Tests in creation order, keyed by their index position, optionally only those with
+     * {@code status} or created in [{@code from}, {@code to}), starting after {@code after}. The stream
+     * reads the index lazily and is weakly consistent: tests saved while it is consumed may or may not
+     * appear.
+     */
+    public Stream<Map.Entry<Key, PerformanceTest>> find(String status, LocalDateTime from, LocalDateTime to,
+                                                        Key after) {
+        NavigableMap<Key, PerformanceTest> range = byCreated;
+        if (status != null) {
+            range = byStatus.get(status);
+            if (range == null) {
+                return Stream.empty();
+            }
+        }
+        if (from != null) {
+            range = range.tailMap(new Key(from, ""), true);
+        }
+        if (to != null) {
+            range = range.headMap(new Key(to, ""), false);
+        }
+        if (after != null) {
+            range = range.tailMap(after, false);
+        }
+        return range.entrySet().stream();
+    }
+
+    public PerformanceTest save(PerformanceTest test) {
+        tests.put(test.getId(), test);
+        // Serialize and append under the test's lock so records of one test hit the journal in the
+        // order its states were produced, and its index entries match its latest state
+        synchronized (test) {
+            index(test);
+            if (journal != null) {
+                journal.append(TestJournal.UPSERT, encode(test));
+            }
+        }
+        return test;
+    }
+
+    public boolean deleteById(String id) {
+        PerformanceTest test = tests.remove(id);
+        if (test == null) {
+            return false;
+        }
+        synchronized (test) {
+            unindex(id);
+        }
+        if (journal != null) {
+            journal.append(TestJournal.DELETE, id.getBytes(StandardCharsets.UTF_8));
+        }
+        return true;
+    }
+
+    /**
+     * Forces journaled writes to disk now instead of at the next group commit.
+     */
+    public void flush() {
+        if (journal != null) {
+            journal.flush();
+        }
+    }
+
+    /**
+     * Rewrites the live tests as a snapshot and drops the journal segments it replaces.
+     */
+    public void compact() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        long firstSegment = journal.startCompaction();
+        // State captured after the roll is at least as new as anything in the segments being dropped;
+        // records appended meanwhile land in the retained segments and replay on top of it
+        List<byte[]> records = new ArrayList<>(tests.size());
+        for (PerformanceTest test : tests.values()) {
+            synchronized (test) {
+                records.add(encode(test));
+            }
+        }
+        journal.writeSnapshot(firstSegment, records);
+        log.debug("Compacted test journal into a snapshot of {} tests", records.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+            journal.flush();
+        }
+    }
+
+    private void index(PerformanceTest test) {
+        Indexed previous = indexed.get(test.getId());
+        Key key = previous != null ? previous.key() : new Key(createdTime(test), test.getId());
+        String status = test.getStatus();
+        if (previous != null && previous.status() != null && !previous.status().equals(status)) {
+            byStatus.get(previous.status()).remove(key);
+        }
+        indexed.put(test.getId(), new Indexed(key, status));
+        byCreated.put(key, test);
+        if (status != null) {
+            byStatus.computeIfAbsent(status, s -> new ConcurrentSkipListMap<>()).put(key, test);
+        }
+    }
+
+    private void unindex(String id) {
+        Indexed previous = indexed.remove(id);
+        if (previous != null) {
+            byCreated.remove(previous.key());
+            if (previous.status() != null) {
+                byStatus.get(previous.status()).remove(previous.key());
+            }
+        }
+    }
+
+    /**
+     * Tests journaled before creation times were recorded fall back to their start time.
+     */
+    private static LocalDateTime createdTime(PerformanceTest test) {
+        if (test.getCreatedTime() != null) {
+            return test.getCreatedTime();
+        }
+        return test.getStartTime() != null ? test.getStartTime() : LocalDateTime.MIN;
+    }
+
+    private void replay(byte type, byte[] payload) {
+        if (type == TestJournal.DELETE) {
+            String id = new String(payload, StandardCharsets.UTF_8);
+            tests.remove(id);
+            unindex(id);
+            return;
+        }
+        try {
+            PerformanceTest test = objectMapper.readValue(payload, PerformanceTest.class);
+            PerformanceTest replaced = tests.put(test.getId(), test);
+            if (replaced != null) {
+                unindex(test.getId());
+            }
+            index(test);
+        } catch (IOException e) {
+            log.error("Skipping unreadable journal record", e);
+        }
+    }
+
+    private byte[] encode(PerformanceTest test) {
+        try {
+            return objectMapper.writeValueAsBytes(test);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            journal.flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush test journal", e);
+        }
+    }
+
+    private void compactIfNeeded() {
+        try {
+            if (journal.getAppendedBytes() >= compactionThresholdBytes) {
+                compact();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to compact test journal", e);
+        }
+    }
+
+    /**
+     * Position of a test in the creation-time index; the id breaks ties between tests created in the
+     * same instant. Its {@link #toCursor() cursor} form is an opaque token for resuming a listing.
+     */
+    public record Key(LocalDateTime created, String id) implements Comparable<Key> {
+
+        @Override
+        public int compareTo(Key other) {
+            int byTime = created.compareTo(other.created);
+            return byTime != 0 ? byTime : id.compareTo(other.id);
+        }
+
+        public String toCursor() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((created + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @throws IllegalArgumentException if {@code cursor} was not produced by {@link #toCursor()}
+         */
+        public static Key fromCursor(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.indexOf('|');
+                return new Key(LocalDateTime.parse(decoded.substring(0, separator)), decoded.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+    }
+
+    private record Indexed(Key key, String status) {
+    }
+}
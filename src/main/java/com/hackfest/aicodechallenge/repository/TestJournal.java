@@ -0,0 +1,282 @@
+package com.hackfest.aicodechallenge.repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary journal in fixed-size, memory-mapped segment files, plus a compacted snapshot.
+ *
+ * <p>Each record is framed as {@code [int length][byte type][payload][int crc32]}, where the CRC
+ * covers type and payload. Segments are zero-filled when mapped, so a zero length marks the end of
+ * written data and a bad CRC marks a torn write; replay of a segment stops at either. Appends only
+ * copy into the mapping; {@link #flush()} forces dirty pages to disk and is called periodically, so
+ * many appends share one fsync.</p>
+ *
+ * <p>A snapshot records the first segment that is not covered by it. Snapshots are written to a
+ * temporary file, forced and atomically renamed into place, and the directory is forced before older
+ * segments are deleted, so a crash at any point leaves either the old or the new snapshot with all
+ * the segments it needs.</p>
+ */
+@Slf4j
+class TestJournal {
+
+    static final byte UPSERT = 1;
+    static final byte DELETE = 2;
+
+    /** Length, type and CRC around every payload. */
+    private static final int FRAME_OVERHEAD = 4 + 1 + 4;
+    private static final int SNAPSHOT_MAGIC = 0x50544A53;
+    private static final String SNAPSHOT_FILE = "snapshot.dat";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d{10})\\.log");
+
+    /**
+     * Receives replayed records in write order.
+     */
+    interface Visitor {
+        void accept(byte type, byte[] payload);
+    }
+
+    private final Path directory;
+    private final int segmentBytes;
+
+    /** Guarded by {@code this}. */
+    private MappedByteBuffer segment;
+    private long segmentSequence;
+    private boolean dirty;
+    private long appendedBytes;
+
+    TestJournal(Path directory, int segmentBytes) throws IOException {
+        if (segmentBytes < 4096) {
+            throw new IllegalArgumentException("Journal segments must be at least 4096 bytes: " + segmentBytes);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * Replays the snapshot and every segment after it, then opens a fresh segment for appends. A torn
+     * tail in the last segment is left behind untouched; replay skips it on every later start too.
+     */
+    synchronized void open(Visitor visitor) throws IOException {
+        long firstSegment = replaySnapshot(visitor);
+        long last = firstSegment - 1;
+        for (long sequence : segmentSequences()) {
+            if (sequence < firstSegment) {
+                Files.deleteIfExists(segmentPath(sequence));
+                continue;
+            }
+            replaySegment(sequence, visitor);
+            last = sequence;
+        }
+        openSegment(Math.max(last + 1, firstSegment));
+    }
+
+    synchronized void append(byte type, byte[] payload) {
+        int frameBytes = payload.length + FRAME_OVERHEAD;
+        if (frameBytes > segmentBytes) {
+            throw new IllegalArgumentException("Journal record of " + payload.length + " bytes exceeds segment size");
+        }
+        if (segment.remaining() < frameBytes) {
+            roll();
+        }
+        segment.putInt(payload.length);
+        segment.put(type);
+        segment.put(payload);
+        segment.putInt((int) checksum(type, payload));
+        dirty = true;
+        appendedBytes += frameBytes;
+    }
+
+    /**
+     * Forces appended records to disk; a no-op when nothing was written since the last flush.
+     */
+    void flush() {
+        MappedByteBuffer written;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            written = segment;
+        }
+        // Forcing does not touch the buffer's position, so appends carry on during the fsync
+        written.force();
+    }
+
+    /**
+     * Bytes appended since the journal was opened or last compacted.
+     */
+    synchronized long getAppendedBytes() {
+        return appendedBytes;
+    }
+
+    /**
+     * Starts a new segment and returns its sequence; everything appended from now on lands in it or
+     * later segments. The caller then captures state and passes it to {@link #writeSnapshot}.
+     */
+    synchronized long startCompaction() {
+        roll();
+        appendedBytes = 0;
+        return segmentSequence;
+    }
+
+    /**
+     * Persists {@code records} as the snapshot covering every segment before {@code firstSegment},
+     * then deletes those segments.
+     */
+    void writeSnapshot(long firstSegment, List<byte[]> records) throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), 64 * 1024));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(firstSegment);
+            out.writeInt(records.size());
+            for (byte[] record : records) {
+                out.writeInt(record.length);
+                out.writeByte(UPSERT);
+                out.write(record);
+                out.writeInt((int) checksum(UPSERT, record));
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        // Persist the rename before any unlink, or a crash could keep the deletions but not the new snapshot
+        forceDirectory();
+        for (long sequence : segmentSequences()) {
+            if (sequence < firstSegment) {
+                Files.deleteIfExists(segmentPath(sequence));
+            }
+        }
+    }
+
+    private void forceDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private void roll() {
+        try {
+            flush();
+            openSegment(segmentSequence + 1);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open journal segment " + (segmentSequence + 1), e);
+        }
+    }
+
+    private void openSegment(long sequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(sequence), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        segmentSequence = sequence;
+        dirty = false;
+    }
+
+    private long replaySnapshot(Visitor visitor) throws IOException {
+        Path path = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a journal snapshot: " + path);
+            }
+            long firstSegment = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int length = in.readInt();
+                byte type = in.readByte();
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if (in.readInt() != (int) checksum(type, payload)) {
+                    throw new IOException("Corrupt record " + i + " in snapshot " + path);
+                }
+                visitor.accept(type, payload);
+            }
+            return firstSegment;
+        } catch (EOFException e) {
+            throw new IOException("Truncated journal snapshot: " + path, e);
+        }
+    }
+
+    private void replaySegment(long sequence, Visitor visitor) throws IOException {
+        Path path = segmentPath(sequence);
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int records = 0;
+        while (buffer.remaining() >= FRAME_OVERHEAD) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            // Zero marks unwritten space; anything that overruns the file is a torn length
+            if (length <= 0 || length > buffer.remaining() - 5) {
+                if (length != 0) {
+                    log.warn("Discarding torn record at offset {} of {}", start, path.getFileName());
+                }
+                break;
+            }
+            byte type = buffer.get();
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            if (buffer.getInt() != (int) checksum(type, payload)) {
+                log.warn("Discarding torn record at offset {} of {}", start, path.getFileName());
+                break;
+            }
+            visitor.accept(type, payload);
+            records++;
+        }
+        log.debug("Replayed {} records from {}", records, path.getFileName());
+    }
+
+    private static long checksum(byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    private List<Long> segmentSequences() throws IOException {
+        List<Long> sequences = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    sequences.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        sequences.sort(null);
+        return sequences;
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("journal-%010d.log", sequence));
+    }
+}
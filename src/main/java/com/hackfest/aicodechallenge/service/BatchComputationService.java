@@ -0,0 +1,135 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.model.dto.BatchComputationResponse;
+import com.hackfest.aicodechallenge.model.dto.ComputationResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes the workload for many values of n in one pass, sharing work between them.
+ *
+ * <p>The prime sieve is grown once to the largest n and every count is then a lookup. Fibonacci
+ * values are computed in ascending order, each derived from its predecessor where that is cheaper.
+ * Matrix workloads are independent and run in parallel on the matrix kernel's pool. Because the
+ * prime and Fibonacci phases are shared, their per-item stage timings are that phase's time divided
+ * evenly across the distinct values.</p>
+ */
+@Service
+public class BatchComputationService {
+
+    private final PrimeSieveService primeSieveService;
+    private final FibonacciService fibonacciService;
+    private final SequenceService sequenceService;
+    private final MatrixKernelService matrixKernelService;
+    private final int maxBatchSize;
+
+    public BatchComputationService(PrimeSieveService primeSieveService,
+                                   FibonacciService fibonacciService,
+                                   SequenceService sequenceService,
+                                   MatrixKernelService matrixKernelService,
+                                   @Value("${compute.batch.max-size:1000}") int maxBatchSize) {
+        this.primeSieveService = primeSieveService;
+        this.fibonacciService = fibonacciService;
+        this.sequenceService = sequenceService;
+        this.matrixKernelService = matrixKernelService;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Runs the shared phases on the calling thread and returns one future per distinct n, in
+     * ascending order of n, each completing when that value's matrix workload finishes.
+     */
+    public Map<Integer, CompletableFuture<ComputationResult>> submit(List<Integer> values,
+                                                                    MatrixKernelService.Mode mode) {
+        int[] distinct = values.stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+        validate(values.size(), distinct);
+
+        long primesStart = System.nanoTime();
+        primeSieveService.countPrimes(distinct[distinct.length - 1]);
+        int[] primeCounts = new int[distinct.length];
+        for (int i = 0; i < distinct.length; i++) {
+            primeCounts[i] = primeSieveService.countPrimes(distinct[i]);
+        }
+        long fibonacciStart = System.nanoTime();
+        Number[] fibonacci = fibonacciService.fibonacciAscending(distinct, CancellationToken.NONE);
+        long fibonacciEnd = System.nanoTime();
+
+        double primesShareMs = (fibonacciStart - primesStart) / 1_000_000.0 / distinct.length;
+        double fibonacciShareMs = (fibonacciEnd - fibonacciStart) / 1_000_000.0 / distinct.length;
+
+        Map<Integer, CompletableFuture<ComputationResult>> results = new LinkedHashMap<>();
+        for (int i = 0; i < distinct.length; i++) {
+            int n = distinct[i];
+            int primeCount = primeCounts[i];
+            Number fib = fibonacci[i];
+            long concatenationStart = System.nanoTime();
+            long concatenatedLength = sequenceService.sequenceLength(n);
+            double concatenationMs = (System.nanoTime() - concatenationStart) / 1_000_000.0;
+
+            results.put(n, matrixKernelService.supplyAsync(() -> {
+                long matrixStart = System.nanoTime();
+                int matrixValue = matrixKernelService.workloadCorner(n, mode);
+                double matrixMs = (System.nanoTime() - matrixStart) / 1_000_000.0;
+                return ComputationResult.builder()
+                        .n(n)
+                        .primeCount(primeCount)
+                        .fibonacci(fib)
+                        .concatenatedLength(concatenatedLength)
+                        .matrixValue(matrixValue)
+                        .computationTimeMs(Math.round(primesShareMs + fibonacciShareMs + concatenationMs + matrixMs))
+                        .stageTimings(ComputationResult.StageTimings.builder()
+                                .primesMs(primesShareMs)
+                                .fibonacciMs(fibonacciShareMs)
+                                .concatenationMs(concatenationMs)
+                                .matrixMs(matrixMs)
+                                .build())
+                        .build();
+            }));
+        }
+        return results;
+    }
+
+    /**
+     * Computes every value and returns the results in request order, duplicates included.
+     */
+    public BatchComputationResponse compute(List<Integer> values, MatrixKernelService.Mode mode) {
+        long startTime = System.nanoTime();
+        Map<Integer, CompletableFuture<ComputationResult>> futures = submit(values, mode);
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture<?>[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        List<ComputationResult> results = values.stream()
+                .map(n -> futures.get(n).join())
+                .toList();
+        return BatchComputationResponse.builder()
+                .count(results.size())
+                .distinctCount(futures.size())
+                .results(results)
+                .computationTimeMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                .build();
+    }
+
+    private void validate(int size, int[] distinct) {
+        if (size == 0 || size > maxBatchSize) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + maxBatchSize + ": " + size);
+        }
+        int min = distinct[0];
+        int max = distinct[distinct.length - 1];
+        if (min < 1 || max > matrixKernelService.getMaxDimension()) {
+            throw new IllegalArgumentException("Values of n must be between 1 and "
+                    + matrixKernelService.getMaxDimension() + ": " + (min < 1 ? min : max));
+        }
+    }
+}
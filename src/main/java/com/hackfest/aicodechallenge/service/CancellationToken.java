@@ -0,0 +1,52 @@
+package com.hackfest.aicodechallenge.service;
+
+/**
+ * Cooperative cancellation and deadline signal checked by long-running compute stages.
+ *
+ * <p>Stages call {@link #checkpoint()} between units of work (sieve segments, doubling steps, matrix
+ * tiles); it throws {@link ComputationCancelledException} once the token has been cancelled, the
+ * deadline has passed or the running thread has been interrupted. Checking is a volatile read and a
+ * {@link System#nanoTime()} call, cheap enough for inner loops at tile granularity.</p>
+ */
+public final class CancellationToken {
+
+    /** Token that is never cancelled and has no deadline. */
+    public static final CancellationToken NONE = new CancellationToken(Long.MAX_VALUE);
+
+    private final long deadlineNanos;
+    private volatile boolean cancelled;
+
+    private CancellationToken(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static CancellationToken withTimeoutMillis(long timeoutMs) {
+        return new CancellationToken(System.nanoTime() + timeoutMs * 1_000_000L);
+    }
+
+    public void cancel() {
+        if (this != NONE) {
+            cancelled = true;
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos != Long.MAX_VALUE && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    public void checkpoint() {
+        if (this == NONE) {
+            return;
+        }
+        if (cancelled || Thread.currentThread().isInterrupted()) {
+            throw new ComputationCancelledException(false);
+        }
+        if (isExpired()) {
+            throw new ComputationCancelledException(true);
+        }
+    }
+}
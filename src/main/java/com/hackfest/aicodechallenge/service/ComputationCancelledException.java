@@ -0,0 +1,18 @@
+package com.hackfest.aicodechallenge.service;
+
+/**
+ * Thrown from a {@link CancellationToken} checkpoint when a computation must stop early.
+ */
+public class ComputationCancelledException extends RuntimeException {
+
+    private final boolean deadlineExceeded;
+
+    public ComputationCancelledException(boolean deadlineExceeded) {
+        super(deadlineExceeded ? "Computation deadline exceeded" : "Computation cancelled");
+        this.deadlineExceeded = deadlineExceeded;
+    }
+
+    public boolean isDeadlineExceeded() {
+        return deadlineExceeded;
+    }
+}
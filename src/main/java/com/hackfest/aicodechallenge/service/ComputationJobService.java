@@ -0,0 +1,193 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.model.dto.ComputationJobRequest;
+import com.hackfest.aicodechallenge.model.dto.ComputationJobResponse;
+import com.hackfest.aicodechallenge.model.dto.ComputationResult;
+import com.hackfest.aicodechallenge.model.entity.ComputationJob;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import com.hackfest.aicodechallenge.service.execution.ManagedExecutor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs compute requests as asynchronous jobs on the bounded {@code compute-jobs} executor so large n
+ * never pins a servlet thread.
+ *
+ * <p>Every job carries a {@link CancellationToken} whose deadline starts at submission, so time spent
+ * queued counts against the budget. Stages check the token cooperatively; cancelling a queued job
+ * removes it before it starts. Finished jobs are retained for {@code compute.jobs.retention-ms}.</p>
+ */
+@Slf4j
+@Service
+public class ComputationJobService {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ComputationService computationService;
+    private final ManagedExecutor executor;
+    private final Map<String, ComputationJob> jobs = new ConcurrentHashMap<>();
+    private final long defaultTimeoutMs;
+    private final long maxTimeoutMs;
+    private final long maxWaitMs;
+    private final long retentionMs;
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+
+    public ComputationJobService(ComputationService computationService,
+                                 ExecutorRegistry executorRegistry,
+                                 @Value("${compute.jobs.threads:4}") int threads,
+                                 @Value("${compute.jobs.queue-capacity:100}") int queueCapacity,
+                                 @Value("${compute.jobs.default-timeout-ms:30000}") long defaultTimeoutMs,
+                                 @Value("${compute.jobs.max-timeout-ms:300000}") long maxTimeoutMs,
+                                 @Value("${compute.jobs.max-wait-ms:25000}") long maxWaitMs,
+                                 @Value("${compute.jobs.retention-ms:600000}") long retentionMs) {
+        this.computationService = computationService;
+        this.defaultTimeoutMs = defaultTimeoutMs;
+        this.maxTimeoutMs = maxTimeoutMs;
+        this.maxWaitMs = maxWaitMs;
+        this.retentionMs = retentionMs;
+        this.executor = executorRegistry.create("compute-jobs", threads, queueCapacity);
+    }
+
+    /**
+     * Queues a job.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the job queue is full
+     */
+    public ComputationJobResponse submit(ComputationJobRequest request) {
+        MatrixKernelService.Mode mode = request.getMode() == null
+                ? MatrixKernelService.Mode.AUTO
+                : MatrixKernelService.Mode.from(request.getMode());
+        long timeoutMs = request.getTimeoutMs() == null ? defaultTimeoutMs : request.getTimeoutMs();
+        if (timeoutMs <= 0 || timeoutMs > maxTimeoutMs) {
+            throw new IllegalArgumentException("Timeout must be between 1 and " + maxTimeoutMs + " ms: " + timeoutMs);
+        }
+        sweepExpired();
+
+        ComputationJob job = new ComputationJob(request.getN(), mode.name(), timeoutMs);
+        jobs.put(job.getId(), job);
+        try {
+            job.setExecution(executor.submit(() -> run(job, mode)));
+        } catch (RuntimeException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        log.debug("Queued computation job {} for n={}", job.getId(), job.getN());
+        return mapToResponse(job);
+    }
+
+    public ComputationJobResponse getJob(String jobId) {
+        return mapToResponse(findJob(jobId));
+    }
+
+    /**
+     * Completes with the job once it finishes, or with its current state after {@code waitMs}.
+     */
+    public CompletableFuture<ComputationJobResponse> awaitJob(String jobId, long waitMs) {
+        ComputationJob job = findJob(jobId);
+        long boundedWait = Math.max(0, Math.min(waitMs, maxWaitMs));
+        return job.getCompletion().copy()
+                .completeOnTimeout(job, boundedWait, TimeUnit.MILLISECONDS)
+                .thenApply(this::mapToResponse);
+    }
+
+    public ComputationJobResponse cancel(String jobId) {
+        ComputationJob job = findJob(jobId);
+        job.getToken().cancel();
+        Future<?> execution = job.getExecution();
+        // A queued job never reaches a checkpoint, so finish it here; running jobs stop at their next one
+        if ("QUEUED".equals(job.getStatus()) && execution != null && execution.cancel(false)) {
+            finish(job, "CANCELLED", null, "Computation cancelled");
+        }
+        return mapToResponse(job);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueueDepth();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ComputationJob job, MatrixKernelService.Mode mode) {
+        if (job.isTerminal()) {
+            return;
+        }
+        if (job.getToken().isExpired()) {
+            finish(job, "TIMED_OUT", null, "Deadline exceeded while queued");
+            return;
+        }
+        job.setStatus("RUNNING");
+        job.setStartedAt(LocalDateTime.now());
+        try {
+            ComputationResult result = computationService.compute(job.getN(), mode, job.getToken());
+            finish(job, "COMPLETED", result, null);
+        } catch (ComputationCancelledException e) {
+            finish(job, e.isDeadlineExceeded() ? "TIMED_OUT" : "CANCELLED", null, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Computation job {} failed: {}", job.getId(), e.getMessage());
+            finish(job, "FAILED", null, e.getMessage());
+        }
+    }
+
+    private void finish(ComputationJob job, String status, ComputationResult result, String error) {
+        synchronized (job) {
+            if (job.isTerminal()) {
+                return;
+            }
+            job.setResult(result);
+            job.setError(error);
+            job.setCompletedAt(LocalDateTime.now());
+            job.setStatus(status);
+            job.getCompletion().complete(job);
+        }
+    }
+
+    private ComputationJob findJob(String jobId) {
+        ComputationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("Job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void sweepExpired() {
+        long now = System.nanoTime();
+        long last = lastSweepNanos.get();
+        if (now - last < SWEEP_INTERVAL_NANOS || !lastSweepNanos.compareAndSet(last, now)) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMs * 1_000_000L);
+        jobs.values().removeIf(job -> job.isTerminal() && job.getCompletedAt().isBefore(cutoff));
+    }
+
+    private ComputationJobResponse mapToResponse(ComputationJob job) {
+        return ComputationJobResponse.builder()
+                .jobId(job.getId())
+                .n(job.getN())
+                .mode(job.getMode())
+                .status(job.getStatus())
+                .timeoutMs(job.getTimeoutMs())
+                .submittedAt(job.getSubmittedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .result(job.getResult())
+                .error(job.getError())
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.hackfest.aicodechallenge.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer timers for each stage of the compute workload, published as {@code compute.stage}
+ * with {@code stage} and {@code n_bucket} tags and percentile histograms for p99 alerting.
+ *
+ * <p>n is bucketed by order of magnitude so the tag set stays bounded; all timers are registered
+ * up front and looked up by array index on the hot path.</p>
+ */
+@Component
+public class ComputationMetrics {
+
+    public enum Stage {
+        PRIMES, FIBONACCI, CONCATENATION, MATRIX, TOTAL
+    }
+
+    static final String[] N_BUCKETS = {"0-9", "10-99", "100-999", "1000-9999", "10000+"};
+
+    private final Timer[][] timers = new Timer[Stage.values().length][N_BUCKETS.length];
+
+    public ComputationMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            for (int bucket = 0; bucket < N_BUCKETS.length; bucket++) {
+                timers[stage.ordinal()][bucket] = Timer.builder("compute.stage")
+                        .description("Time spent in each stage of the compute workload")
+                        .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                        .tag("n_bucket", N_BUCKETS[bucket])
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(1_000))
+                        .maximumExpectedValue(Duration.ofSeconds(60))
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    public void record(Stage stage, int n, long nanos) {
+        timers[stage.ordinal()][bucketIndex(n)].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    static int bucketIndex(int n) {
+        if (n < 10) {
+            return 0;
+        }
+        if (n < 100) {
+            return 1;
+        }
+        if (n < 1_000) {
+            return 2;
+        }
+        return n < 10_000 ? 3 : 4;
+    }
+}
@@ -0,0 +1,111 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hackfest.aicodechallenge.model.dto.ComputationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of {@link ComputationResult}s keyed by n and matrix mode, with single-flight
+ * de-duplication. The mode is part of the key so kernels can still be compared side by side.
+ *
+ * <p>Entries are evicted by Caffeine's W-TinyLFU policy once their estimated footprint exceeds
+ * {@code compute.cache.max-weight-bytes}. Concurrent misses for the same n share one in-flight
+ * {@link CompletableFuture}: the first caller computes on its own thread, later callers wait on it.
+ * Failed computations are dropped from the cache so they are retried on the next request.</p>
+ */
+@Component
+public class ComputationResultCache {
+
+    /** Rough fixed footprint of a cached result: object headers, boxed fields and map entry. */
+    private static final int BASE_WEIGHT_BYTES = 128;
+
+    private final AsyncCache<Key, ComputationResult> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public ComputationResultCache(MeterRegistry meterRegistry,
+                                  @Value("${compute.cache.max-weight-bytes:67108864}") long maxWeightBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Key key, ComputationResult result) -> weigh(result))
+                .buildAsync();
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.coalesced = requests(meterRegistry, "coalesced");
+        Gauge.builder("compute.cache.size", cache, c -> c.synchronous().estimatedSize())
+                .description("Computation results currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached result for {@code (n, mode)}, joining an in-flight computation if one
+     * exists, or runs {@code computation} on the calling thread.
+     */
+    public ComputationResult get(int n, MatrixKernelService.Mode mode, Supplier<ComputationResult> computation) {
+        CompletableFuture<ComputationResult> mine = new CompletableFuture<>();
+        CompletableFuture<ComputationResult> existing = cache.asMap().putIfAbsent(new Key(n, mode), mine);
+        if (existing != null) {
+            (existing.isDone() ? hits : coalesced).increment();
+            return join(existing);
+        }
+        misses.increment();
+        try {
+            mine.complete(computation.get());
+        } catch (Throwable e) {
+            // Complete on errors too (e.g. StackOverflowError), or waiters would block forever
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        return join(mine);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    private record Key(int n, MatrixKernelService.Mode mode) {
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("compute.cache.requests")
+                .description("Computation cache lookups by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static int weigh(ComputationResult result) {
+        if (result.getFibonacci() instanceof BigInteger big) {
+            return BASE_WEIGHT_BYTES + big.bitLength() / 8;
+        }
+        return BASE_WEIGHT_BYTES;
+    }
+
+    private static ComputationResult join(CompletableFuture<ComputationResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
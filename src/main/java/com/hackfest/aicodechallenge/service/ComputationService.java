@@ -0,0 +1,78 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.model.dto.ComputationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the staged compute workload (primes, Fibonacci, concatenation, matrix) for a single n.
+ */
+@Service
+@RequiredArgsConstructor
+public class ComputationService {
+
+    private final PrimeSieveService primeSieveService;
+    private final FibonacciService fibonacciService;
+    private final SequenceService sequenceService;
+    private final MatrixKernelService matrixKernelService;
+    private final ComputationMetrics computationMetrics;
+
+    public ComputationResult compute(int n, MatrixKernelService.Mode matrixMode) {
+        return compute(n, matrixMode, CancellationToken.NONE);
+    }
+
+    /**
+     * Runs the workload, checking {@code token} between stages and inside each long-running stage.
+     *
+     * @throws ComputationCancelledException if the token is cancelled or its deadline passes
+     */
+    public ComputationResult compute(int n, MatrixKernelService.Mode matrixMode, CancellationToken token) {
+        long startTime = System.nanoTime();
+
+        // Prime count served from the cached sieve
+        int primeCount = primeSieveService.countPrimes(n, token);
+        long primesEnd = System.nanoTime();
+        token.checkpoint();
+
+        // Fibonacci by fast doubling; Long while it fits, BigInteger beyond F(92)
+        Number fib = fibonacciService.fibonacci(n, token);
+        long fibonacciEnd = System.nanoTime();
+        token.checkpoint();
+
+        // Length of "0,1,...,n-1," derived from digit counts; /sequence/{n} streams the text itself
+        long concatenatedLength = sequenceService.sequenceLength(n);
+        long concatenationEnd = System.nanoTime();
+        token.checkpoint();
+
+        // Matrix workload on the flat, tiled kernel selected by mode
+        int matrixValue = matrixKernelService.workloadCorner(n, matrixMode, token);
+        long matrixEnd = System.nanoTime();
+
+        computationMetrics.record(ComputationMetrics.Stage.PRIMES, n, primesEnd - startTime);
+        computationMetrics.record(ComputationMetrics.Stage.FIBONACCI, n, fibonacciEnd - primesEnd);
+        computationMetrics.record(ComputationMetrics.Stage.CONCATENATION, n, concatenationEnd - fibonacciEnd);
+        computationMetrics.record(ComputationMetrics.Stage.MATRIX, n, matrixEnd - concatenationEnd);
+        computationMetrics.record(ComputationMetrics.Stage.TOTAL, n, matrixEnd - startTime);
+
+        return ComputationResult.builder()
+                .n(n)
+                .primeCount(primeCount)
+                .fibonacci(fib)
+                .concatenatedLength(concatenatedLength)
+                .matrixValue(matrixValue)
+                .computationTimeMs(TimeUnit.NANOSECONDS.toMillis(matrixEnd - startTime))
+                .stageTimings(ComputationResult.StageTimings.builder()
+                        .primesMs(toMillis(primesEnd - startTime))
+                        .fibonacciMs(toMillis(fibonacciEnd - primesEnd))
+                        .concatenationMs(toMillis(concatenationEnd - fibonacciEnd))
+                        .matrixMs(toMillis(matrixEnd - concatenationEnd))
+                        .build())
+                .build();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
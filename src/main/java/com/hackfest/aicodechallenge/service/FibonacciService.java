@@ -0,0 +1,218 @@
+package com.hackfest.aicodechallenge.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fibonacci numbers by fast doubling, O(log n) multiplications per index.
+ *
+ * <p>Indices up to {@value #MAX_LONG_INDEX} are served from a precomputed {@code long} table. Larger
+ * indices are computed with {@link BigInteger} and the pair {@code (F(n), F(n+1))} is kept in a small
+ * LRU memo bounded by entry count and by total magnitude, so hot indices are not recomputed.</p>
+ */
+@Service
+public class FibonacciService {
+
+    /** F(92) is the largest Fibonacci number that fits in a signed {@code long}. */
+    public static final int MAX_LONG_INDEX = 92;
+
+    /** Gaps up to this size are bridged by repeated addition rather than multiplication. */
+    private static final int ADDITION_STEP_LIMIT = 64;
+
+    private static final long[] SMALL = new long[MAX_LONG_INDEX + 1];
+
+    static {
+        SMALL[1] = 1;
+        for (int i = 2; i <= MAX_LONG_INDEX; i++) {
+            SMALL[i] = SMALL[i - 1] + SMALL[i - 2];
+        }
+    }
+
+    private final int maxIndex;
+    private final int memoMaxEntries;
+    private final long memoMaxBits;
+
+    private final LinkedHashMap<Integer, BigInteger[]> memo = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoBits;
+
+    public FibonacciService(@Value("${compute.fibonacci.max-n:10000000}") int maxIndex,
+                            @Value("${compute.fibonacci.memo-max-entries:256}") int memoMaxEntries,
+                            @Value("${compute.fibonacci.memo-max-bytes:67108864}") long memoMaxBytes) {
+        this.maxIndex = maxIndex;
+        this.memoMaxEntries = memoMaxEntries;
+        this.memoMaxBits = memoMaxBytes * 8;
+    }
+
+    /**
+     * F(n) as a {@link Long} when it fits, otherwise as a {@link BigInteger}.
+     */
+    public Number fibonacci(int n) {
+        return fibonacci(n, CancellationToken.NONE);
+    }
+
+    /**
+     * F(n) as a {@link Long} when it fits, otherwise as a {@link BigInteger}, checking {@code token}
+     * between doubling steps.
+     */
+    public Number fibonacci(int n, CancellationToken token) {
+        validate(n);
+        if (n <= MAX_LONG_INDEX) {
+            return SMALL[n];
+        }
+        return pair(n, token)[0];
+    }
+
+    /**
+     * F(n) as a {@link BigInteger} regardless of magnitude.
+     */
+    public BigInteger fibonacciExact(int n) {
+        validate(n);
+        if (n <= MAX_LONG_INDEX) {
+            return BigInteger.valueOf(SMALL[n]);
+        }
+        return pair(n, CancellationToken.NONE)[0];
+    }
+
+    /**
+     * F(n) for each index of an ascending, duplicate-free array, deriving each value from the one
+     * before it where that is cheaper than computing it from scratch.
+     *
+     * <p>Close neighbours are reached by repeated addition. Otherwise, when the gap {@code d} is less
+     * than half the target index, the addition formula
+     * {@code F(k+d) = F(k)F(d-1) + F(k+1)F(d)} extends the previous pair using the much smaller
+     * pair for {@code d}; larger gaps fall back to fast doubling.</p>
+     */
+    public Number[] fibonacciAscending(int[] ascending, CancellationToken token) {
+        Number[] values = new Number[ascending.length];
+        BigInteger[] current = null;
+        int k = -1;
+        for (int i = 0; i < ascending.length; i++) {
+            int m = ascending[i];
+            validate(m);
+            if (i > 0 && m <= ascending[i - 1]) {
+                throw new IllegalArgumentException("Indices must be strictly ascending");
+            }
+            token.checkpoint();
+            if (m <= MAX_LONG_INDEX) {
+                values[i] = SMALL[m];
+                current = null;
+                k = m;
+                continue;
+            }
+            if (current == null && k >= 0) {
+                current = smallPair(k);
+            }
+            BigInteger[] cached;
+            synchronized (memo) {
+                cached = memo.get(m);
+            }
+            int d = m - k;
+            if (cached != null) {
+                current = cached;
+            } else if (current != null && d <= ADDITION_STEP_LIMIT) {
+                BigInteger a = current[0];
+                BigInteger b = current[1];
+                for (int step = 0; step < d; step++) {
+                    BigInteger next = a.add(b);
+                    a = b;
+                    b = next;
+                }
+                current = new BigInteger[]{a, b};
+                remember(m, current);
+            } else if (current != null && 2L * d < m) {
+                BigInteger[] gap = pair(d, token);
+                BigInteger gapPrevious = gap[1].subtract(gap[0]);
+                current = new BigInteger[]{
+                        current[0].multiply(gapPrevious).add(current[1].multiply(gap[0])),
+                        current[0].multiply(gap[0]).add(current[1].multiply(gap[1]))
+                };
+                remember(m, current);
+            } else {
+                current = pair(m, token);
+            }
+            values[i] = current[0];
+            k = m;
+        }
+        return values;
+    }
+
+    public int getMaxIndex() {
+        return maxIndex;
+    }
+
+    /**
+     * Returns {@code (F(n), F(n+1))}, consulting and populating the memo.
+     */
+    BigInteger[] pair(int n, CancellationToken token) {
+        BigInteger[] cached;
+        synchronized (memo) {
+            cached = memo.get(n);
+        }
+        if (cached != null) {
+            return cached;
+        }
+        BigInteger[] computed = fastDoubling(n, token);
+        remember(n, computed);
+        return computed;
+    }
+
+    private static BigInteger[] smallPair(int k) {
+        BigInteger next = k < MAX_LONG_INDEX
+                ? BigInteger.valueOf(SMALL[k + 1])
+                : BigInteger.valueOf(SMALL[k]).add(BigInteger.valueOf(SMALL[k - 1]));
+        return new BigInteger[]{BigInteger.valueOf(SMALL[k]), next};
+    }
+
+    private void validate(int n) {
+        if (n < 0 || n > maxIndex) {
+            throw new IllegalArgumentException("Fibonacci index must be between 0 and " + maxIndex + ": " + n);
+        }
+    }
+
+    private void remember(int n, BigInteger[] value) {
+        long bits = (long) value[0].bitLength() + value[1].bitLength();
+        if (bits > memoMaxBits) {
+            return;
+        }
+        synchronized (memo) {
+            BigInteger[] previous = memo.put(n, value);
+            if (previous != null) {
+                memoBits -= (long) previous[0].bitLength() + previous[1].bitLength();
+            }
+            memoBits += bits;
+            Iterator<Map.Entry<Integer, BigInteger[]>> eldest = memo.entrySet().iterator();
+            while ((memo.size() > memoMaxEntries || memoBits > memoMaxBits) && eldest.hasNext()) {
+                BigInteger[] evicted = eldest.next().getValue();
+                memoBits -= (long) evicted[0].bitLength() + evicted[1].bitLength();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Walks the bits of {@code n} from the most significant end using
+     * {@code F(2k) = F(k) * (2F(k+1) - F(k))} and {@code F(2k+1) = F(k)^2 + F(k+1)^2}.
+     */
+    private static BigInteger[] fastDoubling(int n, CancellationToken token) {
+        BigInteger a = BigInteger.ZERO; // F(k)
+        BigInteger b = BigInteger.ONE;  // F(k+1)
+        for (int bit = 31 - Integer.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            token.checkpoint();
+            BigInteger doubled = a.multiply(b.shiftLeft(1).subtract(a));
+            BigInteger doubledPlusOne = a.multiply(a).add(b.multiply(b));
+            if (((n >>> bit) & 1) == 0) {
+                a = doubled;
+                b = doubledPlusOne;
+            } else {
+                a = doubledPlusOne;
+                b = doubled.add(doubledPlusOne);
+            }
+        }
+        return new BigInteger[]{a, b};
+    }
+}
@@ -0,0 +1,229 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Integer matrix multiplication over flat, row-major {@code int[]} operands.
+ *
+ * <p>The tiled kernel walks the loops in i-k-j order so the innermost loop streams contiguous rows
+ * of {@code b} and {@code c}, and blocks k and j so the working set of a tile stays in L1/L2. The
+ * parallel kernel splits row blocks across a dedicated {@link ForkJoinPool}; small products fall
+ * back to the sequential kernel so they don't pay fork overhead. Arithmetic wraps like plain
+ * {@code int} arithmetic, so every mode produces identical results.</p>
+ */
+@Service
+public class MatrixKernelService {
+
+    /** Rows handed to a single fork/join leaf task. */
+    private static final int ROW_BLOCK = 32;
+
+    /** Inner-dimension tile: 256 rows of {@code b} at 256 ints each is 256 KiB, sized for L2. */
+    private static final int K_BLOCK = 256;
+
+    /** Column tile: 256 ints keeps one row slice of {@code b} and {@code c} within 2 KiB. */
+    private static final int J_BLOCK = 256;
+
+    /** Multiply-adds below which {@link Mode#AUTO} stays on the calling thread. */
+    private static final long PARALLEL_THRESHOLD = 1L << 21;
+
+    public enum Mode {
+        NAIVE, TILED, PARALLEL, AUTO;
+
+        public static Mode from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown matrix mode: " + value);
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final int maxDimension;
+
+    public MatrixKernelService(ExecutorRegistry executorRegistry,
+                               @Value("${compute.matrix.parallelism:0}") int parallelism,
+                               @Value("${compute.matrix.max-dimension:2048}") int maxDimension) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = executorRegistry.createForkJoinPool("matrix", threads);
+        this.maxDimension = maxDimension;
+    }
+
+    /**
+     * Runs the compute endpoint's matrix workload, {@code m[i][j] = Σk (i*k + j*k)} for an
+     * {@code n x n} result, and returns {@code m[n-1][n-1]}.
+     *
+     * <p>The workload is rank two, so it is expressed as the product of an {@code n x 2n} operand
+     * {@code [i | k]} and a {@code 2n x n} operand {@code [k ; j]}.</p>
+     */
+    public int workloadCorner(int n, Mode mode) {
+        return workloadCorner(n, mode, CancellationToken.NONE);
+    }
+
+    /**
+     * As {@link #workloadCorner(int, Mode)}, checking {@code token} once per row of every tile.
+     */
+    public int workloadCorner(int n, Mode mode, CancellationToken token) {
+        if (n < 1 || n > maxDimension) {
+            throw new IllegalArgumentException("Matrix dimension must be between 1 and " + maxDimension + ": " + n);
+        }
+        int inner = 2 * n;
+        int[] a = new int[n * inner];
+        int[] b = new int[inner * n];
+        for (int i = 0; i < n; i++) {
+            int row = i * inner;
+            for (int k = 0; k < n; k++) {
+                a[row + k] = i;
+                a[row + n + k] = k;
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            int upper = k * n;
+            int lower = (n + k) * n;
+            for (int j = 0; j < n; j++) {
+                b[upper + j] = k;
+                b[lower + j] = j;
+            }
+        }
+        int[] c = multiply(a, b, n, inner, n, mode, token);
+        return c[n * n - 1];
+    }
+
+    /**
+     * Runs {@code task} on the kernel's fork/join pool, so independent matrix workloads proceed in
+     * parallel while sharing the pool's workers with any row-block tasks they fork.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, pool);
+    }
+
+    /**
+     * Computes {@code a (rows x inner) * b (inner x cols)} and returns the {@code rows x cols} product.
+     */
+    public int[] multiply(int[] a, int[] b, int rows, int inner, int cols, Mode mode) {
+        return multiply(a, b, rows, inner, cols, mode, CancellationToken.NONE);
+    }
+
+    public int[] multiply(int[] a, int[] b, int rows, int inner, int cols, Mode mode, CancellationToken token) {
+        if (a.length != rows * inner || b.length != inner * cols) {
+            throw new IllegalArgumentException("Operand sizes do not match dimensions");
+        }
+        int[] c = new int[rows * cols];
+        switch (resolve(mode, rows, inner, cols)) {
+            case NAIVE -> multiplyNaive(a, b, c, rows, inner, cols, token);
+            case PARALLEL -> pool.invoke(new RowBlockTask(a, b, c, 0, rows, inner, cols, token));
+            default -> multiplyTiled(a, b, c, 0, rows, inner, cols, token);
+        }
+        return c;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private Mode resolve(Mode mode, int rows, int inner, int cols) {
+        if (mode != Mode.AUTO) {
+            return mode;
+        }
+        long work = (long) rows * inner * cols;
+        return work >= PARALLEL_THRESHOLD && rows > ROW_BLOCK && pool.getParallelism() > 1
+                ? Mode.PARALLEL
+                : Mode.TILED;
+    }
+
+    private static void multiplyNaive(int[] a, int[] b, int[] c, int rows, int inner, int cols,
+                                      CancellationToken token) {
+        for (int i = 0; i < rows; i++) {
+            token.checkpoint();
+            for (int j = 0; j < cols; j++) {
+                int sum = 0;
+                for (int k = 0; k < inner; k++) {
+                    sum += a[i * inner + k] * b[k * cols + j];
+                }
+                c[i * cols + j] = sum;
+            }
+        }
+    }
+
+    private static void multiplyTiled(int[] a, int[] b, int[] c, int rowFrom, int rowTo, int inner, int cols,
+                                      CancellationToken token) {
+        for (int kk = 0; kk < inner; kk += K_BLOCK) {
+            int kEnd = Math.min(kk + K_BLOCK, inner);
+            for (int jj = 0; jj < cols; jj += J_BLOCK) {
+                int jEnd = Math.min(jj + J_BLOCK, cols);
+                for (int i = rowFrom; i < rowTo; i++) {
+                    token.checkpoint();
+                    int aRow = i * inner;
+                    int cRow = i * cols;
+                    for (int k = kk; k < kEnd; k++) {
+                        int aik = a[aRow + k];
+                        if (aik == 0) {
+                            continue;
+                        }
+                        int bRow = k * cols;
+                        for (int j = jj; j < jEnd; j++) {
+                            c[cRow + j] += aik * b[bRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the row range in half until it fits in {@link #ROW_BLOCK}; leaves own disjoint rows of
+     * {@code c}, so no synchronization is needed.
+     */
+    private static final class RowBlockTask extends RecursiveAction {
+
+        private final int[] a;
+        private final int[] b;
+        private final int[] c;
+        private final int rowFrom;
+        private final int rowTo;
+        private final int inner;
+        private final int cols;
+        private final CancellationToken token;
+
+        RowBlockTask(int[] a, int[] b, int[] c, int rowFrom, int rowTo, int inner, int cols,
+                     CancellationToken token) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+            this.inner = inner;
+            this.cols = cols;
+            this.token = token;
+        }
+
+        @Override
+        protected void compute() {
+            if (rowTo - rowFrom <= ROW_BLOCK) {
+                multiplyTiled(a, b, c, rowFrom, rowTo, inner, cols, token);
+                return;
+            }
+            int mid = (rowFrom + rowTo) >>> 1;
+            invokeAll(new RowBlockTask(a, b, c, rowFrom, mid, inner, cols, token),
+                    new RowBlockTask(a, b, c, mid, rowTo, inner, cols, token));
+        }
+    }
+}
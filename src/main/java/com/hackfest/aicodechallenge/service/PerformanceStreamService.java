@@ -0,0 +1,247 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.PerformanceSnapshot;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes live interval metrics of running tests to Server-Sent Events subscribers.
+ *
+ * <p>Each published snapshot is serialized once and the same encoded event is handed to every
+ * subscriber of that test. Each subscriber has a small bounded queue drained by a shared sender
+ * pool, so the publisher never waits on a client socket; a subscriber whose queue is full has
+ * fallen behind and is disconnected rather than buffered for. The final result is held outside
+ * the queue and sent after the queued snapshots, so it always reaches subscribers still connected.</p>
+ */
+@Slf4j
+@Service
+public class PerformanceStreamService {
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int maxPendingEvents;
+    private final ExecutorService senders;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    public PerformanceStreamService(ObjectMapper objectMapper,
+                                    ExecutorRegistry executorRegistry,
+                                    @Value("${performance.stream.timeout-ms:3600000}") long timeoutMs,
+                                    @Value("${performance.stream.max-pending-events:16}") int maxPendingEvents,
+                                    @Value("${performance.stream.sender-threads:4}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.maxPendingEvents = maxPendingEvents;
+        // A subscriber has at most one drain task queued, so the subscriber count bounds the queue
+        this.senders = executorRegistry.create("stream-senders", senderThreads, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Opens a stream for a test that has not finished; snapshots flow once it is running.
+     */
+    public SseEmitter subscribe(String testId) {
+        return subscribe(testId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(String testId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        Channel channel = channels.computeIfAbsent(testId, id -> new Channel());
+        channel.subscribers.add(subscriber);
+        emitter.onCompletion(() -> channel.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            channel.subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> channel.subscribers.remove(subscriber));
+        return emitter;
+    }
+
+    /**
+     * Sends {@code result} as the only event and closes the stream, for tests that already finished.
+     */
+    public SseEmitter replay(Object result) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        try {
+            emitter.send(completeEvent(result));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * Sends {@code snapshot} to every current subscriber of its test.
+     */
+    public void publish(PerformanceSnapshot snapshot) {
+        Channel channel = channels.get(snapshot.getTestId());
+        if (channel == null || channel.subscribers.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> event;
+        try {
+            event = SseEmitter.event()
+                    .id(String.valueOf(snapshot.getSequence()))
+                    .name("snapshot")
+                    .data(objectMapper.writeValueAsString(snapshot), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode snapshot", e);
+        }
+        for (Subscriber subscriber : channel.subscribers) {
+            if (!subscriber.offer(event)) {
+                channel.subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Sends the final result to every subscriber of the test and closes their streams.
+     */
+    public void complete(String testId, Object result) {
+        Channel channel = channels.remove(testId);
+        if (channel == null) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> event;
+        try {
+            event = completeEvent(result);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to encode final result of test {}", testId, e);
+            channel.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+            return;
+        }
+        channel.subscribers.forEach(subscriber -> subscriber.finish(event));
+    }
+
+    /**
+     * Closes every stream of the test without a final event.
+     */
+    public void close(String testId) {
+        Channel channel = channels.remove(testId);
+        if (channel != null) {
+            channel.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        }
+    }
+
+    public int getSubscriberCount(String testId) {
+        Channel channel = channels.get(testId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.keySet().forEach(this::close);
+        senders.shutdownNow();
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> completeEvent(Object result) throws JsonProcessingException {
+        return SseEmitter.event()
+                .name("complete")
+                .data(objectMapper.writeValueAsString(result), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    /**
+     * Subscribers of one test.
+     */
+    private static final class Channel {
+
+        final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * One SSE connection with its bounded backlog of encoded events. At most one sender drains a
+     * subscriber at a time, so events are written in order.
+     */
+    private final class Subscriber {
+
+        final SseEmitter emitter;
+        final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> pending = new ArrayBlockingQueue<>(maxPendingEvents);
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile Set<ResponseBodyEmitter.DataWithMediaType> terminal;
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queues a snapshot; a full queue means the client is not keeping up and it is dropped.
+         *
+         * @return {@code false} if the subscriber was dropped or closed
+         */
+        boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (closed) {
+                return false;
+            }
+            if (!pending.offer(event)) {
+                closed = true;
+                log.info("Dropping slow stream subscriber after {} undelivered events", maxPendingEvents);
+                emitter.complete();
+                return false;
+            }
+            schedule();
+            return true;
+        }
+
+        /**
+         * Sends {@code event} after the queued snapshots and closes the stream. The final event does not
+         * count against the backlog, so a subscriber that is merely behind still gets the result.
+         */
+        void finish(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (closed) {
+                return;
+            }
+            terminal = event;
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> next;
+                while (!closed && (next = pending.poll()) != null) {
+                    emitter.send(next);
+                }
+                Set<ResponseBodyEmitter.DataWithMediaType> last = terminal;
+                if (!closed && last != null) {
+                    closed = true;
+                    emitter.send(last);
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the emitter's error callback unregisters it
+                closed = true;
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            if ((!pending.isEmpty() || terminal != null) && !closed) {
+                schedule();
+            }
+        }
+    }
+}
@@ -1,29 +1,87 @@
 package com.hackfest.aicodechallenge.service;
 
+import com.hackfest.aicodechallenge.model.dto.PerformanceTestPage;
 import com.hackfest.aicodechallenge.model.dto.PerformanceTestRequest;
 import com.hackfest.aicodechallenge.model.dto.PerformanceTestResponse;
+import com.hackfest.aicodechallenge.model.dto.TemplateMetrics;
+import com.hackfest.aicodechallenge.model.dto.TimeSeriesResponse;
 import com.hackfest.aicodechallenge.model.entity.PerformanceTest;
+import com.hackfest.aicodechallenge.repository.PerformanceTestRepository;
+import com.hackfest.aicodechallenge.service.load.DistributedLoadCoordinator;
+import com.hackfest.aicodechallenge.service.load.HttpLoadTargetFactory;
+import com.hackfest.aicodechallenge.service.load.LatencySnapshot;
+import com.hackfest.aicodechallenge.service.load.LoadGenerator;
+import com.hackfest.aicodechallenge.service.load.LoadPlan;
+import com.hackfest.aicodechallenge.service.load.LoadProfile;
+import com.hackfest.aicodechallenge.service.load.LoadRun;
+import com.hackfest.aicodechallenge.service.load.SimulatedLoadTarget;
+import com.hackfest.aicodechallenge.service.load.TemplateStats;
+import com.hackfest.aicodechallenge.service.timeseries.TestTimeSeries;
+import com.hackfest.aicodechallenge.service.timeseries.TimeSeriesService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class PerformanceTestService {
     
-    private final Map<String, PerformanceTest> testStorage = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(10);
-    private final Random random = new Random();
+    private static final int DEFAULT_CONCURRENCY = 100;
+    private static final int SIMULATED_JITTER_MS = 50;
+    private static final double SIMULATED_ERROR_RATE = 0.05;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final Set<String> STATUSES =
+            Set.of("PENDING", "QUEUED", "RUNNING", "COMPLETED", "FAILED", "CANCELLED");
+    
+    private final Map<String, LoadRun> loadRuns = new ConcurrentHashMap<>();
+    /** Runs of tests that are currently RUNNING, for cancellation. */
+    private final Map<String, LoadRun> activeRuns = new ConcurrentHashMap<>();
+    private final PerformanceTestRepository performanceTestRepository;
+    private final LoadGenerator loadGenerator;
+    private final HttpLoadTargetFactory httpLoadTargetFactory;
+    private final PerformanceStreamService performanceStreamService;
+    private final TestMetricsSampler testMetricsSampler;
+    private final TimeSeriesService timeSeriesService;
+    private final TestScheduler testScheduler;
+    private final DistributedLoadCoordinator distributedLoadCoordinator;
+    private final TestResultCache testResultCache;
+    
+    /**
+     * Tests that were running when the service last stopped cannot resume; record them as failed.
+     * Queued tests had not started yet, so they are queued again in their original order.
+     */
+    @PostConstruct
+    void recoverTests() {
+        List<PerformanceTest> queued = new ArrayList<>();
+        for (PerformanceTest test : performanceTestRepository.findAll()) {
+            if ("RUNNING".equals(test.getStatus())) {
+                log.warn("Marking test interrupted by restart as failed: {}", test.getId());
+                test.setStatus("FAILED");
+                test.setEndTime(LocalDateTime.now());
+                performanceTestRepository.save(test);
+            } else if ("QUEUED".equals(test.getStatus())) {
+                queued.add(test);
+            }
+        }
+        queued.sort(Comparator.comparing(PerformanceTest::getQueuedTime,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+        queued.forEach(this::enqueue);
+    }
     
     public PerformanceTestResponse createTest(PerformanceTestRequest request) {
         log.info("Creating performance test: {}", request.getTestName());
@@ -34,8 +92,29 @@ public class PerformanceTestService {
                 request.getLoadLevel(),
                 request.getDescription()
         );
+        test.setTargetUrl(httpLoadTargetFactory.resolve(request.getTargetUrl()).toString());
+        test.setHttpMethod(httpLoadTargetFactory.resolveMethod(request.getHttpMethod()));
+        test.setRequestBody(request.getRequestBody());
+        test.setConcurrency(request.getConcurrency() != null ? request.getConcurrency() : DEFAULT_CONCURRENCY);
+        test.setTenant(request.getTenant() == null || request.getTenant().isBlank()
+                ? TestScheduler.DEFAULT_TENANT : request.getTenant().trim());
+        test.setPriority(request.getPriority() != null ? request.getPriority() : 0);
+        if (request.getStages() != null && !request.getStages().isEmpty()) {
+            LoadProfile profile = LoadProfile.of(request.getStages());
+            test.setStages(profile.getStages());
+            test.setDurationSeconds(profile.getDurationSeconds());
+            test.setLoadLevel((int) Math.ceil(profile.getPeakRate()));
+        } else if (test.getDurationSeconds() == null || test.getLoadLevel() == null) {
+            throw new IllegalArgumentException("Duration and load level are required unless stages are given");
+        }
+        if (request.getScenario() != null && !request.getScenario().isEmpty()) {
+            httpLoadTargetFactory.createScenario(test.getTargetUrl(), request.getScenario(), loadGenerator.getTimer());
+            test.setScenario(request.getScenario());
+        }
+        totalRequests(test);
+        testScheduler.validate(test.getLoadLevel());
         
-        testStorage.put(test.getId(), test);
+        performanceTestRepository.save(test);
         
         return mapToResponse(test);
     }
@@ -43,23 +122,62 @@ public class PerformanceTestService {
     public PerformanceTestResponse startTest(String testId) {
         log.info("Starting performance test: {}", testId);
         
-        Optional<PerformanceTest> testOpt = Optional.ofNullable(testStorage.get(testId));
+        Optional<PerformanceTest> testOpt = performanceTestRepository.findById(testId);
         if (testOpt.isEmpty()) {
             throw new IllegalArgumentException("Test not found: " + testId);
         }
         
         PerformanceTest test = testOpt.get();
-        test.setStatus("RUNNING");
-        test.setStartTime(LocalDateTime.now());
-        
-        // Simulate async test execution
-        CompletableFuture.runAsync(() -> executeTest(test), executorService);
+        synchronized (test) {
+            if ("QUEUED".equals(test.getStatus()) || "RUNNING".equals(test.getStatus())) {
+                return mapToResponse(test);
+            }
+            testScheduler.validate(test.getLoadLevel());
+            test.setStatus("QUEUED");
+            test.setQueuedTime(LocalDateTime.now());
+            test.setStartTime(null);
+            test.setEndTime(null);
+            performanceTestRepository.save(test);
+            testResultCache.invalidate(testId);
+        }
+        // Outside the test's lock: admission may launch other tests, which take their own locks
+        enqueue(test);
         
         return mapToResponse(test);
     }
     
+    /**
+     * Stops a queued or running test. A queued test is cancelled at once; a running one stops
+     * sending and becomes CANCELLED once its outstanding requests complete, keeping the metrics
+     * gathered so far. Finished tests are returned unchanged.
+     */
+    public PerformanceTestResponse cancelTest(String testId) {
+        PerformanceTest test = performanceTestRepository.findById(testId)
+                .orElseThrow(() -> new IllegalArgumentException("Test not found: " + testId));
+        boolean wasQueued = false;
+        synchronized (test) {
+            if ("QUEUED".equals(test.getStatus())) {
+                wasQueued = true;
+                test.setStatus("CANCELLED");
+                test.setEndTime(LocalDateTime.now());
+                performanceTestRepository.save(test);
+                performanceStreamService.complete(testId, mapToResponse(test));
+            } else if ("RUNNING".equals(test.getStatus())) {
+                LoadRun run = activeRuns.get(testId);
+                if (run != null) {
+                    loadGenerator.cancel(run);
+                }
+            }
+        }
+        if (wasQueued) {
+            testScheduler.dequeue(testId);
+        }
+        log.info("Cancellation requested for test: {}", testId);
+        return mapToResponse(test);
+    }
+    
     public PerformanceTestResponse getTestResult(String testId) {
-        Optional<PerformanceTest> testOpt = Optional.ofNullable(testStorage.get(testId));
+        Optional<PerformanceTest> testOpt = performanceTestRepository.findById(testId);
         if (testOpt.isEmpty()) {
             throw new IllegalArgumentException("Test not found: " + testId);
         }
@@ -67,133 +185,374 @@ public class PerformanceTestService {
         return mapToResponse(testOpt.get());
     }
     
-    public List<PerformanceTestResponse> getAllTests() {
-        return testStorage.values().stream()
-                .map(this::mapToResponse)
-                .toList();
+    /**
+     * The encoded response of a finished test, from {@link TestResultCache}; empty while the test
+     * can still change, in which case callers build the response with {@link #getTestResult}.
+     */
+    public Optional<TestResultCache.Representation> getCachedResult(String testId, TestResultCache.Format format) {
+        PerformanceTest test = performanceTestRepository.findById(testId)
+                .orElseThrow(() -> new IllegalArgumentException("Test not found: " + testId));
+        // Under the test's lock, so a restart or delete cannot slip between the check and the fill
+        synchronized (test) {
+            if (!performanceTestRepository.existsById(testId)) {
+                throw new IllegalArgumentException("Test not found: " + testId);
+            }
+            if (!isTerminal(test.getStatus())) {
+                return Optional.empty();
+            }
+            return Optional.of(testResultCache.get(testId, format, () -> mapToResponse(test)));
+        }
+    }
+    
+    /**
+     * Up to {@code limit} tests in creation order, optionally only those with {@code status} or
+     * created in [{@code from}, {@code to}), resuming after {@code cursor} if one is given.
+     *
+     * @throws IllegalArgumentException if the status, range, cursor or limit is invalid
+     */
+    public PerformanceTestPage getTests(String status, LocalDateTime from, LocalDateTime to, String cursor,
+                                        int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        PerformanceTestRepository.Key after = cursor == null || cursor.isBlank()
+                ? null : PerformanceTestRepository.Key.fromCursor(cursor);
+        Iterator<Map.Entry<PerformanceTestRepository.Key, PerformanceTest>> entries =
+                find(status, from, to, after).iterator();
+        List<PerformanceTestResponse> tests = new ArrayList<>(limit);
+        PerformanceTestRepository.Key last = null;
+        while (tests.size() < limit && entries.hasNext()) {
+            Map.Entry<PerformanceTestRepository.Key, PerformanceTest> entry = entries.next();
+            tests.add(mapToResponse(entry.getValue()));
+            last = entry.getKey();
+        }
+        return PerformanceTestPage.builder()
+                .tests(tests)
+                .nextCursor(entries.hasNext() ? last.toCursor() : null)
+                .build();
+    }
+    
+    /**
+     * All tests matching the filters in creation order, mapped one at a time as the stream is
+     * consumed so a full listing is never held in memory.
+     *
+     * @throws IllegalArgumentException if the status or range is invalid
+     */
+    public Stream<PerformanceTestResponse> streamTests(String status, LocalDateTime from, LocalDateTime to) {
+        return find(status, from, to, null).map(entry -> mapToResponse(entry.getValue()));
+    }
+    
+    private Stream<Map.Entry<PerformanceTestRepository.Key, PerformanceTest>> find(
+            String status, LocalDateTime from, LocalDateTime to, PerformanceTestRepository.Key after) {
+        String normalized = null;
+        if (status != null && !status.isBlank()) {
+            normalized = status.trim().toUpperCase(Locale.ROOT);
+            if (!STATUSES.contains(normalized)) {
+                throw new IllegalArgumentException("Unknown status: " + status);
+            }
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        return performanceTestRepository.find(normalized, from, to, after);
     }
     
     public void deleteTest(String testId) {
         log.info("Deleting performance test: {}", testId);
-        if (!testStorage.containsKey(testId)) {
+        PerformanceTest test = performanceTestRepository.findById(testId)
+                .orElseThrow(() -> new IllegalArgumentException("Test not found: " + testId));
+        synchronized (test) {
+            if (!performanceTestRepository.deleteById(testId)) {
+                throw new IllegalArgumentException("Test not found: " + testId);
+            }
+            testResultCache.invalidate(testId);
+        }
+        // A deleted test must not keep its place in the queue or its share of the budget
+        testScheduler.dequeue(testId);
+        LoadRun run = activeRuns.get(testId);
+        if (run != null) {
+            loadGenerator.cancel(run);
+        }
+        performanceStreamService.close(testId);
+        timeSeriesService.remove(testId);
+    }
+    
+    /**
+     * Returns the test's metrics between {@code from} and {@code to} (epoch seconds, both optional)
+     * at {@code resolution}, or the finest resolution still covering the range when it is
+     * {@code null}. A test that never ran has an empty series.
+     */
+    public TimeSeriesResponse getTimeSeries(String testId, Long from, Long to, TestTimeSeries.Resolution resolution) {
+        if (!performanceTestRepository.existsById(testId)) {
             throw new IllegalArgumentException("Test not found: " + testId);
         }
-        testStorage.remove(testId);
+        return timeSeriesService.find(testId)
+                .orElseGet(() -> new TestTimeSeries(testId, 1, 1, 1))
+                .query(from, to, resolution);
     }
     
+    /**
+     * Streams per-interval metrics of a test until it finishes, then its final result. A test that
+     * already finished gets just the final result.
+     */
+    public SseEmitter streamTest(String testId) {
+        PerformanceTest test = performanceTestRepository.findById(testId)
+                .orElseThrow(() -> new IllegalArgumentException("Test not found: " + testId));
+        synchronized (test) {
+            if (isTerminal(test.getStatus())) {
+                return performanceStreamService.replay(mapToResponse(test));
+            }
+            return performanceStreamService.subscribe(testId);
+        }
+    }
+    
+    /**
+     * Runs a load simulation to completion and returns its final metrics.
+     */
     public PerformanceTestResponse simulateLoad(int requests, int delayMs) {
+        LoadRun run = startLoadRun(requests, delayMs, null, null);
+        return mapToResponse(run.getCompletion().join());
+    }
+    
+    /**
+     * Starts an open-loop load simulation in the background; poll it with {@link #getLoadSimulation}.
+     *
+     * @param concurrency   maximum outstanding requests, defaults to {@value #DEFAULT_CONCURRENCY}
+     * @param ratePerSecond arrival rate; defaults to what {@code concurrency} sustains at the mean
+     *                      simulated latency
+     */
+    public PerformanceTestResponse startLoadSimulation(int requests, int delayMs, Integer concurrency,
+                                                       Double ratePerSecond) {
+        return mapToResponse(startLoadRun(requests, delayMs, concurrency, ratePerSecond));
+    }
+    
+    public PerformanceTestResponse getLoadSimulation(String runId) {
+        LoadRun run = loadRuns.get(runId);
+        if (run == null) {
+            throw new IllegalArgumentException("Load simulation not found: " + runId);
+        }
+        return mapToResponse(run);
+    }
+    
+    private LoadRun startLoadRun(int requests, int delayMs, Integer concurrency, Double ratePerSecond) {
         log.info("Simulating load with {} requests and {}ms delay", requests, delayMs);
         
-        long startTime = System.currentTimeMillis();
-        int successCount = 0;
-        int errorCount = 0;
-        double totalResponseTime = 0;
-        double minResponseTime = Double.MAX_VALUE;
-        double maxResponseTime = 0;
+        int slots = concurrency != null ? concurrency : DEFAULT_CONCURRENCY;
+        double rate = ratePerSecond != null
+                ? ratePerSecond
+                : slots * 1000.0 / (delayMs + SIMULATED_JITTER_MS / 2.0);
+        LoadPlan plan = LoadPlan.builder()
+                .totalRequests(requests)
+                .concurrency(slots)
+                .ratePerSecond(rate)
+                .build();
+        SimulatedLoadTarget target = new SimulatedLoadTarget(
+                loadGenerator.getTimer(), delayMs, SIMULATED_JITTER_MS, SIMULATED_ERROR_RATE);
         
-        for (int i = 0; i < requests; i++) {
-            long requestStart = System.currentTimeMillis();
-            
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
+        loadRuns.values().removeIf(run -> run.isFinished() && run.getCompletedAt().isBefore(cutoff));
+        
+        LoadRun run = loadGenerator.start(plan, target);
+        loadRuns.put(run.getId(), run);
+        return run;
+    }
+    
+    private void enqueue(PerformanceTest test) {
+        testScheduler.submit(test.getId(), test.getTenant(), test.getPriority(), test.getLoadLevel(), this::launch);
+    }
+    
+    /**
+     * Starts a test the scheduler admitted, unless it was cancelled or deleted while queued.
+     */
+    private boolean launch(TestScheduler.Ticket ticket) {
+        PerformanceTest test = performanceTestRepository.findById(ticket.testId()).orElse(null);
+        if (test == null) {
+            return false;
+        }
+        LoadRun run;
+        synchronized (test) {
+            // Re-checked under the lock: a delete between the lookup and here has already given up
+            // on dequeuing the test and looking for its run
+            if (!"QUEUED".equals(test.getStatus()) || !performanceTestRepository.existsById(ticket.testId())) {
+                return false;
+            }
+            test.setStatus("RUNNING");
+            test.setStartTime(LocalDateTime.now());
             try {
-                // Simulate processing time
-                Thread.sleep(delayMs + random.nextInt(50));
-                
-                // Simulate occasional errors (5% failure rate)
-                if (random.nextDouble() < 0.05) {
-                    errorCount++;
-                } else {
-                    successCount++;
-                }
-                
-                long responseTime = System.currentTimeMillis() - requestStart;
-                totalResponseTime += responseTime;
-                minResponseTime = Math.min(minResponseTime, responseTime);
-                maxResponseTime = Math.max(maxResponseTime, responseTime);
-                
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                errorCount++;
+                run = executeTest(test);
+            } catch (RuntimeException e) {
+                log.error("Failed to start test {}", test.getId(), e);
+                test.setStatus("FAILED");
+                test.setEndTime(LocalDateTime.now());
+                performanceTestRepository.save(test);
+                performanceStreamService.complete(test.getId(), mapToResponse(test));
+                return false;
             }
+            performanceTestRepository.save(test);
         }
+        // Registered outside the lock: the callback releases capacity, which may launch other tests
+        run.getCompletion().whenComplete((finished, error) -> finishTest(test, run, ticket, error));
+        return true;
+    }
+    
+    /**
+     * Offers the test's load profile, or {@code loadLevel} requests per second for
+     * {@code durationSeconds}, to its target, split across the configured load workers if there are
+     * any. Scenarios always run on this instance.
+     */
+    private LoadRun executeTest(PerformanceTest test) {
+        log.info("Executing test: {} against {} {}", test.getTestName(), test.getHttpMethod(), test.getTargetUrl());
         
-        long totalTime = System.currentTimeMillis() - startTime;
-        double throughput = (double) requests / (totalTime / 1000.0);
-        double avgResponseTime = totalResponseTime / requests;
-        double errorRate = (double) errorCount / requests * 100;
-        
-        PerformanceTestResponse.PerformanceMetrics metrics = PerformanceTestResponse.PerformanceMetrics.builder()
-                .averageResponseTime(avgResponseTime)
-                .maxResponseTime(maxResponseTime)
-                .minResponseTime(minResponseTime == Double.MAX_VALUE ? 0 : minResponseTime)
-                .totalRequests(requests)
-                .successfulRequests(successCount)
-                .failedRequests(errorCount)
-                .throughput(throughput)
-                .errorRate(errorRate)
-                .build();
-        
-        return PerformanceTestResponse.builder()
-                .testId("load-simulation-" + System.currentTimeMillis())
-                .testName("Load Simulation")
-                .status("COMPLETED")
-                .startTime(LocalDateTime.now().minusSeconds(totalTime / 1000))
-                .endTime(LocalDateTime.now())
-                .durationSeconds((int) (totalTime / 1000))
-                .loadLevel(requests)
-                .description("Simulated load test")
-                .metrics(metrics)
+        LoadProfile profile = test.getStages() != null ? LoadProfile.of(test.getStages()) : null;
+        LoadPlan plan = LoadPlan.builder()
+                .totalRequests(totalRequests(test))
+                .concurrency(test.getConcurrency())
+                .ratePerSecond(profile != null ? profile.getPeakRate() : test.getLoadLevel())
+                .profile(profile)
                 .build();
+        LoadRun run;
+        if (test.getScenario() != null) {
+            run = loadGenerator.start(plan, httpLoadTargetFactory.createScenario(
+                    test.getTargetUrl(), test.getScenario(), loadGenerator.getTimer()));
+        } else if (distributedLoadCoordinator.isEnabled()) {
+            run = distributedLoadCoordinator.start(plan, test.getTargetUrl(), test.getHttpMethod(), test.getRequestBody());
+        } else {
+            run = loadGenerator.start(plan, httpLoadTargetFactory.create(
+                    test.getTargetUrl(), test.getHttpMethod(), test.getRequestBody()));
+        }
+        activeRuns.put(test.getId(), run);
+        testMetricsSampler.attach(test.getId(), run);
+        return run;
     }
     
-    private void executeTest(PerformanceTest test) {
-        try {
-            log.info("Executing test: {}", test.getTestName());
-            
-            // Simulate test execution time
-            Thread.sleep(test.getDurationSeconds() * 1000L);
-            
-            // Generate mock performance metrics
-            generateMockMetrics(test);
-            
-            test.setStatus("COMPLETED");
-            test.setEndTime(LocalDateTime.now());
-            
-            log.info("Test completed: {}", test.getTestName());
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            test.setStatus("FAILED");
-            test.setEndTime(LocalDateTime.now());
-            log.error("Test interrupted: {}", test.getTestName(), e);
-        } catch (Exception e) {
-            test.setStatus("FAILED");
+    /**
+     * Records the outcome of a run on its test once the last response is in, then frees its capacity.
+     */
+    private void finishTest(PerformanceTest test, LoadRun run, TestScheduler.Ticket ticket, Throwable error) {
+        synchronized (test) {
+            testMetricsSampler.detach(test.getId());
+            applyRun(test, run);
+            test.setStatus(error == null ? run.getStatus() : "FAILED");
             test.setEndTime(LocalDateTime.now());
-            log.error("Test failed: {}", test.getTestName(), e);
+            if (performanceTestRepository.existsById(test.getId())) {
+                performanceTestRepository.save(test);
+            }
+            performanceStreamService.complete(test.getId(), mapToResponse(test));
         }
+        activeRuns.remove(test.getId(), run);
+        testScheduler.release(ticket);
+        log.info("Test {}: {}", test.getStatus().toLowerCase(), test.getTestName());
     }
     
-    private void generateMockMetrics(PerformanceTest test) {
-        // Generate realistic mock metrics based on load level
-        int baseRequests = test.getLoadLevel() * test.getDurationSeconds();
-        test.setTotalRequests(baseRequests);
-        
-        // Simulate 95% success rate
-        test.setSuccessfulRequests((int) (baseRequests * 0.95));
-        test.setFailedRequests(baseRequests - test.getSuccessfulRequests());
-        
-        // Generate response times (in milliseconds)
-        test.setAverageResponseTime(100.0 + random.nextDouble() * 200);
-        test.setMinResponseTime(50.0 + random.nextDouble() * 50);
-        test.setMaxResponseTime(test.getAverageResponseTime() + random.nextDouble() * 500);
-        
-        // Calculate throughput (requests per second)
-        test.setThroughput((double) baseRequests / test.getDurationSeconds());
+    private static boolean isTerminal(String status) {
+        return "COMPLETED".equals(status) || "FAILED".equals(status) || "CANCELLED".equals(status);
+    }
+    
+    private static int totalRequests(PerformanceTest test) {
+        if (test.getStages() != null) {
+            return LoadProfile.of(test.getStages()).getTotalRequests();
+        }
+        try {
+            return Math.multiplyExact(test.getLoadLevel(), test.getDurationSeconds());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Load level times duration exceeds " + Integer.MAX_VALUE + " requests");
+        }
+    }
+    
+    private static void applyRun(PerformanceTest test, LoadRun run) {
+        long completed = run.getCompletedRequests();
+        test.setTotalRequests((int) completed);
+        test.setSuccessfulRequests((int) run.getSuccesses().sum());
+        test.setFailedRequests((int) run.getFailures().sum());
+        test.setThroughput(run.getThroughput());
+        test.setErrorRate(completed == 0 ? 0 : run.getFailures().sum() * 100.0 / completed);
+        if (run.getWorkers() > 0) {
+            test.setWorkers(run.getWorkers());
+            test.setLostWorkers(run.getLostWorkers().get());
+        }
+        applyLatency(test, run.getLatency().snapshot());
+        LatencySnapshot scheduleLag = run.getScheduleLag().snapshot();
+        if (scheduleLag.getCount() > 0) {
+            test.setP99ScheduleLag(scheduleLag.getPercentileMillis(99));
+            test.setMaxScheduleLag(scheduleLag.getMaxMillis());
+        }
+        if (!run.getTemplates().isEmpty()) {
+            test.setTemplateMetrics(run.getTemplates().stream()
+                    .map(PerformanceTestService::templateMetrics)
+                    .toList());
+        }
+    }
+    
+    private static TemplateMetrics templateMetrics(TemplateStats stats) {
+        LatencySnapshot latency = stats.getLatency().snapshot();
+        long successes = stats.getSuccesses().sum();
+        long failures = stats.getFailures().sum();
+        long total = successes + failures;
+        return TemplateMetrics.builder()
+                .name(stats.getName())
+                .weight(stats.getWeight())
+                .totalRequests(total)
+                .successfulRequests(successes)
+                .failedRequests(failures)
+                .errorRate(total == 0 ? 0 : failures * 100.0 / total)
+                .averageResponseTime(latency.getMeanMillis())
+                .p50ResponseTime(latency.getPercentileMillis(50))
+                .p90ResponseTime(latency.getPercentileMillis(90))
+                .p99ResponseTime(latency.getPercentileMillis(99))
+                .maxResponseTime(latency.getMaxMillis())
+                .build();
+    }
+    
+    private static void applyLatency(PerformanceTest test, LatencySnapshot latency) {
+        test.setAverageResponseTime(latency.getMeanMillis());
+        test.setMinResponseTime(latency.getMinMillis());
+        test.setMaxResponseTime(latency.getMaxMillis());
+        test.setP50ResponseTime(latency.getPercentileMillis(50));
+        test.setP90ResponseTime(latency.getPercentileMillis(90));
+        test.setP99ResponseTime(latency.getPercentileMillis(99));
+        test.setP999ResponseTime(latency.getPercentileMillis(99.9));
+        test.setP9999ResponseTime(latency.getPercentileMillis(99.99));
+        test.setLatencyDistribution(latency.getDistribution());
+    }
+    
+    private PerformanceTestResponse mapToResponse(LoadRun run) {
+        long completed = run.getCompletedRequests();
+        LatencySnapshot latency = run.getLatency().snapshot();
+        LatencySnapshot scheduleLag = run.getScheduleLag().snapshot();
+        PerformanceTestResponse.PerformanceMetrics metrics = PerformanceTestResponse.PerformanceMetrics.builder()
+                .averageResponseTime(latency.getMeanMillis())
+                .maxResponseTime(latency.getMaxMillis())
+                .minResponseTime(latency.getMinMillis())
+                .p50ResponseTime(latency.getPercentileMillis(50))
+                .p90ResponseTime(latency.getPercentileMillis(90))
+                .p99ResponseTime(latency.getPercentileMillis(99))
+                .p999ResponseTime(latency.getPercentileMillis(99.9))
+                .p9999ResponseTime(latency.getPercentileMillis(99.99))
+                .latencyDistribution(latency.getDistribution())
+                .p99ScheduleLag(scheduleLag.getPercentileMillis(99))
+                .maxScheduleLag(scheduleLag.getMaxMillis())
+                .totalRequests((int) completed)
+                .successfulRequests((int) run.getSuccesses().sum())
+                .failedRequests((int) run.getFailures().sum())
+                .throughput(run.getThroughput())
+                .errorRate(completed == 0 ? 0 : run.getFailures().sum() * 100.0 / completed)
+                .build();
         
-        // Calculate error rate
-        test.setErrorRate((double) test.getFailedRequests() / test.getTotalRequests() * 100);
+        return PerformanceTestResponse.builder()
+                .testId(run.getId())
+                .testName("Load Simulation")
+                .status(run.getStatus())
+                .startTime(run.getStartedAt())
+                .endTime(run.getCompletedAt())
+                .durationSeconds((int) run.getElapsedSeconds())
+                .loadLevel(run.getPlan().getTotalRequests())
+                .description(String.format("Simulated open-loop load: %.1f req/s, concurrency %d",
+                        run.getPlan().getRatePerSecond(), run.getPlan().getConcurrency()))
+                .metrics(metrics)
+                .build();
     }
     
-    private PerformanceTestResponse mapToResponse(PerformanceTest test) {
+    PerformanceTestResponse mapToResponse(PerformanceTest test) {
         PerformanceTestResponse.PerformanceMetrics metrics = null;
         
         if (test.getTotalRequests() != null) {
@@ -201,11 +560,20 @@ public class PerformanceTestService {
                     .averageResponseTime(test.getAverageResponseTime())
                     .maxResponseTime(test.getMaxResponseTime())
                     .minResponseTime(test.getMinResponseTime())
+                    .p50ResponseTime(test.getP50ResponseTime())
+                    .p90ResponseTime(test.getP90ResponseTime())
+                    .p99ResponseTime(test.getP99ResponseTime())
+                    .p999ResponseTime(test.getP999ResponseTime())
+                    .p9999ResponseTime(test.getP9999ResponseTime())
+                    .latencyDistribution(test.getLatencyDistribution())
+                    .p99ScheduleLag(test.getP99ScheduleLag())
+                    .maxScheduleLag(test.getMaxScheduleLag())
                     .totalRequests(test.getTotalRequests())
                     .successfulRequests(test.getSuccessfulRequests())
                     .failedRequests(test.getFailedRequests())
                     .throughput(test.getThroughput())
                     .errorRate(test.getErrorRate())
+                    .templates(test.getTemplateMetrics())
                     .build();
         }
         
@@ -213,11 +581,22 @@ public class PerformanceTestService {
                 .testId(test.getId())
                 .testName(test.getTestName())
                 .status(test.getStatus())
+                .tenant(test.getTenant())
+                .priority(test.getPriority())
+                .createdTime(test.getCreatedTime())
+                .queuedTime(test.getQueuedTime())
                 .startTime(test.getStartTime())
                 .endTime(test.getEndTime())
                 .durationSeconds(test.getDurationSeconds())
                 .loadLevel(test.getLoadLevel())
+                .stages(test.getStages())
                 .description(test.getDescription())
+                .targetUrl(test.getTargetUrl())
+                .httpMethod(test.getHttpMethod())
+                .scenario(test.getScenario())
+                .concurrency(test.getConcurrency())
+                .workers(test.getWorkers())
+                .lostWorkers(test.getLostWorkers())
                 .metrics(metrics)
                 .build();
     }
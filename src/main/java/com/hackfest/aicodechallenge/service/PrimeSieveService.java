@@ -0,0 +1,263 @@
+package com.hackfest.aicodechallenge.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Prime engine backed by a cached, odd-only Sieve of Eratosthenes.
+ *
+ * <p>Bit {@code i} of the sieve stands for the odd number {@code 2i + 1} and is set when that number
+ * is composite. The sieve starts small and is extended segment by segment whenever a larger limit is
+ * requested, so repeated queries are answered from memory. Readers work on an immutable snapshot and
+ * never block; only growth is serialized.</p>
+ */
+@Slf4j
+@Service
+public class PrimeSieveService {
+
+    /** Numbers covered by one 64-bit word (odd numbers only). */
+    private static final int NUMBERS_PER_WORD = 128;
+
+    /** Words sieved per segment: 32 KiB of bits, sized to stay resident in L1/L2. */
+    private static final int SEGMENT_WORDS = 4096;
+
+    private static final int INITIAL_LIMIT = 1 << 16;
+
+    /**
+     * Largest supported limit: base primes for an extension come from the part already sieved, which
+     * covers at least 2^16, so the sieve may never cover more than (2^16)^2.
+     */
+    static final long MAX_SUPPORTED_LIMIT = (1L << 32) - NUMBERS_PER_WORD;
+
+    private final long maxLimit;
+    private final long maxRangeSpan;
+
+    private volatile Sieve sieve;
+
+    public PrimeSieveService(@Value("${compute.primes.max-limit:100000000}") long maxLimit,
+                             @Value("${compute.primes.max-range-span:1000000}") long maxRangeSpan) {
+        if (maxLimit < INITIAL_LIMIT) {
+            throw new IllegalArgumentException("compute.primes.max-limit must be at least " + INITIAL_LIMIT);
+        }
+        if (maxLimit > MAX_SUPPORTED_LIMIT) {
+            throw new IllegalArgumentException("compute.primes.max-limit must be at most " + MAX_SUPPORTED_LIMIT);
+        }
+        this.maxLimit = maxLimit;
+        this.maxRangeSpan = maxRangeSpan;
+        this.sieve = Sieve.initial(INITIAL_LIMIT);
+    }
+
+    /**
+     * Number of primes less than or equal to {@code n}.
+     */
+    public int countPrimes(long n) {
+        return countPrimes(n, CancellationToken.NONE);
+    }
+
+    /**
+     * Number of primes less than or equal to {@code n}, checking {@code token} between sieve segments
+     * if the sieve has to grow. A cancelled extension is discarded and leaves the cache unchanged.
+     */
+    public int countPrimes(long n, CancellationToken token) {
+        if (n < 2) {
+            return 0;
+        }
+        return ensureCapacity(n, token).countUpTo(n);
+    }
+
+    /**
+     * Number of primes in the closed range {@code [from, to]}.
+     */
+    public int countPrimes(long from, long to) {
+        validateRange(from, to);
+        if (to < 2) {
+            return 0;
+        }
+        Sieve current = ensureCapacity(to, CancellationToken.NONE);
+        return current.countUpTo(to) - (from <= 2 ? 0 : current.countUpTo(from - 1));
+    }
+
+    /**
+     * All primes in the closed range {@code [from, to]}, in ascending order. The span is capped by
+     * {@code compute.primes.max-range-span} to keep the materialized list bounded.
+     */
+    public List<Long> primesInRange(long from, long to) {
+        validateRange(from, to);
+        if (to - from > maxRangeSpan) {
+            throw new IllegalArgumentException("Range span exceeds maximum of " + maxRangeSpan + ": " + (to - from));
+        }
+        List<Long> primes = new ArrayList<>();
+        if (to < 2) {
+            return primes;
+        }
+        Sieve current = ensureCapacity(to, CancellationToken.NONE);
+        if (from <= 2) {
+            primes.add(2L);
+        }
+        long firstOdd = Math.max(3, from | 1);
+        for (long candidate = firstOdd; candidate <= to; candidate += 2) {
+            if (current.isOddPrime(candidate)) {
+                primes.add(candidate);
+            }
+        }
+        return primes;
+    }
+
+    public boolean isPrime(long n) {
+        if (n < 2) {
+            return false;
+        }
+        if (n == 2) {
+            return true;
+        }
+        return (n & 1) == 1 && ensureCapacity(n, CancellationToken.NONE).isOddPrime(n);
+    }
+
+    /**
+     * Largest number currently covered by the cached sieve.
+     */
+    public long getSievedLimit() {
+        return sieve.limit - 1;
+    }
+
+    public long getMaxLimit() {
+        return maxLimit;
+    }
+
+    private void validateRange(long from, long to) {
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException("Invalid range: from=" + from + ", to=" + to);
+        }
+    }
+
+    private Sieve ensureCapacity(long n, CancellationToken token) {
+        Sieve current = sieve;
+        if (n < current.limit) {
+            return current;
+        }
+        if (n > maxLimit) {
+            throw new IllegalArgumentException("Prime limit exceeds maximum of " + maxLimit + ": " + n);
+        }
+        synchronized (this) {
+            current = sieve;
+            if (n < current.limit) {
+                return current;
+            }
+            // Grow geometrically so a slowly increasing n does not re-sieve on every request
+            long target = Math.min(Math.max(n + 1, current.limit * 2), maxLimit + 1);
+            long start = System.nanoTime();
+            Sieve grown = current.extendTo(target, token);
+            log.debug("Extended prime sieve from {} to {} in {} µs",
+                    current.limit, grown.limit, (System.nanoTime() - start) / 1_000);
+            sieve = grown;
+            return grown;
+        }
+    }
+
+    /**
+     * Immutable sieve snapshot covering {@code [0, limit)}; {@code limit} is always a multiple of
+     * {@link #NUMBERS_PER_WORD} so no word is ever partially valid.
+     */
+    private static final class Sieve {
+
+        private final long[] composite;
+        /** {@code primesBefore[w]} is the number of odd primes in words {@code [0, w)}. */
+        private final int[] primesBefore;
+        private final long limit;
+
+        private Sieve(long[] composite, int[] primesBefore, long limit) {
+            this.composite = composite;
+            this.primesBefore = primesBefore;
+            this.limit = limit;
+        }
+
+        static Sieve initial(int limit) {
+            int words = wordsFor(limit);
+            long[] bits = new long[words];
+            bits[0] |= 1L; // 1 is not prime
+            long covered = (long) words * NUMBERS_PER_WORD;
+            for (long p = 3; p * p < covered; p += 2) {
+                if ((bits[(int) (p >>> 7)] & (1L << ((p >>> 1) & 63))) == 0) {
+                    for (long multiple = p * p; multiple < covered; multiple += 2 * p) {
+                        long bit = multiple >>> 1;
+                        bits[(int) (bit >>> 6)] |= 1L << (bit & 63);
+                    }
+                }
+            }
+            return new Sieve(bits, prefixCounts(bits, new int[words + 1], 0), covered);
+        }
+
+        Sieve extendTo(long newLimit, CancellationToken token) {
+            int oldWords = composite.length;
+            int newWords = wordsFor(newLimit);
+            long[] bits = Arrays.copyOf(composite, newWords);
+            long covered = (long) newWords * NUMBERS_PER_WORD;
+
+            // The sieve starts at 2^16 and never covers more than 2^32 (see MAX_SUPPORTED_LIMIT), so
+            // sqrt(covered) always lies inside the part that is already sieved
+            long sqrt = (long) Math.sqrt((double) covered) + 1;
+            long[] basePrimes = new long[(int) (sqrt / 2) + 1];
+            int baseCount = 0;
+            for (long p = 3; p <= sqrt; p += 2) {
+                if (isOddPrime(p)) {
+                    basePrimes[baseCount++] = p;
+                }
+            }
+
+            for (int segmentStart = oldWords; segmentStart < newWords; segmentStart += SEGMENT_WORDS) {
+                token.checkpoint();
+                int segmentEnd = Math.min(segmentStart + SEGMENT_WORDS, newWords);
+                long low = (long) segmentStart * NUMBERS_PER_WORD;
+                long high = (long) segmentEnd * NUMBERS_PER_WORD;
+                for (int i = 0; i < baseCount; i++) {
+                    long p = basePrimes[i];
+                    long square = p * p;
+                    if (square >= high) {
+                        break;
+                    }
+                    long first = Math.max(square, ((low + p - 1) / p) * p);
+                    if ((first & 1) == 0) {
+                        first += p;
+                    }
+                    for (long multiple = first; multiple < high; multiple += 2 * p) {
+                        long bit = multiple >>> 1;
+                        bits[(int) (bit >>> 6)] |= 1L << (bit & 63);
+                    }
+                }
+            }
+
+            int[] prefix = prefixCounts(bits, Arrays.copyOf(primesBefore, newWords + 1), oldWords);
+            return new Sieve(bits, prefix, covered);
+        }
+
+        boolean isOddPrime(long n) {
+            long bit = n >>> 1;
+            return (composite[(int) (bit >>> 6)] & (1L << (bit & 63))) == 0;
+        }
+
+        int countUpTo(long n) {
+            // Account for 2 separately, then count clear bits for odd numbers 3..n (bit 0 is 1, always set)
+            long lastBit = (n - 1) >>> 1;
+            int word = (int) (lastBit >>> 6);
+            int bitInWord = (int) (lastBit & 63);
+            long mask = bitInWord == 63 ? -1L : (1L << (bitInWord + 1)) - 1;
+            return 1 + primesBefore[word] + Long.bitCount(~composite[word] & mask);
+        }
+
+        private static int wordsFor(long limit) {
+            return (int) ((limit + NUMBERS_PER_WORD - 1) / NUMBERS_PER_WORD);
+        }
+
+        private static int[] prefixCounts(long[] bits, int[] prefix, int fromWord) {
+            for (int w = fromWord; w < bits.length; w++) {
+                prefix[w + 1] = prefix[w] + Long.bitCount(~bits[w]);
+            }
+            return prefix;
+        }
+    }
+}
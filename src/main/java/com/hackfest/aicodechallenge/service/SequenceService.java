@@ -0,0 +1,95 @@
+package com.hackfest.aicodechallenge.service;
+
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The comma-separated sequence {@code "0,1,2,...,n-1,"} produced by the compute workload.
+ *
+ * <p>The length is derived arithmetically from digit counts, and the sequence itself is encoded
+ * straight into a small byte buffer that is flushed to the caller's stream whenever it fills, so
+ * memory per request is constant no matter how large {@code n} is.</p>
+ */
+@Service
+public class SequenceService {
+
+    static final int BUFFER_SIZE = 8192;
+
+    /** Longest encoded element: ten digits of {@link Integer#MAX_VALUE} plus the separator. */
+    private static final int MAX_ELEMENT_BYTES = 11;
+
+    /**
+     * Length in characters of {@code "0,1,...,n-1,"}.
+     */
+    public long sequenceLength(int n) {
+        if (n <= 0) {
+            return 0;
+        }
+        long digits = 0;
+        long lower = 0;
+        long upper = 10;
+        int width = 1;
+        // Each decade [10^(w-1), 10^w) contributes w digits per number
+        while (lower < n) {
+            long count = Math.min(upper, n) - lower;
+            digits += count * width;
+            lower = upper;
+            upper *= 10;
+            width++;
+        }
+        return digits + n;
+    }
+
+    /**
+     * Writes {@code "0,1,...,n-1,"} as ASCII to {@code out}. The stream is flushed but not closed.
+     */
+    public void writeSequence(int n, OutputStream out) throws IOException {
+        writeSequence(n, out, CancellationToken.NONE);
+    }
+
+    /**
+     * Writes {@code "0,1,...,n-1,"} to {@code out}, checking {@code token} before every buffer flush.
+     */
+    public void writeSequence(int n, OutputStream out, CancellationToken token) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int position = 0;
+        for (int i = 0; i < n; i++) {
+            if (position > BUFFER_SIZE - MAX_ELEMENT_BYTES) {
+                token.checkpoint();
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+            position = encode(i, buffer, position);
+            buffer[position++] = ',';
+        }
+        if (position > 0) {
+            out.write(buffer, 0, position);
+        }
+        out.flush();
+    }
+
+    private static int encode(int value, byte[] buffer, int position) {
+        if (value == 0) {
+            buffer[position] = '0';
+            return position + 1;
+        }
+        int end = position + digitCount(value);
+        int cursor = end;
+        while (value > 0) {
+            buffer[--cursor] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    private static int digitCount(int value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,151 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.model.dto.PerformanceSnapshot;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import com.hackfest.aicodechallenge.service.load.LatencySnapshot;
+import com.hackfest.aicodechallenge.service.load.LoadRun;
+import com.hackfest.aicodechallenge.service.timeseries.TestTimeSeries;
+import com.hackfest.aicodechallenge.service.timeseries.TimeSeriesService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the interval metrics of every running test once per {@code sampling.interval-ms}.
+ *
+ * <p>Interval latency can only be harvested by one reader per run, so this is the single consumer:
+ * each sample is recorded into the test's {@link TestTimeSeries} and published to its live
+ * stream.</p>
+ */
+@Slf4j
+@Service
+public class TestMetricsSampler {
+
+    private final PerformanceStreamService streamService;
+    private final TimeSeriesService timeSeriesService;
+    private final ScheduledExecutorService ticker;
+    private final Map<String, Sampled> sampled = new ConcurrentHashMap<>();
+
+    public TestMetricsSampler(PerformanceStreamService streamService,
+                              TimeSeriesService timeSeriesService,
+                              @Value("${performance.sampling.interval-ms:1000}") long intervalMs) {
+        this.streamService = streamService;
+        this.timeSeriesService = timeSeriesService;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(ExecutorRegistry.daemonThreads("MetricsSampler-"));
+        ticker.scheduleAtFixedRate(this::tick, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts sampling {@code run} into a fresh time series for the test.
+     */
+    public void attach(String testId, LoadRun run) {
+        sampled.put(testId, new Sampled(testId, run, timeSeriesService.create(testId)));
+    }
+
+    /**
+     * Takes a last sample of the test's run, closes its time series and stops sampling it.
+     */
+    public void detach(String testId) {
+        Sampled removed = sampled.remove(testId);
+        if (removed != null) {
+            removed.sample();
+            removed.series.finish();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    private void tick() {
+        for (Sampled entry : sampled.values()) {
+            try {
+                entry.sample();
+            } catch (RuntimeException e) {
+                log.warn("Failed to sample metrics of test {}", entry.testId, e);
+            }
+        }
+    }
+
+    /**
+     * Sampling state of one run. Synchronized because the final sample on {@link #detach} can race
+     * the ticker.
+     */
+    private final class Sampled {
+
+        final String testId;
+        final LoadRun run;
+        final TestTimeSeries series;
+        long sequence;
+        long lastSampleNanos;
+        long lastCompleted;
+        long lastFailed;
+
+        Sampled(String testId, LoadRun run, TestTimeSeries series) {
+            this.testId = testId;
+            this.run = run;
+            this.series = series;
+        }
+
+        synchronized void sample() {
+            if (run.getStartNanos() == 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            long since = lastSampleNanos != 0 ? lastSampleNanos : run.getStartNanos();
+            long intervalNanos = now - since;
+            double seconds = intervalNanos / 1_000_000_000.0;
+            lastSampleNanos = now;
+
+            LatencySnapshot latency = run.getLatency().intervalSnapshot();
+            LatencySnapshot scheduleLag = run.getScheduleLag().intervalSnapshot();
+            long completed = run.getCompletedRequests();
+            long failed = run.getFailures().sum();
+            long requests = completed - lastCompleted;
+            long failures = failed - lastFailed;
+            lastCompleted = completed;
+            lastFailed = failed;
+
+            double mean = latency.getMeanMillis();
+            double p50 = latency.getPercentileMillis(50);
+            double p90 = latency.getPercentileMillis(90);
+            double p99 = latency.getPercentileMillis(99);
+            double max = latency.getMaxMillis();
+            long intervalStartSecond = Math.floorDiv(
+                    System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(intervalNanos), 1000);
+            series.record(intervalStartSecond, requests, failures, mean, p50, p90, p99, max);
+
+            streamService.publish(PerformanceSnapshot.builder()
+                    .testId(testId)
+                    .sequence(++sequence)
+                    .timestamp(LocalDateTime.now())
+                    .status(run.getStatus())
+                    .elapsedSeconds(run.getElapsedSeconds())
+                    .intervalSeconds(seconds)
+                    .intervalRequests(requests)
+                    .throughput(seconds > 0 ? requests / seconds : 0)
+                    .errorRate(requests == 0 ? 0 : failures * 100.0 / requests)
+                    .averageResponseTime(mean)
+                    .p50ResponseTime(p50)
+                    .p90ResponseTime(p90)
+                    .p99ResponseTime(p99)
+                    .p999ResponseTime(latency.getPercentileMillis(99.9))
+                    .maxResponseTime(max)
+                    .p99ScheduleLag(scheduleLag.getPercentileMillis(99))
+                    .maxScheduleLag(scheduleLag.getMaxMillis())
+                    .totalRequests(completed)
+                    .totalFailedRequests(failed)
+                    .inFlightRequests(run.getInFlightRequests())
+                    .build());
+        }
+    }
+}
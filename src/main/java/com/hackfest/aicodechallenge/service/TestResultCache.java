@@ -0,0 +1,190 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hackfest.aicodechallenge.model.dto.ApiResponse;
+import com.hackfest.aicodechallenge.model.dto.PerformanceTestResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized {@code GET /tests/{id}} responses of finished tests, kept per encoding as the exact
+ * bytes to send, plus a gzip-compressed copy once they are large enough to be worth it.
+ *
+ * <p>A finished test only changes again if it is restarted or deleted, and both invalidate its
+ * entries, so a response is built and encoded once and then served, or revalidated through its
+ * strong ETag, without touching the test. Entries are evicted by weight once
+ * {@code performance.result-cache.max-weight-bytes} is exceeded.</p>
+ */
+@Component
+public class TestResultCache {
+
+    /** Rough fixed footprint of an entry: key, ETag and array headers. */
+    private static final int BASE_WEIGHT_BYTES = 160;
+
+    private final Cache<Key, Representation> cache;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final int gzipMinBytes;
+    private final Counter hits;
+    private final Counter misses;
+
+    public TestResultCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           @Value("${performance.result-cache.max-weight-bytes:33554432}") long maxWeightBytes,
+                           @Value("${performance.result-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Key key, Representation representation) -> representation.weight())
+                .build();
+        this.jsonMapper = objectMapper;
+        // Same modules and settings as the JSON mapper, so both encodings carry the same fields
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.gzipMinBytes = gzipMinBytes;
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        Gauge.builder("performance.result-cache.size", cache, Cache::estimatedSize)
+                .description("Finished test results currently cached, counting each encoding")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached {@code format} encoding of the test's response, building it from
+     * {@code response} on a miss. Callers must only pass tests that can no longer change.
+     */
+    public Representation get(String testId, Format format, Supplier<PerformanceTestResponse> response) {
+        Key key = new Key(testId, format);
+        Representation cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return cache.get(key, k -> encode(format, ApiResponse.success(response.get())));
+    }
+
+    /**
+     * Drops every encoding of the test, for when it is restarted or deleted.
+     */
+    public void invalidate(String testId) {
+        for (Format format : Format.values()) {
+            cache.invalidate(new Key(testId, format));
+        }
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private Representation encode(Format format, ApiResponse<PerformanceTestResponse> body) {
+        byte[] identity;
+        try {
+            identity = (format == Format.CBOR ? cborMapper : jsonMapper).writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode test result", e);
+        }
+        byte[] gzip = identity.length >= gzipMinBytes ? gzip(identity) : null;
+        return new Representation(format, identity, gzip, etag(identity));
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = out.toByteArray();
+        // Not worth a second copy when compression barely helps
+        return compressed.length < bytes.length * 9 / 10 ? compressed : null;
+    }
+
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 18));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("performance.result-cache.requests")
+                .description("Finished test result cache lookups by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Encodings a result can be served in.
+     */
+    public enum Format {
+        JSON("application/json"),
+        CBOR("application/cbor");
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+    }
+
+    /**
+     * One encoded response. The gzip copy carries its own ETag, as the two are different
+     * representations; {@code gzip} is null when compression was not worthwhile.
+     *
+     * @param tag the ETag value of the uncompressed bytes, without quotes
+     */
+    public record Representation(Format format, byte[] identity, byte[] gzip, String tag) {
+
+        public String etag(boolean gzipped) {
+            return "\"" + tag + (gzipped ? "-gzip" : "") + "\"";
+        }
+
+        /**
+         * Whether an {@code If-None-Match} header lists either encoding of this response; the two
+         * carry the same content, so either may revalidate it.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals("*") || value.equals(etag(false)) || value.equals(etag(true))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int weight() {
+            return BASE_WEIGHT_BYTES + identity.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+
+    private record Key(String testId, Format format) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.hackfest.aicodechallenge.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Admits performance tests against a global budget of concurrently running tests and of aggregate
+ * offered requests per second, so overlapping runs neither saturate the load host nor skew each
+ * other's results.
+ *
+ * <p>Tests that do not fit wait in per-tenant queues. Whenever capacity frees up, the tenant
+ * currently offering the least load goes next, with the earliest submission breaking ties; within a
+ * tenant, higher priority goes first, then submission order. If the chosen test does not fit the
+ * remaining budget, admission waits instead of letting smaller tests overtake it, so large tests
+ * are not starved.</p>
+ *
+ * <p>Launchers run outside the scheduler's lock, so they may take their own locks.</p>
+ */
+@Slf4j
+@Component
+public class TestScheduler {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final Comparator<Ticket> TENANT_ORDER = Comparator.comparingInt(Ticket::priority).reversed()
+            .thenComparingLong(Ticket::sequence);
+
+    /**
+     * Starts an admitted test.
+     */
+    @FunctionalInterface
+    public interface Launcher {
+
+        /**
+         * @return {@code false} if the test no longer wants to run, e.g. it was cancelled while
+         *         queued; its capacity is then released right away
+         */
+        boolean launch(Ticket ticket);
+    }
+
+    /**
+     * One submission of a test; pass it back to {@link #release} when the run ends.
+     */
+    public record Ticket(String testId, String tenant, int priority, int requestsPerSecond, long sequence,
+                         Launcher launcher) {
+    }
+
+    private final int maxConcurrentTests;
+    private final int maxRequestsPerSecond;
+
+    /** All state below is guarded by {@code this}. */
+    private final Map<String, PriorityQueue<Ticket>> queues = new HashMap<>();
+    private final Map<String, Ticket> queued = new HashMap<>();
+    private final Set<Ticket> running = new HashSet<>();
+    private final Map<String, Long> tenantLoad = new HashMap<>();
+    private long usedRequestsPerSecond;
+    private long sequence;
+
+    public TestScheduler(
+            @Value("${performance.scheduler.max-concurrent-tests:${load.generator.max-concurrent-runs:4}}") int maxConcurrentTests,
+            @Value("${performance.scheduler.max-requests-per-second:5000}") int maxRequestsPerSecond) {
+        if (maxConcurrentTests < 1 || maxRequestsPerSecond < 1) {
+            throw new IllegalArgumentException("Scheduler budgets must be positive");
+        }
+        this.maxConcurrentTests = maxConcurrentTests;
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
+    /**
+     * Rejects a load level that could never be admitted.
+     */
+    public void validate(int requestsPerSecond) {
+        if (requestsPerSecond > maxRequestsPerSecond) {
+            throw new IllegalArgumentException("Load level of " + requestsPerSecond
+                    + " req/s exceeds the scheduler budget of " + maxRequestsPerSecond + " req/s");
+        }
+    }
+
+    /**
+     * Queues a test and launches it, and any others that now fit, before returning if capacity
+     * allows.
+     */
+    public Ticket submit(String testId, String tenant, int priority, int requestsPerSecond, Launcher launcher) {
+        validate(requestsPerSecond);
+        Ticket ticket;
+        List<Ticket> admitted;
+        synchronized (this) {
+            if (queued.containsKey(testId)) {
+                throw new IllegalArgumentException("Test already queued: " + testId);
+            }
+            ticket = new Ticket(testId, tenant, priority, requestsPerSecond, ++sequence, launcher);
+            queues.computeIfAbsent(tenant, key -> new PriorityQueue<>(TENANT_ORDER)).add(ticket);
+            queued.put(testId, ticket);
+            admitted = admit();
+        }
+        launch(admitted);
+        return ticket;
+    }
+
+    /**
+     * Admits a run only if it fits the budget right now and no queued test is waiting for capacity,
+     * for callers that cannot wait, such as worker runs started by a remote coordinator.
+     *
+     * @return the ticket to {@link #release} when the run ends, or empty if the run does not fit
+     * @throws IllegalArgumentException if the load level could never be admitted
+     */
+    public Optional<Ticket> tryAdmit(String testId, String tenant, int requestsPerSecond) {
+        validate(requestsPerSecond);
+        synchronized (this) {
+            if (!queued.isEmpty() || running.size() >= maxConcurrentTests
+                    || usedRequestsPerSecond + requestsPerSecond > maxRequestsPerSecond) {
+                return Optional.empty();
+            }
+            Ticket ticket = new Ticket(testId, tenant, 0, requestsPerSecond, ++sequence, admitted -> true);
+            running.add(ticket);
+            usedRequestsPerSecond += requestsPerSecond;
+            tenantLoad.merge(tenant, (long) requestsPerSecond, Long::sum);
+            return Optional.of(ticket);
+        }
+    }
+
+    /**
+     * Removes a queued test.
+     *
+     * @return {@code false} if the test was not queued
+     */
+    public boolean dequeue(String testId) {
+        List<Ticket> admitted;
+        synchronized (this) {
+            Ticket ticket = queued.remove(testId);
+            if (ticket == null) {
+                return false;
+            }
+            PriorityQueue<Ticket> queue = queues.get(ticket.tenant());
+            queue.remove(ticket);
+            if (queue.isEmpty()) {
+                queues.remove(ticket.tenant());
+            }
+            // The removed test may have been the head blocking smaller ones behind it
+            admitted = admit();
+        }
+        launch(admitted);
+        return true;
+    }
+
+    /**
+     * Returns a finished run's capacity to the budget and admits waiting tests.
+     */
+    public void release(Ticket ticket) {
+        List<Ticket> admitted;
+        synchronized (this) {
+            if (!running.remove(ticket)) {
+                return;
+            }
+            usedRequestsPerSecond -= ticket.requestsPerSecond();
+            tenantLoad.computeIfPresent(ticket.tenant(),
+                    (tenant, load) -> load == ticket.requestsPerSecond() ? null : load - ticket.requestsPerSecond());
+            admitted = admit();
+        }
+        launch(admitted);
+    }
+
+    public synchronized int getRunningCount() {
+        return running.size();
+    }
+
+    public synchronized int getQueuedCount() {
+        return queued.size();
+    }
+
+    public synchronized long getUsedRequestsPerSecond() {
+        return usedRequestsPerSecond;
+    }
+
+    private List<Ticket> admit() {
+        List<Ticket> admitted = new ArrayList<>();
+        Ticket next;
+        while ((next = nextCandidate()) != null
+                && running.size() < maxConcurrentTests
+                && usedRequestsPerSecond + next.requestsPerSecond() <= maxRequestsPerSecond) {
+            PriorityQueue<Ticket> queue = queues.get(next.tenant());
+            queue.poll();
+            if (queue.isEmpty()) {
+                queues.remove(next.tenant());
+            }
+            queued.remove(next.testId());
+            running.add(next);
+            usedRequestsPerSecond += next.requestsPerSecond();
+            tenantLoad.merge(next.tenant(), (long) next.requestsPerSecond(), Long::sum);
+            admitted.add(next);
+        }
+        return admitted;
+    }
+
+    /**
+     * Head of the queue of the tenant offering the least load right now.
+     */
+    private Ticket nextCandidate() {
+        Ticket best = null;
+        long bestLoad = Long.MAX_VALUE;
+        for (Map.Entry<String, PriorityQueue<Ticket>> entry : queues.entrySet()) {
+            Ticket head = entry.getValue().peek();
+            long load = tenantLoad.getOrDefault(entry.getKey(), 0L);
+            if (load < bestLoad || (load == bestLoad && head.sequence() < best.sequence())) {
+                best = head;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    private void launch(List<Ticket> admitted) {
+        for (Ticket ticket : admitted) {
+            boolean started;
+            try {
+                started = ticket.launcher().launch(ticket);
+            } catch (RuntimeException e) {
+                log.error("Failed to launch test {}", ticket.testId(), e);
+                started = false;
+            }
+            if (started) {
+                log.debug("Admitted test {} of tenant {} at {} req/s", ticket.testId(), ticket.tenant(),
+                        ticket.requestsPerSecond());
+            } else {
+                release(ticket);
+            }
+        }
+    }
+}
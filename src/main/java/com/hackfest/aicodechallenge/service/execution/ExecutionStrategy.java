@@ -0,0 +1,31 @@
+package com.hackfest.aicodechallenge.service.execution;
+
+import java.util.Locale;
+
+/**
+ * How an {@link ExecutorRegistry} runs tasks.
+ */
+public enum ExecutionStrategy {
+
+    /** A fixed pool of platform threads with a FIFO queue. */
+    PLATFORM,
+    /** A new virtual thread per task; needs Java 21 or newer. */
+    VIRTUAL,
+    /** A fork/join pool whose workers steal queued tasks from each other. */
+    WORK_STEALING;
+
+    /**
+     * @throws IllegalArgumentException if {@code value} names no strategy
+     */
+    public static ExecutionStrategy from(String value) {
+        if (value == null || value.isBlank()) {
+            return PLATFORM;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported execution strategy: " + value
+                    + " (expected platform, virtual or work-stealing)");
+        }
+    }
+}
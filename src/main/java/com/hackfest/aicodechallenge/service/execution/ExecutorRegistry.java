@@ -0,0 +1,194 @@
+package com.hackfest.aicodechallenge.service.execution;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the application's task executors with the strategy selected by
+ * {@code execution.strategy}: {@code platform}, {@code virtual} or {@code work-stealing}.
+ *
+ * <p>Every executor is a {@link ManagedExecutor} exporting {@code execution.active},
+ * {@code execution.queued}, {@code execution.saturation}, {@code execution.completed} and
+ * {@code execution.rejected}, tagged with its name and strategy. Virtual threads suit pools that
+ * mostly wait; they need Java 21, and selecting them on an older runtime fails at startup.</p>
+ *
+ * <p>Work that forks subtasks gets a {@link #createForkJoinPool fork/join pool} exporting
+ * {@code execution.active} and {@code execution.queued}. Scheduled executors stay with their owners
+ * but take their threads from {@link #daemonThreads}.</p>
+ */
+@Slf4j
+@Component
+public class ExecutorRegistry {
+
+    /** {@code Executors.newVirtualThreadPerTaskExecutor()}, looked up so the code still builds on Java 17. */
+    private static final MethodHandle NEW_VIRTUAL_EXECUTOR = virtualExecutorFactory();
+
+    private final ExecutionStrategy strategy;
+    private final MeterRegistry meterRegistry;
+    private final List<ManagedExecutor> executors = new CopyOnWriteArrayList<>();
+    private final List<ForkJoinPool> forkJoinPools = new CopyOnWriteArrayList<>();
+
+    public ExecutorRegistry(@Value("${execution.strategy:platform}") String strategy, MeterRegistry meterRegistry) {
+        this.strategy = ExecutionStrategy.from(strategy);
+        this.meterRegistry = meterRegistry;
+        if (this.strategy == ExecutionStrategy.VIRTUAL && NEW_VIRTUAL_EXECUTOR == null) {
+            throw new IllegalStateException("execution.strategy=virtual requires Java 21 or newer, running on "
+                    + Runtime.version());
+        }
+        log.info("Using {} execution strategy", this.strategy);
+    }
+
+    public ExecutionStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * An executor of the configured strategy named {@code name}, running {@code threads} tasks at a
+     * time with up to {@code queueCapacity} more waiting.
+     */
+    public ManagedExecutor create(String name, int threads, int queueCapacity) {
+        return create(name, strategy, threads, queueCapacity);
+    }
+
+    /**
+     * An executor that always uses {@code strategy}, for work that depends on it, such as pacing
+     * loops that spin and would hold a virtual thread's carrier.
+     */
+    public ManagedExecutor create(String name, ExecutionStrategy strategy, int threads, int queueCapacity) {
+        if (threads < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Executor " + name + " requires at least one thread and a non-negative queue");
+        }
+        ManagedExecutor executor = new ManagedExecutor(name, strategy, delegate(name, strategy, threads),
+                threads, queueCapacity);
+        register(executor);
+        executors.add(executor);
+        return executor;
+    }
+
+    /**
+     * A fork/join pool named {@code name} with {@code parallelism} workers, for tasks that fork
+     * subtasks and join them, which a {@link ManagedExecutor} cannot run.
+     */
+    public ForkJoinPool createForkJoinPool(String name, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Fork/join pool " + name + " requires at least one thread");
+        }
+        ForkJoinPool pool = forkJoinPool(name, parallelism, false);
+        Tags tags = Tags.of("name", name, "strategy", "fork-join");
+        Gauge.builder("execution.active", pool, ForkJoinPool::getActiveThreadCount)
+                .description("Tasks currently running")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("execution.queued", pool, p -> p.getQueuedSubmissionCount() + p.getQueuedTaskCount())
+                .description("Accepted tasks waiting for a thread")
+                .tags(tags)
+                .register(meterRegistry);
+        forkJoinPools.add(pool);
+        return pool;
+    }
+
+    public List<ManagedExecutor> getExecutors() {
+        return List.copyOf(executors);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.forEach(ExecutorService::shutdownNow);
+        forkJoinPools.forEach(ForkJoinPool::shutdownNow);
+    }
+
+    /**
+     * Creates daemon threads named {@code prefix} followed by a running count, so stray executors
+     * never keep the JVM alive and show up by name in thread dumps.
+     */
+    public static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ExecutorService delegate(String name, ExecutionStrategy strategy, int threads) {
+        return switch (strategy) {
+            // Unbounded here: ManagedExecutor enforces the queue capacity for every strategy
+            case PLATFORM -> new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), daemonThreads(name + "-"));
+            case WORK_STEALING -> forkJoinPool(name, threads, true);
+            case VIRTUAL -> {
+                try {
+                    yield (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke();
+                } catch (Throwable e) {
+                    throw new IllegalStateException("Cannot create virtual thread executor " + name, e);
+                }
+            }
+        };
+    }
+
+    private static ForkJoinPool forkJoinPool(String name, int threads, boolean asyncMode) {
+        AtomicInteger count = new AtomicInteger();
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, asyncMode);
+    }
+
+    private void register(ManagedExecutor executor) {
+        Tags tags = Tags.of("name", executor.getName(),
+                "strategy", executor.getStrategy().name().toLowerCase(Locale.ROOT));
+        Gauge.builder("execution.active", executor, ManagedExecutor::getActiveCount)
+                .description("Tasks currently running")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("execution.queued", executor, ManagedExecutor::getQueueDepth)
+                .description("Accepted tasks waiting for a thread")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("execution.saturation", executor, ManagedExecutor::getSaturation)
+                .description("Share of the executor's admission limit in use; new tasks are rejected at 1")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("execution.completed", executor, ManagedExecutor::getCompletedCount)
+                .description("Tasks finished")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("execution.rejected", executor, ManagedExecutor::getRejectedCount)
+                .description("Tasks rejected because the executor was saturated or shut down")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private static MethodHandle virtualExecutorFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
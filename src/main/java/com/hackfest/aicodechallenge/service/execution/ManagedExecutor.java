@@ -0,0 +1,133 @@
+package com.hackfest.aicodechallenge.service.execution;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An executor of any {@link ExecutionStrategy} with the same admission limit and the same live
+ * counters, so pools can be swapped by configuration without changing how they overload or how
+ * they are monitored.
+ *
+ * <p>At most {@code threads + queueCapacity} tasks are accepted at a time; beyond that
+ * {@link #execute} throws {@link RejectedExecutionException}, as a full bounded queue would. Tasks
+ * count as queued from submission until a thread picks them up, then as active until they
+ * return.</p>
+ */
+public class ManagedExecutor extends AbstractExecutorService {
+
+    private final String name;
+    private final ExecutionStrategy strategy;
+    private final ExecutorService delegate;
+    private final int threads;
+    private final int capacity;
+    private final AtomicInteger accepted = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    ManagedExecutor(String name, ExecutionStrategy strategy, ExecutorService delegate, int threads, int queueCapacity) {
+        this.name = name;
+        this.strategy = strategy;
+        this.delegate = delegate;
+        this.threads = threads;
+        this.capacity = (int) Math.min(Integer.MAX_VALUE, (long) threads + queueCapacity);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (accepted.incrementAndGet() > capacity) {
+            accepted.decrementAndGet();
+            rejected.increment();
+            throw new RejectedExecutionException("Executor " + name + " is saturated");
+        }
+        queued.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                try {
+                    command.run();
+                } finally {
+                    active.decrementAndGet();
+                    accepted.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            accepted.decrementAndGet();
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ExecutionStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Threads of the pool. Virtual executors start every accepted task at once and only count this
+     * towards the admission limit.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Share of the admission limit in use, from 0 to 1; at 1 new tasks are rejected.
+     */
+    public double getSaturation() {
+        return (double) accepted.get() / capacity;
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
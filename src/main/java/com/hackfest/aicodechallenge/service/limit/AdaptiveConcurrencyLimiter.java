@@ -0,0 +1,186 @@
+package com.hackfest.aicodechallenge.service.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+
+/**
+ * A concurrency limit that adapts to observed latency, in the style of a gradient limiter.
+ *
+ * <p>Every request holds a number of permits equal to its estimated cost until it completes. The
+ * limiter keeps a long-term average of latency per unit of cost. While samples stay within
+ * {@code tolerance} times that baseline the limit grows by a fraction of its square root per
+ * sample; beyond it the limit shrinks in proportion to the excess. Requests that failed from
+ * overload shrink it multiplicatively. The limit only grows while at least half of it is
+ * in use, so an idle service does not build up a limit it never proved it could sustain.</p>
+ *
+ * <p>Requests that do not fit are rejected at once rather than queued: queueing is what makes a
+ * saturated service slow for everyone. A request is always admitted when nothing is in flight, so
+ * one costlier than the whole limit can still run alone.</p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF = 0.9;
+    /** Samples averaged into the latency baseline. */
+    private static final int BASELINE_WINDOW = 500;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final Counter accepted;
+    private final Counter rejected;
+
+    private double limit;
+    private int inFlight;
+    /** Average latency per unit of cost, in nanoseconds; 0 until the first sample. */
+    private double baselineNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double smoothing, MeterRegistry meterRegistry) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limiter " + name + " requires 1 <= min <= initial <= max limit");
+        }
+        if (!(tolerance >= 1) || !(smoothing > 0 && smoothing <= 1)) {
+            throw new IllegalArgumentException("Limiter " + name + " requires tolerance >= 1 and smoothing in (0, 1]");
+        }
+        this.name = name;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.accepted = requests(meterRegistry, name, "accepted");
+        this.rejected = requests(meterRegistry, name, "rejected");
+        Gauge.builder("limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current concurrency limit, in cost units")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("limiter.in-flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Cost of the requests currently admitted")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Admits a request of {@code cost} permits, or returns empty if it does not fit under the limit.
+     */
+    public Optional<Permit> tryAcquire(int cost) {
+        int permits = Math.max(1, Math.min(cost, maxLimit));
+        synchronized (this) {
+            if (inFlight > 0 && inFlight + permits > (int) limit) {
+                rejected.increment();
+                return Optional.empty();
+            }
+            inFlight += permits;
+        }
+        accepted.increment();
+        return Optional.of(new Permit(permits, System.nanoTime()));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Roughly how long a request of {@code cost} takes at the observed baseline, for clients told to
+     * retry later; 0 before any request completed.
+     */
+    public synchronized long estimateNanos(int cost) {
+        return (long) (baselineNanos * Math.max(1, cost));
+    }
+
+    private synchronized void release(Permit permit, long latencyNanos, Outcome outcome) {
+        int inUse = inFlight;
+        inFlight -= permit.cost;
+        switch (outcome) {
+            case IGNORED -> {
+            }
+            case DROPPED -> limit = Math.max(minLimit, limit * DROP_BACKOFF);
+            case SUCCEEDED -> update((double) latencyNanos / permit.cost, inUse);
+        }
+    }
+
+    private void update(double sampleNanos, int inUse) {
+        if (sampleNanos <= 0) {
+            return;
+        }
+        if (baselineNanos == 0) {
+            baselineNanos = sampleNanos;
+        } else {
+            baselineNanos += (sampleNanos - baselineNanos) / BASELINE_WINDOW;
+            // Latency fell well below the baseline, e.g. after an overload cleared; catch up faster
+            if (baselineNanos > 2 * sampleNanos) {
+                baselineNanos *= 0.95;
+            }
+        }
+        if (inUse < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baselineNanos / sampleNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + target * smoothing));
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("limiter.requests")
+                .description("Requests offered to the concurrency limiter by outcome")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * How a request ended, as far as the limiter is concerned.
+     */
+    public enum Outcome {
+        /** Completed normally; its latency is a sample. */
+        SUCCEEDED,
+        /** Failed in a way that says nothing about load, such as a client error. */
+        IGNORED,
+        /** Failed or timed out from overload; the limit backs off. */
+        DROPPED
+    }
+
+    /**
+     * Permits held by one admitted request; release exactly once when it completes.
+     */
+    public final class Permit {
+
+        private final int cost;
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(int cost, long startNanos) {
+            this.cost = cost;
+            this.startNanos = startNanos;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        public void release(Outcome outcome) {
+            long latency = System.nanoTime() - startNanos;
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            AdaptiveConcurrencyLimiter.this.release(this, latency, outcome);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.hackfest.aicodechallenge.service.load;
+
+/**
+ * One scheduled request handed to a {@link LoadTarget}. The generator measures its latency from
+ * {@link #getIntendedNanos()} once the target's future completes.
+ */
+public final class Arrival {
+
+    private long intendedNanos;
+
+    Arrival(long intendedNanos) {
+        this.intendedNanos = intendedNanos;
+    }
+
+    public long getIntendedNanos() {
+        return intendedNanos;
+    }
+
+    /**
+     * Starts the latency measurement {@code nanos} later, for deliberate pauses such as think time.
+     * Only the target may call this, before its future completes.
+     */
+    public void delay(long nanos) {
+        intendedNanos += nanos;
+    }
+}
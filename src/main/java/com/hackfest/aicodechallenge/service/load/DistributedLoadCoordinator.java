@@ -0,0 +1,330 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.WorkerReport;
+import com.hackfest.aicodechallenge.model.dto.WorkerRunRequest;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits a load plan across the {@link LoadWorker}s of other instances listed in
+ * {@code load.distributed.workers} and merges their results into one {@link LoadRun}.
+ *
+ * <p>Each worker gets an equal share of the requests at a proportional share of the rate, so all
+ * shares end together. Every {@code report-interval-ms} the coordinator polls each worker for its
+ * cumulative counters and compressed latency histogram and adds the difference to the previous
+ * report to the run, so the run's interval and cumulative metrics, and everything built on them,
+ * behave exactly as for a local run. Cumulative reports make lost polls harmless.</p>
+ *
+ * <p>A worker that cannot be reached for {@code worker-timeout-ms} is considered lost: what it
+ * reported so far is kept, its remaining requests are not reassigned (it may still be sending), and
+ * the run finishes without it. The run fails only if every worker was lost.</p>
+ *
+ * <p>Every call carries {@code load.distributed.worker-token}, which must match the workers'
+ * {@code load.worker.token}.</p>
+ */
+@Slf4j
+@Component
+public class DistributedLoadCoordinator {
+
+    static final String RUNS_PATH = "/api/v1/worker/runs";
+
+    private final ObjectMapper objectMapper;
+    private final List<URI> workers;
+    private final String workerToken;
+    private final long workerTimeoutNanos;
+    private final Duration requestTimeout;
+    private final HttpClient client;
+    private final ScheduledExecutorService poller;
+    private final Set<DistributedRun> active = ConcurrentHashMap.newKeySet();
+
+    public DistributedLoadCoordinator(ObjectMapper objectMapper,
+                                      @Value("${load.distributed.workers:}") String workers,
+                                      @Value("${load.distributed.report-interval-ms:1000}") long reportIntervalMs,
+                                      @Value("${load.distributed.worker-timeout-ms:5000}") long workerTimeoutMs,
+                                      @Value("${load.distributed.request-timeout-ms:2000}") long requestTimeoutMs,
+                                      @Value("${load.distributed.worker-token:${load.worker.token:}}") String workerToken) {
+        this.objectMapper = objectMapper;
+        this.workers = Arrays.stream(workers.split(","))
+                .map(String::trim)
+                .filter(worker -> !worker.isEmpty())
+                .map(worker -> URI.create(worker.endsWith("/") ? worker.substring(0, worker.length() - 1) : worker))
+                .toList();
+        if (!this.workers.isEmpty() && workerToken.isBlank()) {
+            throw new IllegalArgumentException("load.distributed.worker-token is required when load.distributed.workers is set");
+        }
+        this.workerToken = workerToken;
+        this.workerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(workerTimeoutMs);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .build();
+        this.poller = Executors.newSingleThreadScheduledExecutor(ExecutorRegistry.daemonThreads("DistributedLoad-"));
+        if (!this.workers.isEmpty()) {
+            log.info("Distributing performance tests across {} workers: {}", this.workers.size(), this.workers);
+            poller.scheduleAtFixedRate(this::poll, reportIntervalMs, reportIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return !workers.isEmpty();
+    }
+
+    /**
+     * Starts {@code plan} across the workers. The run completes once every worker has finished or
+     * been lost; cancel it with {@link LoadGenerator#cancel}.
+     */
+    public LoadRun start(LoadPlan plan, String targetUrl, String method, String body) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("No load workers configured");
+        }
+        if (plan.getTotalRequests() < 1 || plan.getConcurrency() < 1 || !(plan.getRatePerSecond() > 0)) {
+            throw new IllegalArgumentException("Load plan requires positive request count, concurrency and rate");
+        }
+        int shares = Math.min(workers.size(), plan.getTotalRequests());
+        LoadRun run = new LoadRun(plan);
+        run.setWorkers(shares);
+        DistributedRun distributed = new DistributedRun(run);
+        for (int i = 0; i < shares; i++) {
+            int requests = plan.getTotalRequests() / shares + (i < plan.getTotalRequests() % shares ? 1 : 0);
+            double fraction = (double) requests / plan.getTotalRequests();
+            WorkerRunRequest request = WorkerRunRequest.builder()
+                    .runId(run.getId() + "-" + i)
+                    .targetUrl(targetUrl)
+                    .httpMethod(method)
+                    .requestBody(body)
+                    .totalRequests(requests)
+                    .ratePerSecond(plan.getRatePerSecond() * fraction)
+                    .concurrency(Math.max(1, (plan.getConcurrency() + shares - 1) / shares))
+                    .stages(plan.getProfile() != null ? plan.getProfile().scale(fraction).getStages() : null)
+                    .build();
+            distributed.shares.add(new WorkerShare(workers.get(i), request));
+        }
+        run.markStarted();
+        active.add(distributed);
+        distributed.shares.forEach(distributed::sendStart);
+        return run;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    private void poll() {
+        for (DistributedRun distributed : active) {
+            try {
+                distributed.poll();
+            } catch (RuntimeException e) {
+                log.warn("Failed to poll workers of run {}", distributed.run.getId(), e);
+            }
+        }
+    }
+
+    private CompletableFuture<WorkerReport> call(URI uri, Object body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .header(LoadWorker.TOKEN_HEADER, workerToken);
+        if (body != null) {
+            try {
+                request.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                        .header("Content-Type", "application/json");
+            } catch (JsonProcessingException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        } else if (uri.getPath().endsWith("/cancel")) {
+            request.POST(HttpRequest.BodyPublishers.noBody());
+        }
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    if (response.statusCode() >= 300) {
+                        throw new IllegalStateException("Worker " + uri + " answered " + response.statusCode());
+                    }
+                    try {
+                        JsonNode data = objectMapper.readTree(response.body()).get("data");
+                        return objectMapper.treeToValue(data, WorkerReport.class);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private static boolean isTerminal(String status) {
+        return "COMPLETED".equals(status) || "FAILED".equals(status) || "CANCELLED".equals(status);
+    }
+
+    /**
+     * One worker's part of a run. Guarded by the owning {@link DistributedRun}.
+     */
+    private static final class WorkerShare {
+
+        final URI worker;
+        final WorkerRunRequest request;
+        final URI runUri;
+        boolean started;
+        boolean lost;
+        boolean pending;
+        boolean cancelSent;
+        String status = "STARTING";
+        long lastContactNanos = System.nanoTime();
+        LatencySnapshot latency;
+        LatencySnapshot scheduleLag;
+        long completed;
+        long successes;
+        long failures;
+        int inFlight;
+
+        WorkerShare(URI worker, WorkerRunRequest request) {
+            this.worker = worker;
+            this.request = request;
+            this.runUri = URI.create(worker + RUNS_PATH + "/" + request.getRunId());
+        }
+
+        boolean isDone() {
+            return lost || isTerminal(status);
+        }
+    }
+
+    /**
+     * A run and its worker shares. Responses arrive on HTTP client threads, so all share state is
+     * updated under this object's lock.
+     */
+    private final class DistributedRun {
+
+        final LoadRun run;
+        final List<WorkerShare> shares = new ArrayList<>();
+
+        DistributedRun(LoadRun run) {
+            this.run = run;
+        }
+
+        synchronized void sendStart(WorkerShare share) {
+            share.pending = true;
+            call(URI.create(share.worker + RUNS_PATH), share.request)
+                    .whenComplete((report, error) -> onReply(share, report, error));
+        }
+
+        synchronized void poll() {
+            boolean cancelled = run.isCancelled();
+            for (WorkerShare share : shares) {
+                if (share.isDone() || share.pending) {
+                    continue;
+                }
+                if (!share.started) {
+                    if (cancelled) {
+                        // The start may have reached the worker even though its reply did not, and
+                        // cancelling is idempotent per run id, so the cancel is sent regardless
+                        share.cancelSent = true;
+                        share.status = "CANCELLED";
+                        call(URI.create(share.runUri + "/cancel"), null).whenComplete((report, error) -> {
+                            if (error != null) {
+                                log.debug("Worker {} did not confirm cancelling run {}: {}", share.worker,
+                                        run.getId(), error.toString());
+                            }
+                        });
+                    } else if (!checkLost(share, null)) {
+                        // Starting is idempotent per run id, so an unanswered start is simply sent again
+                        sendStart(share);
+                    }
+                    continue;
+                }
+                share.pending = true;
+                URI uri = share.runUri;
+                if (cancelled && !share.cancelSent) {
+                    share.cancelSent = true;
+                    uri = URI.create(share.runUri + "/cancel");
+                }
+                call(uri, null).whenComplete((report, error) -> onReply(share, report, error));
+            }
+            finishIfDone();
+        }
+
+        synchronized void onReply(WorkerShare share, WorkerReport report, Throwable error) {
+            share.pending = false;
+            if (share.lost) {
+                return;
+            }
+            if (error != null) {
+                checkLost(share, error);
+            } else {
+                share.started = true;
+                share.lastContactNanos = System.nanoTime();
+                apply(share, report);
+            }
+            finishIfDone();
+        }
+
+        private void apply(WorkerShare share, WorkerReport report) {
+            LatencySnapshot latest = LatencySnapshot.fromByteArray(report.getLatencyHistogram());
+            run.getLatency().add(share.latency == null ? latest : latest.minus(share.latency));
+            share.latency = latest;
+            if (report.getScheduleLagHistogram() != null) {
+                LatencySnapshot lag = LatencySnapshot.fromByteArray(report.getScheduleLagHistogram());
+                run.getScheduleLag().add(share.scheduleLag == null ? lag : lag.minus(share.scheduleLag));
+                share.scheduleLag = lag;
+            }
+
+            run.getSuccesses().add(report.getSuccessfulRequests() - share.successes);
+            run.getFailures().add(report.getFailedRequests() - share.failures);
+            run.completed.addAndGet((int) (report.getCompletedRequests() - share.completed));
+            share.successes = report.getSuccessfulRequests();
+            share.failures = report.getFailedRequests();
+            share.completed = report.getCompletedRequests();
+            share.inFlight = report.getInFlightRequests();
+            share.status = report.getStatus();
+            run.inFlight.set(shares.stream().filter(s -> !s.isDone()).mapToInt(s -> s.inFlight).sum());
+        }
+
+        /**
+         * Marks {@code share} lost once the worker has been unreachable for the timeout.
+         */
+        private boolean checkLost(WorkerShare share, Throwable error) {
+            if (System.nanoTime() - share.lastContactNanos < workerTimeoutNanos) {
+                if (error != null) {
+                    log.debug("Worker {} did not answer for run {}: {}", share.worker, run.getId(), error.toString());
+                }
+                return false;
+            }
+            share.lost = true;
+            share.inFlight = 0;
+            run.getLostWorkers().incrementAndGet();
+            log.warn("Lost worker {} during run {}; keeping its {} reported requests, {} will not run",
+                    share.worker, run.getId(), share.completed, share.request.getTotalRequests() - share.completed);
+            return true;
+        }
+
+        private void finishIfDone() {
+            if (run.isFinished() || !shares.stream().allMatch(WorkerShare::isDone)) {
+                return;
+            }
+            boolean allFailed = shares.stream().allMatch(share -> share.lost || "FAILED".equals(share.status));
+            run.inFlight.set(0);
+            run.markFinished(run.isCancelled() ? "CANCELLED" : allFailed ? "FAILED" : "COMPLETED");
+            active.remove(this);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends one prebuilt request per arrival with the non-blocking {@link HttpClient}; any status below
+ * 400 counts as a success. The response body is read and discarded so the connection goes back to
+ * the pool for reuse.
+ */
+public class HttpLoadTarget implements LoadTarget {
+
+    private final HttpClient client;
+    private final HttpRequest request;
+
+    public HttpLoadTarget(HttpClient client, HttpRequest request) {
+        this.client = client;
+        this.request = request;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> send() {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> response.statusCode() < 400);
+    }
+}
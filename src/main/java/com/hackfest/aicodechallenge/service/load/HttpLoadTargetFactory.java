@@ -0,0 +1,169 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.model.dto.RequestTemplate;
+import com.hackfest.aicodechallenge.service.execution.ExecutionStrategy;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Builds {@link HttpLoadTarget}s and {@link ScenarioLoadTarget}s on one shared {@link HttpClient}.
+ *
+ * <p>The client speaks HTTP/1.1, so each outstanding request holds its own pooled connection and a
+ * run's concurrency limit is also its connection count, as it would be for real browser or service
+ * clients; HTTP/2 would multiplex everything onto a single connection. Response callbacks run on a
+ * small dedicated pool rather than the common fork/join pool. A blank target URL selects the
+ * embedded {@link StubTargetServer}.</p>
+ */
+@Component
+public class HttpLoadTargetFactory {
+
+    private static final Set<String> METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE");
+
+    private final StubTargetServer stubTarget;
+    private final ExecutorService callbacks;
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    public HttpLoadTargetFactory(StubTargetServer stubTarget,
+                                 ExecutorRegistry executorRegistry,
+                                 @Value("${load.http.threads:4}") int threads,
+                                 @Value("${load.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                 @Value("${load.http.request-timeout-ms:10000}") long requestTimeoutMs,
+                                 @Value("${load.http.keepalive-seconds:30}") int keepAliveSeconds) {
+        // The JDK client only exposes its connection pool through system properties read when the
+        // first client is built; idle connections from finished runs are closed after keepalive-seconds
+        if (System.getProperty("jdk.httpclient.keepalive.timeout") == null) {
+            System.setProperty("jdk.httpclient.keepalive.timeout", String.valueOf(keepAliveSeconds));
+        }
+        this.stubTarget = stubTarget;
+        // Unbounded: the client has no way to handle a rejected callback. Always platform threads: the
+        // callbacks only record results, and a thread per response would gain nothing
+        this.callbacks = executorRegistry.create("load-http", ExecutionStrategy.PLATFORM,
+                threads, Integer.MAX_VALUE);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(callbacks)
+                .build();
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+    }
+
+    /**
+     * Resolves and checks a target URL; blank means the embedded stub.
+     */
+    public URI resolve(String targetUrl) {
+        if (targetUrl == null || targetUrl.isBlank()) {
+            if (!stubTarget.isEnabled()) {
+                throw new IllegalArgumentException("Target URL is required when the stub target is disabled");
+            }
+            return stubTarget.getUri();
+        }
+        try {
+            URI uri = new URI(targetUrl.trim());
+            if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())
+                    || uri.getHost() == null) {
+                throw new IllegalArgumentException("Target URL must be an absolute http(s) URL: " + targetUrl);
+            }
+            return uri;
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid target URL: " + targetUrl);
+        }
+    }
+
+    /**
+     * Normalizes an HTTP method name; {@code null} means GET.
+     */
+    public String resolveMethod(String method) {
+        if (method == null || method.isBlank()) {
+            return "GET";
+        }
+        String normalized = method.trim().toUpperCase(Locale.ROOT);
+        if (!METHODS.contains(normalized)) {
+            throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
+        return normalized;
+    }
+
+    public HttpLoadTarget create(String targetUrl, String method, String body) {
+        HttpRequest.BodyPublisher publisher = body == null || body.isEmpty()
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest.Builder request = HttpRequest.newBuilder(resolve(targetUrl))
+                .timeout(requestTimeout)
+                .method(resolveMethod(method), publisher);
+        if (body != null && !body.isEmpty()) {
+            request.header("Content-Type", "application/json");
+        }
+        return new HttpLoadTarget(client, request.build());
+    }
+
+    /**
+     * Compiles a scenario. Relative template paths are appended to {@code targetUrl}, ahead of any
+     * query string it has, so stub overrides such as {@code ?latencyMs=5} apply to every template.
+     *
+     * @throws IllegalArgumentException if a template, parameter or resulting URL is invalid
+     */
+    public ScenarioLoadTarget createScenario(String targetUrl, List<RequestTemplate> templates,
+                                             ScheduledExecutorService timer) {
+        if (templates == null || templates.isEmpty()) {
+            throw new IllegalArgumentException("Scenario requires at least one request template");
+        }
+        URI base = resolve(targetUrl);
+        String prefix = base.getScheme() + "://" + base.getRawAuthority()
+                + (base.getRawPath() == null ? "" : base.getRawPath().replaceAll("/+$", ""));
+        List<ScenarioLoadTarget.Template> compiled = new ArrayList<>(templates.size());
+        for (RequestTemplate template : templates) {
+            String name = template.getName();
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Template name is required");
+            }
+            if (template.getWeight() == null || !(template.getWeight() > 0)) {
+                throw new IllegalArgumentException("Template " + name + " requires a positive weight");
+            }
+            Map<String, ParameterGenerator> parameters = new LinkedHashMap<>();
+            if (template.getParameters() != null) {
+                template.getParameters().forEach((parameter, spec) ->
+                        parameters.put(parameter, ParameterGenerator.of(parameter, spec)));
+            }
+            String path = template.getPath() == null ? "" : template.getPath().trim();
+            String url = path.contains("://") ? path
+                    : prefix + (path.isEmpty() || path.startsWith("/") ? "" : "/") + path;
+            if (base.getRawQuery() != null && !url.equals(path)) {
+                url += (url.contains("?") ? "&" : "?") + base.getRawQuery();
+            }
+            ScenarioLoadTarget.Template compiledTemplate = new ScenarioLoadTarget.Template(
+                    name.trim(), template.getWeight(), resolveMethod(template.getHttpMethod()), url,
+                    template.getRequestBody(), parameters,
+                    template.getThinkTimeMs() != null ? template.getThinkTimeMs() : 0,
+                    template.getThinkTimeJitterMs() != null ? template.getThinkTimeJitterMs() : 0);
+            String[] sample = new String[parameters.size()];
+            Arrays.fill(sample, "0");
+            resolve(compiledTemplate.url.render(sample));
+            compiled.add(compiledTemplate);
+        }
+        return new ScenarioLoadTarget(client, requestTimeout, timer, compiled);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callbacks.shutdownNow();
+    }
+}
@@ -0,0 +1,104 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe latency histogram in microseconds, covering one microsecond to one hour at two
+ * significant digits (1% value precision).
+ *
+ * <p>Samples go to one of a fixed set of {@link Recorder} stripes picked by thread id, so recording
+ * is a wait-free, allocation-free atomic increment and threads rarely share a stripe. The stripes are
+ * not owned by threads, so memory stays bounded however many threads record, such as one virtual
+ * thread per response. Readers swap out every stripe's interval histogram and fold it into a merged
+ * total, so reads never stall writers.</p>
+ */
+public class LatencyRecorder {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    static final int SIGNIFICANT_DIGITS = 2;
+    /** Upper bound on stripes; each holds two histograms of about 50 KB. */
+    static final int MAX_STRIPES = 8;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    /** All samples harvested so far; guarded by {@code this}. */
+    private final Histogram merged = newHistogram();
+    /** Samples harvested since the last {@link #intervalSnapshot()}; guarded by {@code this}. */
+    private final Histogram sinceInterval = newHistogram();
+
+    public LatencyRecorder() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism expected number of threads recording at once; rounded up to a power of two
+     *                    and capped at {@link #MAX_STRIPES}
+     */
+    LatencyRecorder(int parallelism) {
+        int count = Integer.highestOneBit(Math.max(1, Math.min(parallelism, MAX_STRIPES)) * 2 - 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = count - 1;
+    }
+
+    public void record(long nanos) {
+        long micros = Math.min(Math.max(nanos, 0) / 1_000, HIGHEST_TRACKABLE_MICROS);
+        stripes[(int) Thread.currentThread().getId() & stripeMask].recorder.recordValue(micros);
+    }
+
+    /**
+     * Adds samples recorded elsewhere, such as on a remote worker, as if they were recorded here.
+     */
+    public synchronized void add(LatencySnapshot samples) {
+        merged.add(samples.histogram());
+        sinceInterval.add(samples.histogram());
+    }
+
+    /**
+     * Harvests every stripe's samples and returns an immutable view of everything recorded so far.
+     */
+    public synchronized LatencySnapshot snapshot() {
+        harvest();
+        return new LatencySnapshot(merged.copy());
+    }
+
+    /**
+     * Harvests every stripe's samples and returns only those recorded since the previous call, for a
+     * single periodic reader such as a live metrics stream. Cumulative snapshots are unaffected.
+     */
+    public synchronized LatencySnapshot intervalSnapshot() {
+        harvest();
+        LatencySnapshot interval = new LatencySnapshot(sinceInterval.copy());
+        sinceInterval.reset();
+        return interval;
+    }
+
+    private void harvest() {
+        for (Stripe stripe : stripes) {
+            stripe.spare = stripe.recorder.getIntervalHistogram(stripe.spare);
+            merged.add(stripe.spare);
+            sinceInterval.add(stripe.spare);
+        }
+    }
+
+    static Histogram newHistogram() {
+        return new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    int getStripeCount() {
+        return stripes.length;
+    }
+
+    private static final class Stripe {
+
+        final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        /** Interval histogram handed back to the recorder for reuse on the next harvest. */
+        Histogram spare;
+    }
+}
@@ -0,0 +1,103 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.model.dto.LatencyBucket;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+
+/**
+ * Point-in-time copy of a {@link LatencyRecorder}, reported in milliseconds.
+ */
+public class LatencySnapshot {
+
+    /** Upper bounds of the reported distribution buckets, 1-2-5 steps from 1 ms to 10 s. */
+    private static final double[] BUCKET_BOUNDS_MS = {
+            1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000
+    };
+
+    private final Histogram histogram;
+
+    LatencySnapshot(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    /**
+     * Decodes a snapshot written by {@link #toByteArray()}, e.g. on another instance.
+     */
+    public static LatencySnapshot fromByteArray(byte[] encoded) {
+        try {
+            return new LatencySnapshot(Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(encoded), 0));
+        } catch (DataFormatException | RuntimeException e) {
+            throw new IllegalArgumentException("Not an encoded latency histogram", e);
+        }
+    }
+
+    /**
+     * Compact, mergeable encoding in HdrHistogram's compressed format; typically a few hundred bytes
+     * because only recorded buckets are written.
+     */
+    public byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    /**
+     * Samples in this snapshot that are not in {@code earlier}, a snapshot of the same recorder.
+     */
+    public LatencySnapshot minus(LatencySnapshot earlier) {
+        Histogram difference = histogram.copy();
+        difference.subtract(earlier.histogram);
+        return new LatencySnapshot(difference);
+    }
+
+    Histogram histogram() {
+        return histogram;
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public double getMeanMillis() {
+        return getCount() == 0 ? 0 : histogram.getMean() / 1_000.0;
+    }
+
+    public double getMinMillis() {
+        return getCount() == 0 ? 0 : histogram.getMinValue() / 1_000.0;
+    }
+
+    public double getMaxMillis() {
+        return getCount() == 0 ? 0 : histogram.getMaxValue() / 1_000.0;
+    }
+
+    /**
+     * Latency at or below which {@code percentile} percent of samples fall, e.g. {@code 99.9}.
+     */
+    public double getPercentileMillis(double percentile) {
+        return getCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    /**
+     * Sample counts per bucket; every bucket is present, including empty ones, so distributions from
+     * different runs line up.
+     */
+    public List<LatencyBucket> getDistribution() {
+        long[] counts = new long[BUCKET_BOUNDS_MS.length + 1];
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            double millis = histogram.lowestEquivalentValue(value.getValueIteratedTo()) / 1_000.0;
+            int index = Arrays.binarySearch(BUCKET_BOUNDS_MS, millis);
+            counts[index >= 0 ? index : -index - 1] += value.getCountAtValueIteratedTo();
+        }
+        List<LatencyBucket> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            buckets.add(new LatencyBucket(i < BUCKET_BOUNDS_MS.length ? BUCKET_BOUNDS_MS[i] : null, counts[i]));
+        }
+        return buckets;
+    }
+}
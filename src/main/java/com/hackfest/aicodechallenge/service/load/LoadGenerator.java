@@ -0,0 +1,212 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.service.execution.ExecutionStrategy;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator.
+ *
+ * <p>Each run gets a pacing thread that releases arrivals on a schedule derived from the plan's rate
+ * or load profile, independent of how fast responses come back. An arrival is sent immediately if
+ * fewer than {@code concurrency} requests are outstanding, otherwise it waits in a backlog and is
+ * sent as soon as a slot frees up. Slow responses therefore grow the backlog and the measured
+ * latency instead of quietly reducing the offered load.</p>
+ *
+ * <p>The pacer parks until {@code spin-nanos} before each arrival and spins for the rest, since a
+ * park alone wakes up tens of microseconds late, which is most of the gap between arrivals at
+ * several thousand requests per second. How late each arrival was released is recorded as the run's
+ * schedule lag; arrivals that fall behind are released at once rather than skipped. Pacers always
+ * run on platform threads, whatever the configured execution strategy: a spinning virtual thread
+ * would hold one of the few carrier threads the other virtual threads share.</p>
+ */
+@Slf4j
+@Component
+public class LoadGenerator {
+
+    private final ExecutorService pacers;
+    private final ScheduledExecutorService timer;
+    private final long spinNanos;
+
+    public LoadGenerator(ExecutorRegistry executorRegistry,
+                         @Value("${load.generator.max-concurrent-runs:4}") int maxConcurrentRuns,
+                         @Value("${load.generator.timer-threads:2}") int timerThreads,
+                         @Value("${load.generator.spin-nanos:50000}") long spinNanos) {
+        this.spinNanos = spinNanos;
+        this.pacers = executorRegistry.create("load-pacers", ExecutionStrategy.PLATFORM,
+                maxConcurrentRuns, Integer.MAX_VALUE);
+        this.timer = Executors.newScheduledThreadPool(timerThreads, ExecutorRegistry.daemonThreads("LoadTimer-"));
+    }
+
+    /**
+     * Shared timer for targets that complete responses after a delay, such as
+     * {@link SimulatedLoadTarget}.
+     */
+    public ScheduledExecutorService getTimer() {
+        return timer;
+    }
+
+    /**
+     * Starts a run asynchronously; it queues if all pacing threads are busy with other runs.
+     */
+    public LoadRun start(LoadPlan plan, LoadTarget target) {
+        if (plan.getTotalRequests() < 1 || plan.getConcurrency() < 1 || !(plan.getRatePerSecond() > 0)) {
+            throw new IllegalArgumentException("Load plan requires positive request count, concurrency and rate");
+        }
+        LoadRun run = new LoadRun(plan);
+        run.setTemplates(target.templates());
+        CompletableFuture.runAsync(() -> pace(run, target), pacers)
+                .exceptionally(error -> {
+                    log.error("Load run {} failed", run.getId(), error);
+                    run.markFinished("FAILED");
+                    return null;
+                });
+        return run;
+    }
+
+    /**
+     * Stops releasing arrivals of {@code run} and drops its backlog. Requests already sent are still
+     * awaited and recorded, then the run finishes as {@code CANCELLED}.
+     */
+    public void cancel(LoadRun run) {
+        run.cancelled = true;
+        Thread pacer = run.pacer;
+        if (pacer != null) {
+            LockSupport.unpark(pacer);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pacers.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    private void pace(LoadRun run, LoadTarget target) {
+        LoadPlan plan = run.getPlan();
+        run.pacer = Thread.currentThread();
+        run.markStarted();
+        long start = run.getStartNanos();
+        try {
+            for (int i = 0; i < plan.getTotalRequests() && !run.cancelled; i++) {
+                long intended = start + plan.offsetNanos(i);
+                long now = awaitRelease(run, intended);
+                if (run.cancelled) {
+                    break;
+                }
+                run.getScheduleLag().record(now - intended);
+                run.getMaxBacklog().accumulateAndGet(run.addToBacklog(intended), Math::max);
+                drain(run, target);
+            }
+        } finally {
+            run.pacer = null;
+        }
+        if (run.cancelled) {
+            run.clearBacklog();
+            run.pacingDone = true;
+            finishIfCancelled(run);
+        }
+    }
+
+    /**
+     * Waits until {@code intended} or cancellation, parking while far from it and spinning over the
+     * last {@code spinNanos}. Returns the release time.
+     */
+    private long awaitRelease(LoadRun run, long intended) {
+        long now;
+        long wait;
+        while ((wait = intended - (now = System.nanoTime())) > 0 && !run.cancelled) {
+            if (wait > spinNanos) {
+                LockSupport.parkNanos(wait - spinNanos);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        return now;
+    }
+
+    /**
+     * Finishes a cancelled run once pacing has stopped and nothing is in flight. Called from both
+     * sides, so whichever happens last finishes the run.
+     */
+    private static void finishIfCancelled(LoadRun run) {
+        if (run.cancelled && run.pacingDone && run.inFlight.get() == 0 && !run.isFinished()) {
+            run.markFinished("CANCELLED");
+        }
+    }
+
+    /**
+     * Sends backlogged arrivals while slots are free. Called after every arrival and completion; each
+     * side re-checks after its own update, so no arrival is stranded in the backlog.
+     */
+    private void drain(LoadRun run, LoadTarget target) {
+        int concurrency = run.getPlan().getConcurrency();
+        while (!run.backlog.isEmpty()) {
+            if (run.cancelled) {
+                run.clearBacklog();
+                return;
+            }
+            int current = run.inFlight.get();
+            if (current >= concurrency) {
+                return;
+            }
+            if (!run.inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Long intended = run.pollBacklog();
+            if (intended == null) {
+                run.inFlight.decrementAndGet();
+                return;
+            }
+            send(run, target, intended);
+        }
+    }
+
+    private void send(LoadRun run, LoadTarget target, long intended) {
+        run.getIssued().incrementAndGet();
+        Arrival arrival = new Arrival(intended);
+        CompletableFuture<Boolean> response = sendSafely(target, arrival);
+        if (response.isDone()) {
+            // Completed inline (e.g. rejected before sending): let the caller's drain loop continue
+            // instead of recursing into drain() once per backlogged arrival
+            onResponse(run, response, arrival);
+            return;
+        }
+        response.whenComplete((success, error) -> {
+            onResponse(run, response, arrival);
+            drain(run, target);
+        });
+    }
+
+    private static CompletableFuture<Boolean> sendSafely(LoadTarget target, Arrival arrival) {
+        try {
+            return target.send(arrival);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void onResponse(LoadRun run, CompletableFuture<Boolean> response, Arrival arrival) {
+        run.getLatency().record(System.nanoTime() - arrival.getIntendedNanos());
+        if (!response.isCompletedExceptionally() && Boolean.TRUE.equals(response.getNow(false))) {
+            run.getSuccesses().increment();
+        } else {
+            run.getFailures().increment();
+        }
+        run.inFlight.decrementAndGet();
+        if (run.completed.incrementAndGet() == run.getPlan().getTotalRequests()) {
+            run.markFinished("COMPLETED");
+        } else {
+            finishIfCancelled(run);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * How much load to offer: {@code totalRequests} arrivals with at most {@code concurrency} requests
+ * outstanding at once. Arrivals are spaced evenly at {@code ratePerSecond}, or follow
+ * {@code profile} when one is set, in which case {@code ratePerSecond} is its peak rate.
+ */
+@Getter
+@Builder
+public class LoadPlan {
+
+    private final int totalRequests;
+    private final int concurrency;
+    private final double ratePerSecond;
+    private final LoadProfile profile;
+
+    public long intervalNanos() {
+        return Math.max(1L, Math.round(1_000_000_000L / ratePerSecond));
+    }
+
+    /**
+     * Intended send time of arrival {@code i}, relative to the start of the run.
+     */
+    public long offsetNanos(long i) {
+        return profile != null ? profile.offsetNanos(i) : i * intervalNanos();
+    }
+}
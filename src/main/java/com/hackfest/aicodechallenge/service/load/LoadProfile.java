@@ -0,0 +1,156 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.model.dto.LoadStage;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A piecewise-linear arrival rate over time, built from {@link LoadStage}s: ramps, steps, spikes and
+ * soaks are all sequences of linear and constant segments.
+ *
+ * <p>Arrival {@code i} is scheduled at the instant the integral of the rate reaches {@code i}, solved
+ * in closed form per segment, so the schedule follows the shape exactly at any rate and never
+ * accumulates rounding drift.</p>
+ */
+public class LoadProfile {
+
+    public static final String LINEAR = "LINEAR";
+    public static final String STEP = "STEP";
+
+    private final List<LoadStage> stages;
+    /** Per segment: start offset in seconds, start and end rate, and arrivals before its end. */
+    private final double[] startSeconds;
+    private final double[] startRate;
+    private final double[] endRate;
+    private final double[] endCount;
+    private final double durationSeconds;
+    private final double peakRate;
+
+    private LoadProfile(List<LoadStage> stages) {
+        int n = stages.size();
+        this.stages = stages;
+        this.startSeconds = new double[n];
+        this.startRate = new double[n];
+        this.endRate = new double[n];
+        this.endCount = new double[n];
+        double time = 0;
+        double count = 0;
+        double rate = 0;
+        double peak = 0;
+        for (int i = 0; i < n; i++) {
+            LoadStage stage = stages.get(i);
+            double duration = stage.getDurationSeconds();
+            double target = stage.getTargetRate();
+            startSeconds[i] = time;
+            startRate[i] = STEP.equals(shape(stage)) ? target : rate;
+            endRate[i] = target;
+            count += (startRate[i] + endRate[i]) / 2 * duration;
+            endCount[i] = count;
+            time += duration;
+            rate = target;
+            peak = Math.max(peak, target);
+        }
+        this.durationSeconds = time;
+        this.peakRate = peak;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the stages are missing, invalid, or offer no requests
+     */
+    public static LoadProfile of(List<LoadStage> stages) {
+        if (stages == null || stages.isEmpty()) {
+            throw new IllegalArgumentException("Load profile requires at least one stage");
+        }
+        for (LoadStage stage : stages) {
+            if (stage.getDurationSeconds() == null || stage.getDurationSeconds() < 1) {
+                throw new IllegalArgumentException("Stage duration must be positive");
+            }
+            if (stage.getTargetRate() == null || !(stage.getTargetRate() >= 0)
+                    || Double.isInfinite(stage.getTargetRate())) {
+                throw new IllegalArgumentException("Stage target rate must not be negative");
+            }
+            shape(stage);
+        }
+        LoadProfile profile = new LoadProfile(List.copyOf(stages));
+        if (profile.endCount[stages.size() - 1] >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Load profile exceeds " + Integer.MAX_VALUE + " requests");
+        }
+        if (profile.getTotalRequests() < 1) {
+            throw new IllegalArgumentException("Load profile offers no requests");
+        }
+        return profile;
+    }
+
+    public List<LoadStage> getStages() {
+        return stages;
+    }
+
+    /** Arrivals over the whole profile, rounded down. */
+    public int getTotalRequests() {
+        return (int) Math.floor(endCount[endCount.length - 1] + 1e-9);
+    }
+
+    public double getPeakRate() {
+        return peakRate;
+    }
+
+    public int getDurationSeconds() {
+        return (int) durationSeconds;
+    }
+
+    /**
+     * The same shape at {@code factor} times the rate, for one worker's share of a distributed run.
+     */
+    public LoadProfile scale(double factor) {
+        return new LoadProfile(stages.stream()
+                .map(stage -> new LoadStage(stage.getDurationSeconds(), stage.getTargetRate() * factor,
+                        shape(stage)))
+                .toList());
+    }
+
+    /**
+     * Offset of arrival {@code i} from the start of the run. Arrivals beyond the profile continue at
+     * its final rate, so a plan may safely round its request count up.
+     */
+    public long offsetNanos(long i) {
+        int last = endCount.length - 1;
+        if (i >= endCount[last]) {
+            double extra = endRate[last] > 0 ? (i - endCount[last]) / endRate[last] : 0;
+            return toNanos(durationSeconds + extra);
+        }
+        // First segment that ends after arrival i; empty segments (zero rate) are skipped
+        int low = 0;
+        int high = last;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (endCount[mid] > i) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        double k = i - (low == 0 ? 0 : endCount[low - 1]);
+        double a = startRate[low];
+        double duration = (low == last ? durationSeconds : startSeconds[low + 1]) - startSeconds[low];
+        double slope = (endRate[low] - a) / duration;
+        // Solves a*t + slope*t^2/2 = k in the form that stays accurate as slope approaches zero
+        double t = k == 0 ? 0 : 2 * k / (a + Math.sqrt(Math.max(0, a * a + 2 * slope * k)));
+        return toNanos(startSeconds[low] + Math.min(t, duration));
+    }
+
+    private static long toNanos(double seconds) {
+        return Math.round(seconds * 1_000_000_000L);
+    }
+
+    private static String shape(LoadStage stage) {
+        if (stage.getShape() == null || stage.getShape().isBlank()) {
+            return LINEAR;
+        }
+        String shape = stage.getShape().trim().toUpperCase(Locale.ROOT);
+        if (!LINEAR.equals(shape) && !STEP.equals(shape)) {
+            throw new IllegalArgumentException("Unsupported stage shape: " + stage.getShape());
+        }
+        return shape;
+    }
+}
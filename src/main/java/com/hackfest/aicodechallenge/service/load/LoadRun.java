@@ -0,0 +1,138 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * State and live counters of one load generation run.
+ *
+ * <p>Latency is measured from each request's <em>intended</em> send time, so time spent waiting for
+ * a free concurrency slot is charged to the request rather than silently dropped.</p>
+ */
+@Getter
+public class LoadRun {
+
+    private final String id = UUID.randomUUID().toString();
+    private final LoadPlan plan;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final LatencyRecorder latency = new LatencyRecorder();
+    /** How late the pacer released each arrival relative to its schedule. */
+    private final LatencyRecorder scheduleLag = new LatencyRecorder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicLong issued = new AtomicLong();
+    private final AtomicInteger maxBacklog = new AtomicInteger();
+    private final CompletableFuture<LoadRun> completion = new CompletableFuture<>();
+    /** Workers that stopped reporting during a distributed run. */
+    private final AtomicInteger lostWorkers = new AtomicInteger();
+
+    private volatile String status = "PENDING";
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile long startNanos;
+    private volatile long endNanos;
+    /** Number of workers the run was split across; 0 for a local run. */
+    private volatile int workers;
+    /** Per-template results when the target is a scenario; empty otherwise. */
+    private volatile List<TemplateStats> templates = List.of();
+
+    /** Set by {@link LoadGenerator#cancel}; no further arrivals are sent once it is. */
+    volatile boolean cancelled;
+    /** Set once the pacing thread has stopped releasing arrivals. */
+    volatile boolean pacingDone;
+    volatile Thread pacer;
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger completed = new AtomicInteger();
+    final ConcurrentLinkedQueue<Long> backlog = new ConcurrentLinkedQueue<>();
+    /** Arrivals waiting in {@link #backlog}, whose own size() walks the whole queue. */
+    final AtomicInteger backlogDepth = new AtomicInteger();
+
+    LoadRun(LoadPlan plan) {
+        this.plan = plan;
+    }
+
+    /**
+     * Queues an intended send time and returns the backlog depth including it.
+     */
+    int addToBacklog(long intended) {
+        backlog.add(intended);
+        return backlogDepth.incrementAndGet();
+    }
+
+    Long pollBacklog() {
+        Long intended = backlog.poll();
+        if (intended != null) {
+            backlogDepth.decrementAndGet();
+        }
+        return intended;
+    }
+
+    void clearBacklog() {
+        while (pollBacklog() != null) {
+            // keeps the depth in step with concurrent pollers
+        }
+    }
+
+    public long getCompletedRequests() {
+        return completed.get();
+    }
+
+    public int getInFlightRequests() {
+        return inFlight.get();
+    }
+
+    /**
+     * Seconds since the run started, up to its end once finished.
+     */
+    public double getElapsedSeconds() {
+        if (startNanos == 0) {
+            return 0;
+        }
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000_000.0;
+    }
+
+    public double getThroughput() {
+        double elapsed = getElapsedSeconds();
+        return elapsed > 0 ? completed.get() / elapsed : 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isFinished() {
+        return completion.isDone();
+    }
+
+    void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    void setTemplates(List<TemplateStats> templates) {
+        this.templates = templates;
+    }
+
+    void markStarted() {
+        startNanos = System.nanoTime();
+        startedAt = LocalDateTime.now();
+        status = "RUNNING";
+    }
+
+    void markFinished(String finalStatus) {
+        if (endNanos == 0) {
+            endNanos = System.nanoTime();
+        }
+        completedAt = LocalDateTime.now();
+        status = finalStatus;
+        completion.complete(this);
+    }
+}
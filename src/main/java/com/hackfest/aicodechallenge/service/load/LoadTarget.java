@@ -0,0 +1,32 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Something the load generator can send requests to.
+ *
+ * <p>Implementations must not block the caller: {@link #send()} is invoked from the pacing thread
+ * and from completion callbacks, and returns a future that completes with {@code true} for a
+ * successful response and {@code false} (or exceptionally) for a failed one.</p>
+ */
+@FunctionalInterface
+public interface LoadTarget {
+
+    CompletableFuture<Boolean> send();
+
+    /**
+     * Sends the request for {@code arrival}. Targets that time requests themselves or delay them on
+     * purpose override this instead of {@link #send()}.
+     */
+    default CompletableFuture<Boolean> send(Arrival arrival) {
+        return send();
+    }
+
+    /**
+     * Per-template results for targets that mix several kinds of request; empty otherwise.
+     */
+    default List<TemplateStats> templates() {
+        return List.of();
+    }
+}
@@ -0,0 +1,151 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.model.dto.WorkerReport;
+import com.hackfest.aicodechallenge.model.dto.WorkerRunRequest;
+import com.hackfest.aicodechallenge.service.TestScheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs shares of distributed tests on behalf of a {@link DistributedLoadCoordinator} on another
+ * instance. Finished runs are kept for {@code load.worker.retention-ms} so the coordinator can
+ * collect their final report.
+ *
+ * <p>The worker API makes this host send load to any URL, so it is off unless
+ * {@code load.worker.enabled} is set, and then every call must carry the shared
+ * {@code load.worker.token} in the {@value #TOKEN_HEADER} header. Each share is admitted against the
+ * local {@link TestScheduler} budget like any other test, and refused rather than queued when it
+ * does not fit, since the coordinator is already pacing it.</p>
+ */
+@Slf4j
+@Component
+public class LoadWorker {
+
+    public static final String TOKEN_HEADER = "X-Worker-Token";
+
+    private final LoadGenerator loadGenerator;
+    private final HttpLoadTargetFactory httpLoadTargetFactory;
+    private final TestScheduler testScheduler;
+    private final boolean enabled;
+    private final byte[] token;
+    private final long retentionMs;
+    private final Map<String, LoadRun> runs = new ConcurrentHashMap<>();
+
+    public LoadWorker(LoadGenerator loadGenerator,
+                      HttpLoadTargetFactory httpLoadTargetFactory,
+                      TestScheduler testScheduler,
+                      @Value("${load.worker.enabled:false}") boolean enabled,
+                      @Value("${load.worker.token:}") String token,
+                      @Value("${load.worker.retention-ms:600000}") long retentionMs) {
+        if (enabled && token.isBlank()) {
+            throw new IllegalArgumentException("load.worker.token is required when load.worker.enabled is set");
+        }
+        this.loadGenerator = loadGenerator;
+        this.httpLoadTargetFactory = httpLoadTargetFactory;
+        this.testScheduler = testScheduler;
+        this.enabled = enabled;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.retentionMs = retentionMs;
+    }
+
+    /**
+     * Starts the run, or returns the existing one with the same id.
+     *
+     * @throws SecurityException if {@code token} is not the shared worker token
+     * @throws IllegalStateException if this instance does not accept work, or the share does not fit
+     *         the scheduler budget right now
+     * @throws IllegalArgumentException if the share's rate exceeds the scheduler budget
+     */
+    public WorkerReport start(String token, WorkerRunRequest request) {
+        authorize(token);
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMs * 1_000_000);
+        runs.values().removeIf(run -> run.isFinished() && run.getCompletedAt().isBefore(cutoff));
+
+        // Build the target first so an invalid request fails without leaving a run behind
+        HttpLoadTarget target = httpLoadTargetFactory.create(
+                request.getTargetUrl(), request.getHttpMethod(), request.getRequestBody());
+        LoadPlan plan = LoadPlan.builder()
+                .totalRequests(request.getTotalRequests())
+                .concurrency(request.getConcurrency())
+                .ratePerSecond(request.getRatePerSecond())
+                .profile(request.getStages() != null ? LoadProfile.of(request.getStages()) : null)
+                .build();
+        double peakRate = plan.getProfile() != null
+                ? Math.max(plan.getRatePerSecond(), plan.getProfile().getPeakRate())
+                : plan.getRatePerSecond();
+        int requestsPerSecond = (int) Math.min(Integer.MAX_VALUE, Math.ceil(peakRate));
+        testScheduler.validate(requestsPerSecond);
+        LoadRun run = runs.computeIfAbsent(request.getRunId(), id -> {
+            TestScheduler.Ticket ticket = testScheduler.tryAdmit(id, TestScheduler.DEFAULT_TENANT, requestsPerSecond)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "Worker is at its scheduler budget; cannot start " + requestsPerSecond + " req/s"));
+            LoadRun started;
+            try {
+                started = loadGenerator.start(plan, target);
+            } catch (RuntimeException e) {
+                testScheduler.release(ticket);
+                throw e;
+            }
+            started.getCompletion().whenComplete((finished, error) -> testScheduler.release(ticket));
+            log.info("Started worker run {}: {} requests at {} req/s", id, plan.getTotalRequests(),
+                    plan.getRatePerSecond());
+            return started;
+        });
+        return report(request.getRunId(), run);
+    }
+
+    public WorkerReport getReport(String token, String runId) {
+        authorize(token);
+        return report(runId, findRun(runId));
+    }
+
+    public WorkerReport cancel(String token, String runId) {
+        authorize(token);
+        LoadRun run = findRun(runId);
+        loadGenerator.cancel(run);
+        return report(runId, run);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private LoadRun findRun(String runId) {
+        LoadRun run = runs.get(runId);
+        if (run == null) {
+            throw new IllegalArgumentException("Worker run not found: " + runId);
+        }
+        return run;
+    }
+
+    private void authorize(String presented) {
+        if (!enabled) {
+            throw new IllegalStateException("This instance does not accept load worker runs");
+        }
+        // Constant-time comparison, so the token cannot be guessed from response timing
+        if (presented == null || !MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            throw new SecurityException("Missing or invalid " + TOKEN_HEADER);
+        }
+    }
+
+    private static WorkerReport report(String runId, LoadRun run) {
+        return WorkerReport.builder()
+                .runId(runId)
+                .status(run.getStatus())
+                .elapsedSeconds(run.getElapsedSeconds())
+                .completedRequests(run.getCompletedRequests())
+                .successfulRequests(run.getSuccesses().sum())
+                .failedRequests(run.getFailures().sum())
+                .inFlightRequests(run.getInFlightRequests())
+                .latencyHistogram(run.getLatency().snapshot().toByteArray())
+                .scheduleLagHistogram(run.getScheduleLag().snapshot().toByteArray())
+                .build();
+    }
+}
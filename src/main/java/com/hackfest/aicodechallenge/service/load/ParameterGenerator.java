@@ -0,0 +1,89 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.model.dto.ParameterSpec;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Produces a value for a request template parameter on every request. Implementations are called
+ * concurrently and must be thread-safe.
+ */
+@FunctionalInterface
+public interface ParameterGenerator {
+
+    String next(RandomGenerator random);
+
+    /**
+     * @throws IllegalArgumentException if {@code spec} is incomplete or inconsistent
+     */
+    static ParameterGenerator of(String name, ParameterSpec spec) {
+        if (spec == null || spec.getType() == null) {
+            throw new IllegalArgumentException("Parameter " + name + " requires a type");
+        }
+        long min = spec.getMin() != null ? spec.getMin() : Long.MIN_VALUE;
+        long max = spec.getMax() != null ? spec.getMax() : Long.MAX_VALUE;
+        if (min > max) {
+            throw new IllegalArgumentException("Parameter " + name + " has min above max");
+        }
+        switch (spec.getType().trim().toUpperCase(Locale.ROOT)) {
+            case "UNIFORM" -> {
+                if (spec.getMin() == null || spec.getMax() == null || max == Long.MAX_VALUE) {
+                    throw new IllegalArgumentException("Parameter " + name + " requires min and max");
+                }
+                return random -> String.valueOf(random.nextLong(min, max + 1));
+            }
+            case "NORMAL" -> {
+                double mean = required(name, "mean", spec.getMean());
+                double stddev = required(name, "stddev", spec.getStddev());
+                if (stddev < 0) {
+                    throw new IllegalArgumentException("Parameter " + name + " requires a non-negative stddev");
+                }
+                return random -> String.valueOf(clamp(Math.round(random.nextGaussian(mean, stddev)), min, max));
+            }
+            case "EXPONENTIAL" -> {
+                double mean = required(name, "mean", spec.getMean());
+                if (!(mean > 0)) {
+                    throw new IllegalArgumentException("Parameter " + name + " requires a positive mean");
+                }
+                return random -> String.valueOf(clamp(Math.round(random.nextExponential() * mean), min, max));
+            }
+            case "SEQUENCE" -> {
+                long start = spec.getMin() != null ? min : 0;
+                AtomicLong counter = new AtomicLong();
+                long span = max - start + 1;
+                return random -> {
+                    long offset = counter.getAndIncrement();
+                    return String.valueOf(span > 0 ? start + Math.floorMod(offset, span) : start + offset);
+                };
+            }
+            case "CHOICE" -> {
+                List<String> values = spec.getValues();
+                if (values == null || values.isEmpty()) {
+                    throw new IllegalArgumentException("Parameter " + name + " requires values");
+                }
+                String[] choices = values.toArray(String[]::new);
+                return random -> choices[random.nextInt(choices.length)];
+            }
+            case "UUID" -> {
+                return random -> new UUID(random.nextLong(), random.nextLong()).toString();
+            }
+            default -> throw new IllegalArgumentException(
+                    "Unsupported parameter type for " + name + ": " + spec.getType());
+        }
+    }
+
+    private static double required(String name, String field, Double value) {
+        if (value == null || value.isNaN() || value.isInfinite()) {
+            throw new IllegalArgumentException("Parameter " + name + " requires " + field);
+        }
+        return value;
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,219 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sends a weighted mix of request templates. Each arrival picks a template with an
+ * {@link AliasSampler}, fills its placeholders from the template's parameter generators, waits out
+ * its think time on the shared timer and sends the request.
+ *
+ * <p>Think time holds the arrival's concurrency slot, like a virtual user pausing between pages, but
+ * is not charged as latency. Every template keeps its own counters and latency histogram next to the
+ * run's aggregate.</p>
+ */
+public class ScenarioLoadTarget implements LoadTarget {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Za-z0-9_.-]+)}");
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final ScheduledExecutorService timer;
+    private final List<Template> templates;
+    private final List<TemplateStats> stats;
+    private final AliasSampler sampler;
+
+    ScenarioLoadTarget(HttpClient client, Duration requestTimeout, ScheduledExecutorService timer,
+                       List<Template> templates) {
+        this.client = client;
+        this.requestTimeout = requestTimeout;
+        this.timer = timer;
+        this.templates = List.copyOf(templates);
+        this.stats = this.templates.stream().map(template -> template.stats).toList();
+        this.sampler = new AliasSampler(this.templates.stream()
+                .mapToDouble(template -> template.stats.getWeight())
+                .toArray());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> send() {
+        return send(new Arrival(System.nanoTime()));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> send(Arrival arrival) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Template template = templates.get(sampler.sample(random));
+        HttpRequest request;
+        try {
+            request = template.build(random, requestTimeout);
+        } catch (IllegalArgumentException e) {
+            template.stats.getFailures().increment();
+            return CompletableFuture.failedFuture(e);
+        }
+        long think = template.thinkNanos(random);
+        if (think == 0) {
+            return send(template, request, arrival);
+        }
+        arrival.delay(think);
+        CompletableFuture<Boolean> response = new CompletableFuture<>();
+        timer.schedule(() -> send(template, request, arrival).whenComplete((success, error) -> {
+            if (error != null) {
+                response.completeExceptionally(error);
+            } else {
+                response.complete(success);
+            }
+        }), think, TimeUnit.NANOSECONDS);
+        return response;
+    }
+
+    @Override
+    public List<TemplateStats> templates() {
+        return stats;
+    }
+
+    private CompletableFuture<Boolean> send(Template template, HttpRequest request, Arrival arrival) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    boolean success = error == null && response.statusCode() < 400;
+                    template.stats.getLatency().record(System.nanoTime() - arrival.getIntendedNanos());
+                    (success ? template.stats.getSuccesses() : template.stats.getFailures()).increment();
+                    return success;
+                });
+    }
+
+    /**
+     * A request template compiled for fast rendering: placeholders are resolved to generator indexes
+     * once, so each request only draws values and concatenates.
+     */
+    static final class Template {
+
+        final TemplateStats stats;
+        final String method;
+        final Text url;
+        final Text body;
+        final ParameterGenerator[] generators;
+        final long thinkNanos;
+        final long thinkJitterNanos;
+
+        Template(String name, double weight, String method, String url, String body,
+                 Map<String, ParameterGenerator> parameters, long thinkMs, long thinkJitterMs) {
+            List<String> names = new ArrayList<>(parameters.keySet());
+            this.stats = new TemplateStats(name, weight);
+            this.method = method;
+            this.url = Text.compile(url, names, Escaping.URL);
+            this.body = body == null || body.isEmpty() ? null : Text.compile(body, names, Escaping.JSON);
+            this.generators = names.stream().map(parameters::get).toArray(ParameterGenerator[]::new);
+            this.thinkNanos = TimeUnit.MILLISECONDS.toNanos(thinkMs);
+            this.thinkJitterNanos = TimeUnit.MILLISECONDS.toNanos(thinkJitterMs);
+        }
+
+        HttpRequest build(ThreadLocalRandom random, Duration timeout) {
+            String[] values = new String[generators.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = generators[i].next(random);
+            }
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url.render(values)))
+                    .timeout(timeout);
+            if (body == null) {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.ofString(body.render(values)))
+                        .header("Content-Type", "application/json");
+            }
+            return request.build();
+        }
+
+        long thinkNanos(ThreadLocalRandom random) {
+            return thinkNanos + (thinkJitterNanos > 0 ? random.nextLong(thinkJitterNanos + 1) : 0);
+        }
+    }
+
+    /**
+     * How generated values are escaped for the part of the request they are rendered into.
+     */
+    enum Escaping {
+
+        /**
+         * Query or path component, percent-encoded so a space becomes {@code %20}: form encoding's
+         * {@code +} would be a literal plus in a path.
+         */
+        URL,
+
+        /** Content of a JSON string, which bodies are sent as; digits pass through unchanged. */
+        JSON;
+
+        void append(StringBuilder out, String value) {
+            if (this == URL) {
+                // A literal plus is already %2B, so every remaining + stands for a space
+                out.append(URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20"));
+                return;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.append(c);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Text with {@code {name}} placeholders, split into literals and parameter indexes.
+     */
+    record Text(String[] literals, int[] parameters, Escaping escaping) {
+
+        static Text compile(String text, List<String> names, Escaping escaping) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> parameters = new ArrayList<>();
+            Matcher matcher = PLACEHOLDER.matcher(text);
+            int last = 0;
+            while (matcher.find()) {
+                int index = names.indexOf(matcher.group(1));
+                if (index < 0) {
+                    throw new IllegalArgumentException("No parameter defined for placeholder " + matcher.group());
+                }
+                literals.add(text.substring(last, matcher.start()));
+                parameters.add(index);
+                last = matcher.end();
+            }
+            literals.add(text.substring(last));
+            return new Text(literals.toArray(String[]::new),
+                    parameters.stream().mapToInt(Integer::intValue).toArray(), escaping);
+        }
+
+        String render(String[] values) {
+            StringBuilder out = new StringBuilder(literals[0]);
+            for (int i = 0; i < parameters.length; i++) {
+                escaping.append(out, values[parameters[i]]);
+                out.append(literals[i + 1]);
+            }
+            return out.toString();
+        }
+    }
+}
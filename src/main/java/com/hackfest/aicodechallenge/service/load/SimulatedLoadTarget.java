@@ -0,0 +1,36 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process target that answers after {@code delayMs} plus up to {@code jitterMs} of uniform
+ * jitter and fails a fixed fraction of requests. Responses are completed from a shared timer, so
+ * outstanding requests hold no threads.
+ */
+public class SimulatedLoadTarget implements LoadTarget {
+
+    private final ScheduledExecutorService timer;
+    private final int delayMs;
+    private final int jitterMs;
+    private final double errorRate;
+
+    public SimulatedLoadTarget(ScheduledExecutorService timer, int delayMs, int jitterMs, double errorRate) {
+        this.timer = timer;
+        this.delayMs = delayMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> send() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = delayMs + (jitterMs > 0 ? random.nextInt(jitterMs) : 0);
+        boolean success = random.nextDouble() >= errorRate;
+        CompletableFuture<Boolean> response = new CompletableFuture<>();
+        timer.schedule(() -> response.complete(success), delay, TimeUnit.MILLISECONDS);
+        return response;
+    }
+}
@@ -0,0 +1,218 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded HTTP endpoint on the loopback interface that load tests can target without any external
+ * service.
+ *
+ * <p>Every request is answered after a delay drawn from the configured latency distribution, and a
+ * configured fraction of requests fail with {@code errorStatus}. Any of the defaults can be
+ * overridden per test through query parameters on the target URL, e.g.
+ * {@code /stub?distribution=exponential&latencyMs=5&errorRate=0.02}. Delayed responses are written
+ * from a timer, so waiting requests hold no threads.</p>
+ */
+@Slf4j
+@Component
+public class StubTargetServer {
+
+    public static final String PATH = "/stub";
+
+    /** Upper bound on a sampled delay, so a heavy-tailed distribution cannot park a response forever. */
+    private static final double MAX_LATENCY_MS = 60_000;
+
+    private static final byte[] OK_BODY = "ok".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ERROR_BODY = "stub error".getBytes(StandardCharsets.US_ASCII);
+
+    public enum Distribution {
+        /** Always {@code latencyMs}. */
+        FIXED,
+        /** Uniform over {@code [latencyMs, latencyMs + jitterMs)}. */
+        UNIFORM,
+        /** Exponential with mean {@code latencyMs}. */
+        EXPONENTIAL,
+        /** Log-normal with median {@code latencyMs} and shape {@code sigma}. */
+        LOGNORMAL;
+
+        public static Distribution from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown latency distribution: " + value);
+            }
+        }
+    }
+
+    private final Profile defaults;
+    private final HttpServer server;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService responder;
+
+    public StubTargetServer(@Value("${load.stub.enabled:true}") boolean enabled,
+                            @Value("${load.stub.port:0}") int port,
+                            @Value("${load.stub.distribution:LOGNORMAL}") String distribution,
+                            @Value("${load.stub.latency-ms:20}") double latencyMs,
+                            @Value("${load.stub.jitter-ms:10}") double jitterMs,
+                            @Value("${load.stub.sigma:0.5}") double sigma,
+                            @Value("${load.stub.error-rate:0.01}") double errorRate,
+                            @Value("${load.stub.error-status:503}") int errorStatus) throws IOException {
+        this.defaults = new Profile(Distribution.from(distribution), latencyMs, jitterMs, sigma, errorRate, errorStatus)
+                .validated();
+        if (!enabled) {
+            this.server = null;
+            this.dispatcher = null;
+            this.responder = null;
+            return;
+        }
+        this.dispatcher = Executors.newFixedThreadPool(2, ExecutorRegistry.daemonThreads("StubDispatcher-"));
+        this.responder = Executors.newScheduledThreadPool(2, ExecutorRegistry.daemonThreads("StubResponder-"));
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(dispatcher);
+        server.start();
+        log.info("Stub load target listening on {}", getUri());
+    }
+
+    public boolean isEnabled() {
+        return server != null;
+    }
+
+    /**
+     * Base URI of the stub, answering with the configured default profile.
+     */
+    public URI getUri() {
+        if (server == null) {
+            throw new IllegalStateException("Stub target is disabled");
+        }
+        return URI.create("http://" + server.getAddress().getHostString() + ":"
+                + server.getAddress().getPort() + PATH);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (server != null) {
+            server.stop(0);
+            responder.shutdownNow();
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+        Profile profile;
+        try {
+            profile = defaults.withOverrides(exchange.getRequestURI().getRawQuery());
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, e.getMessage().getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean error = random.nextDouble() < profile.errorRate;
+        long delayNanos = (long) (profile.sampleLatencyMs(random) * 1_000_000);
+        responder.schedule(() -> respond(exchange, error ? profile.errorStatus : 200, error ? ERROR_BODY : OK_BODY),
+                delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) {
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "text/plain");
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (IOException e) {
+            log.debug("Stub response aborted: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Latency and error distribution for one request.
+     */
+    record Profile(Distribution distribution, double latencyMs, double jitterMs, double sigma,
+                   double errorRate, int errorStatus) {
+
+        Profile validated() {
+            if (!(latencyMs >= 0) || !(jitterMs >= 0) || !(sigma >= 0)) {
+                throw new IllegalArgumentException("Latency parameters must be non-negative");
+            }
+            if (!(errorRate >= 0 && errorRate <= 1)) {
+                throw new IllegalArgumentException("Error rate must be between 0 and 1: " + errorRate);
+            }
+            if (errorStatus < 400 || errorStatus > 599) {
+                throw new IllegalArgumentException("Error status must be a 4xx or 5xx code: " + errorStatus);
+            }
+            return this;
+        }
+
+        Profile withOverrides(String rawQuery) {
+            if (rawQuery == null || rawQuery.isEmpty()) {
+                return this;
+            }
+            Distribution d = distribution;
+            double latency = latencyMs;
+            double jitter = jitterMs;
+            double shape = sigma;
+            double errors = errorRate;
+            int status = errorStatus;
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq < 0) {
+                    continue;
+                }
+                String name = URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8);
+                String value = URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                try {
+                    switch (name) {
+                        case "distribution" -> d = Distribution.from(value);
+                        case "latencyMs" -> latency = Double.parseDouble(value);
+                        case "jitterMs" -> jitter = Double.parseDouble(value);
+                        case "sigma" -> shape = Double.parseDouble(value);
+                        case "errorRate" -> errors = Double.parseDouble(value);
+                        case "errorStatus" -> status = Integer.parseInt(value);
+                        default -> {
+                            // Unknown parameters are ignored so targets can carry cache-busting or tracing keys
+                        }
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+                }
+            }
+            return new Profile(d, latency, jitter, shape, errors, status).validated();
+        }
+
+        double sampleLatencyMs(ThreadLocalRandom random) {
+            double sample = switch (distribution) {
+                case FIXED -> latencyMs;
+                case UNIFORM -> latencyMs + (jitterMs > 0 ? random.nextDouble(jitterMs) : 0);
+                case EXPONENTIAL -> -latencyMs * Math.log(1 - random.nextDouble());
+                case LOGNORMAL -> latencyMs * Math.exp(sigma * random.nextGaussian());
+            };
+            return Math.min(sample, MAX_LATENCY_MS);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live results of one request template of a {@link ScenarioLoadTarget}.
+ */
+@Getter
+public class TemplateStats {
+
+    private final String name;
+    private final double weight;
+    private final LatencyRecorder latency = new LatencyRecorder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    TemplateStats(String name, double weight) {
+        this.name = name;
+        this.weight = weight;
+    }
+}
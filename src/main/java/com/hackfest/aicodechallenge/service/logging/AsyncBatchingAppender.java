@@ -0,0 +1,267 @@
+package com.hackfest.aicodechallenge.service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Logback appender that hands events to a dedicated writer thread through a {@link LogRingBuffer}.
+ *
+ * <p>Logging threads only sample, snapshot and enqueue the event; formatting, I/O and the attached
+ * appenders' locks all stay on the writer. The writer drains up to {@code batchSize} events at a time,
+ * passes them to the attached appenders and flushes their streams once per batch, so appenders
+ * should not flush per event. With nothing to write it parks until a producer publishes, so an idle
+ * writer costs nothing.</p>
+ *
+ * <p>INFO and lower events may be sampled out per route, read from the {@value #ROUTE_MDC_KEY} MDC
+ * entry, and dropped on overflow under {@link OverflowPolicy#DROP}. WARN and ERROR events are never
+ * sampled and always wait for space.</p>
+ */
+public class AsyncBatchingAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    /** MDC entry holding the current request's route, such as {@code GET /compute/fibonacci/{n}}. */
+    public static final String ROUTE_MDC_KEY = "route";
+
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long STOP_TIMEOUT_MS = 5_000;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+
+    private int bufferSize = 8192;
+    private int batchSize = 256;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private LogSampler sampler = LogSampler.keepAll();
+
+    private LogRingBuffer<ILoggingEvent> buffer;
+    private Thread writer;
+    private volatile boolean running;
+    /** Raised while the writer is about to park or parked; producers that see it wake the writer. */
+    private volatile boolean writerParked;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (batchSize < 1) {
+            addError("Batch size must be positive: " + batchSize);
+            return;
+        }
+        buffer = new LogRingBuffer<>(bufferSize);
+        running = true;
+        writer = new Thread(this::writeLoop, "async-log-writer-" + getName());
+        writer.setDaemon(true);
+        writer.start();
+        super.start();
+    }
+
+    /**
+     * Writes out every buffered event, then stops the writer and the attached appenders.
+     */
+    @Override
+    public void stop() {
+        stopWriter();
+        appenders.detachAndStopAllAppenders();
+    }
+
+    /**
+     * Writes out every buffered event and stops, handing back the attached appenders still running,
+     * for example to attach them directly to a logger again.
+     */
+    public List<Appender<ILoggingEvent>> stopAndRelease() {
+        stopWriter();
+        List<Appender<ILoggingEvent>> released = new ArrayList<>();
+        iteratorForAppenders().forEachRemaining(released::add);
+        released.forEach(appenders::detachAppender);
+        return released;
+    }
+
+    private void stopWriter() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(STOP_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            addWarn("Writer did not drain " + buffer.size() + " events within " + STOP_TIMEOUT_MS + "ms");
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        boolean important = event.getLevel().isGreaterOrEqual(Level.WARN);
+        if (!important && !sampler.keep(MDC.get(ROUTE_MDC_KEY))) {
+            sampledOut.increment();
+            return;
+        }
+        event.prepareForDeferredProcessing();
+        if (buffer.offer(event)) {
+            wakeWriter();
+            return;
+        }
+        if (!important && overflowPolicy == OverflowPolicy.DROP) {
+            dropped.increment();
+            return;
+        }
+        while (!buffer.offer(event)) {
+            if (!running) {
+                dropped.increment();
+                return;
+            }
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        wakeWriter();
+    }
+
+    private void wakeWriter() {
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void writeLoop() {
+        List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            int drained = buffer.drainTo(batch, batchSize);
+            if (drained == 0) {
+                awaitEvents();
+                continue;
+            }
+            for (ILoggingEvent event : batch) {
+                try {
+                    appenders.appendLoopOnAppenders(event);
+                } catch (RuntimeException e) {
+                    addError("Failed to append buffered event", e);
+                }
+            }
+            flush();
+            written.add(drained);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Parks the writer until a producer publishes or the appender stops. The flag is raised before
+     * the last emptiness check and producers read it after publishing, so either the writer sees the
+     * event or the producer sees the flag and unparks it; an unpark that comes first makes the park
+     * return at once.
+     */
+    private void awaitEvents() {
+        writerParked = true;
+        if (running && buffer.isEmpty()) {
+            LockSupport.park(this);
+        }
+        writerParked = false;
+    }
+
+    private void flush() {
+        Iterator<Appender<ILoggingEvent>> iterator = iteratorForAppenders();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof OutputStreamAppender<ILoggingEvent> streamAppender) {
+                OutputStream stream = streamAppender.getOutputStream();
+                if (stream != null) {
+                    try {
+                        stream.flush();
+                    } catch (IOException e) {
+                        addError("Failed to flush " + streamAppender.getName(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Events handed to the attached appenders. */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /** Events discarded because the buffer was full. */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /** INFO and lower events skipped by sampling. */
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+
+    /** Events waiting for the writer. */
+    public int getQueuedCount() {
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public void setSampler(LogSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
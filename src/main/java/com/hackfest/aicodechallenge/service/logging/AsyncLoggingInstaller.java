@@ -0,0 +1,106 @@
+package com.hackfest.aicodechallenge.service.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Moves the root logger's appenders behind an {@link AsyncBatchingAppender} once the application
+ * starts, and puts them back on shutdown after the buffered events are written.
+ *
+ * <p>Startup logging before this bean is created stays synchronous.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "logging.async.enabled", havingValue = "true", matchIfMissing = true)
+public class AsyncLoggingInstaller {
+
+    private final AsyncBatchingAppender appender = new AsyncBatchingAppender();
+    private final List<OutputStreamAppender<ILoggingEvent>> unflushed = new ArrayList<>();
+    private Logger root;
+
+    public AsyncLoggingInstaller(@Value("${logging.async.buffer-size:8192}") int bufferSize,
+                                 @Value("${logging.async.batch-size:256}") int batchSize,
+                                 @Value("${logging.async.overflow-policy:drop}") String overflowPolicy,
+                                 @Value("${logging.async.sampling.default-rate:1.0}") double defaultSamplingRate,
+                                 @Value("${logging.async.sampling.routes:}") String routeSamplingRates,
+                                 MeterRegistry meterRegistry) {
+        appender.setName("ASYNC");
+        appender.setBufferSize(bufferSize);
+        appender.setBatchSize(batchSize);
+        appender.setOverflowPolicy(OverflowPolicy.from(overflowPolicy));
+        appender.setSampler(LogSampler.parse(defaultSamplingRate, routeSamplingRates));
+        events(meterRegistry, "written", AsyncBatchingAppender::getWrittenCount);
+        events(meterRegistry, "dropped", AsyncBatchingAppender::getDroppedCount);
+        events(meterRegistry, "sampled", AsyncBatchingAppender::getSampledOutCount);
+        Gauge.builder("logging.async.queued", appender, AsyncBatchingAppender::getQueuedCount)
+                .description("Log events waiting for the writer thread")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void install() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            log.warn("Asynchronous logging needs Logback; logging stays synchronous");
+            return;
+        }
+        root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        List<Appender<ILoggingEvent>> delegates = new ArrayList<>();
+        root.iteratorForAppenders().forEachRemaining(delegate -> {
+            if (!(delegate instanceof AsyncBatchingAppender)) {
+                delegates.add(delegate);
+            }
+        });
+        for (Appender<ILoggingEvent> delegate : delegates) {
+            // The writer flushes once per batch instead
+            if (delegate instanceof OutputStreamAppender<ILoggingEvent> streamAppender
+                    && streamAppender.isImmediateFlush()) {
+                streamAppender.setImmediateFlush(false);
+                unflushed.add(streamAppender);
+            }
+            appender.addAppender(delegate);
+        }
+        appender.setContext(context);
+        appender.start();
+        root.addAppender(appender);
+        delegates.forEach(root::detachAppender);
+    }
+
+    @PreDestroy
+    public void uninstall() {
+        // A logging system reset detaches and stops the appender along with everything else
+        if (root == null || !root.isAttached(appender)) {
+            return;
+        }
+        root.detachAppender(appender);
+        unflushed.forEach(streamAppender -> streamAppender.setImmediateFlush(true));
+        appender.stopAndRelease().forEach(root::addAppender);
+    }
+
+    AsyncBatchingAppender getAppender() {
+        return appender;
+    }
+
+    private void events(MeterRegistry meterRegistry, String outcome, ToDoubleFunction<AsyncBatchingAppender> count) {
+        FunctionCounter.builder("logging.async.events", appender, count)
+                .description("Log events through the asynchronous pipeline by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
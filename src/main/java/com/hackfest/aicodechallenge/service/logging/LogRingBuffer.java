@@ -0,0 +1,103 @@
+package com.hackfest.aicodechallenge.service.logging;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, lock-free ring buffer for many producers and a single consumer.
+ *
+ * <p>Each slot carries a sequence number that says whose turn it is: a producer may fill slot
+ * {@code p & mask} once its sequence equals the claimed position {@code p}, and publishes the element
+ * by advancing it to {@code p + 1}; the consumer takes the element once it sees {@code p + 1} and hands
+ * the slot back with {@code p + capacity}. Producers contend only on one counter, and never on the
+ * consumer.</p>
+ */
+class LogRingBuffer<E> {
+
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    /** Next position to consume; written by the consumer thread only. */
+    private volatile long head;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    LogRingBuffer(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Ring buffer capacity must be between 2 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds {@code element} unless the buffer is full; never blocks.
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long turn = sequences.get(index) - position;
+            if (turn == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (turn < 0) {
+                // The slot still holds the element from one lap ago
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} published elements into {@code batch}, oldest first; consumer thread only.
+     *
+     * @return the number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(List<? super E> batch, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            batch.add((E) slots[index]);
+            slots[index] = null;
+            sequences.set(index, position + slots.length);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Elements claimed but not yet consumed; approximate while producers are active.
+     */
+    int size() {
+        return (int) Math.max(0, Math.min(slots.length, tail.get() - head));
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,73 @@
+package com.hackfest.aicodechallenge.service.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which INFO and lower events to keep, by the route of the request that logged them.
+ */
+public class LogSampler {
+
+    private final double defaultRate;
+    private final Map<String, Double> routeRates;
+
+    /**
+     * @param defaultRate share of events kept for routes without their own rate, and outside requests
+     * @param routeRates  share of events kept per route, keyed like {@code GET /compute/fibonacci/{n}}
+     */
+    public LogSampler(double defaultRate, Map<String, Double> routeRates) {
+        this.defaultRate = checkRate(defaultRate);
+        routeRates.values().forEach(LogSampler::checkRate);
+        this.routeRates = Map.copyOf(routeRates);
+    }
+
+    /**
+     * Keeps every event.
+     */
+    public static LogSampler keepAll() {
+        return new LogSampler(1.0, Map.of());
+    }
+
+    /**
+     * Parses per-route rates written as {@code route=rate} pairs separated by commas, such as
+     * {@code GET /api/v1/performance/tests/{testId}=0.1}.
+     *
+     * @throws IllegalArgumentException on a malformed pair or a rate outside [0, 1]
+     */
+    public static LogSampler parse(double defaultRate, String routeRates) {
+        Map<String, Double> rates = new HashMap<>();
+        if (routeRates != null) {
+            for (String pair : routeRates.split(",")) {
+                if (pair.isBlank()) {
+                    continue;
+                }
+                int separator = pair.lastIndexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Expected route=rate in logging sampling rates: " + pair);
+                }
+                try {
+                    rates.put(pair.substring(0, separator).trim(), Double.parseDouble(pair.substring(separator + 1)));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid logging sampling rate: " + pair);
+                }
+            }
+        }
+        return new LogSampler(defaultRate, rates);
+    }
+
+    /**
+     * @param route the logging request's route, or {@code null} outside a request
+     */
+    public boolean keep(String route) {
+        double rate = route == null ? defaultRate : routeRates.getOrDefault(route, defaultRate);
+        return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static double checkRate(double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Logging sampling rate must be between 0 and 1: " + rate);
+        }
+        return rate;
+    }
+}
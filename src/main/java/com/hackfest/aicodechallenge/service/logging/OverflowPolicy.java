@@ -0,0 +1,30 @@
+package com.hackfest.aicodechallenge.service.logging;
+
+import java.util.Locale;
+
+/**
+ * What an {@link AsyncBatchingAppender} does with an INFO or lower event when its buffer is full.
+ * WARN and ERROR events always wait for space.
+ */
+public enum OverflowPolicy {
+
+    /** Discard the event and count it as dropped; logging never slows the caller down. */
+    DROP,
+    /** Wait until the writer frees a slot; nothing is lost, but callers stall behind a slow sink. */
+    BLOCK;
+
+    /**
+     * @throws IllegalArgumentException if {@code value} names no policy
+     */
+    public static OverflowPolicy from(String value) {
+        if (value == null || value.isBlank()) {
+            return DROP;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported logging overflow policy: " + value
+                    + " (expected drop or block)");
+        }
+    }
+}
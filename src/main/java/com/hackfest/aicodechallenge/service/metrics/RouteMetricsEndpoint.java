@@ -0,0 +1,55 @@
+package com.hackfest.aicodechallenge.service.metrics;
+
+import com.hackfest.aicodechallenge.model.dto.RouteMetrics;
+import com.hackfest.aicodechallenge.model.dto.RouteMetricsReport;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/routes}: status counts, requests in flight and recent latency distribution per
+ * route template.
+ */
+@Component
+@Endpoint(id = "routes")
+public class RouteMetricsEndpoint {
+
+    private final RouteMetricsRegistry routeMetricsRegistry;
+
+    public RouteMetricsEndpoint(RouteMetricsRegistry routeMetricsRegistry) {
+        this.routeMetricsRegistry = routeMetricsRegistry;
+    }
+
+    @ReadOperation
+    public RouteMetricsReport routes() {
+        return RouteMetricsReport.builder()
+                .inFlight(routeMetricsRegistry.getInFlight())
+                .routes(routeMetricsRegistry.getRoutes().stream().map(RouteMetricsEndpoint::toMetrics).toList())
+                .build();
+    }
+
+    private static RouteMetrics toMetrics(RouteStats stats) {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (int i = 0; i < RouteStats.STATUS_CLASSES.length; i++) {
+            statusCounts.put(RouteStats.STATUS_CLASSES[i], stats.getCount(i));
+        }
+        Histogram latency = stats.snapshot();
+        boolean empty = latency.getTotalCount() == 0;
+        return RouteMetrics.builder()
+                .method(stats.getMethod())
+                .route(stats.getRoute())
+                .totalRequests(stats.getCount())
+                .inFlight(stats.getInFlight())
+                .statusCounts(statusCounts)
+                .averageResponseTime(empty ? 0 : latency.getMean() / 1_000.0)
+                .p50ResponseTime(empty ? 0 : latency.getValueAtPercentile(50) / 1_000.0)
+                .p90ResponseTime(empty ? 0 : latency.getValueAtPercentile(90) / 1_000.0)
+                .p99ResponseTime(empty ? 0 : latency.getValueAtPercentile(99) / 1_000.0)
+                .maxResponseTime(empty ? 0 : latency.getMaxValue() / 1_000.0)
+                .build();
+    }
+}
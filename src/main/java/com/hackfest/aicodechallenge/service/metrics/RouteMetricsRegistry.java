@@ -0,0 +1,145 @@
+package com.hackfest.aicodechallenge.service.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route request statistics, keyed by method and route template so the number of series stays
+ * bounded by the number of handler mappings.
+ *
+ * <p>Each route is exported once, when first seen: {@code http.route.requests} per status class,
+ * {@code http.route.latency} as a timer, {@code http.route.latency.percentile} and
+ * {@code http.route.latency.max} over the last {@code metrics.routes.window-ms}, and
+ * {@code http.route.in-flight}.</p>
+ *
+ * <p>A request counts as in flight on its route from the moment a handler is chosen, which a handler
+ * interceptor reports through {@link #requestStarted}, until it is recorded. Requests no handler
+ * matched are only recorded.</p>
+ */
+@Component
+public class RouteMetricsRegistry {
+
+    private static final Set<String> METHODS =
+            Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final MeterRegistry meterRegistry;
+    private final long windowNanos;
+    private final int windowBuckets;
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+
+    public RouteMetricsRegistry(MeterRegistry meterRegistry,
+                                @Value("${metrics.routes.window-ms:60000}") long windowMs,
+                                @Value("${metrics.routes.window-buckets:3}") int windowBuckets) {
+        if (windowMs < 1 || windowBuckets < 1) {
+            throw new IllegalArgumentException("Route metrics window and bucket count must be positive");
+        }
+        this.meterRegistry = meterRegistry;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.windowBuckets = windowBuckets;
+    }
+
+    /**
+     * Marks a request in flight on the route whose handler will serve it.
+     *
+     * @return the route's stats, to pass to {@link #requestFinished(RouteStats, int, long)}
+     */
+    public RouteStats requestStarted(String method, String route) {
+        RouteStats stats = stats(method, route);
+        stats.started();
+        return stats;
+    }
+
+    /**
+     * Records a finished request that {@link #requestStarted} marked in flight.
+     */
+    public void requestFinished(RouteStats started, int status, long nanos) {
+        started.finished();
+        started.record(status, nanos);
+    }
+
+    /**
+     * Records a finished request that never reached a handler.
+     */
+    public void requestFinished(String method, String route, int status, long nanos) {
+        stats(method, route).record(status, nanos);
+    }
+
+    /**
+     * Requests in flight across all routes.
+     */
+    public long getInFlight() {
+        long inFlight = 0;
+        for (RouteStats stats : routes.values()) {
+            inFlight += stats.getInFlight();
+        }
+        return inFlight;
+    }
+
+    /**
+     * Every route seen so far, ordered by route then method.
+     */
+    public List<RouteStats> getRoutes() {
+        return routes.values().stream()
+                .sorted(Comparator.comparing(RouteStats::getRoute).thenComparing(RouteStats::getMethod))
+                .toList();
+    }
+
+    private RouteStats stats(String method, String route) {
+        String knownMethod = METHODS.contains(method) ? method : "OTHER";
+        String key = knownMethod + ' ' + route;
+        RouteStats stats = routes.get(key);
+        if (stats == null) {
+            stats = routes.computeIfAbsent(key, k -> register(
+                    new RouteStats(knownMethod, route, windowNanos, windowBuckets, System.nanoTime())));
+        }
+        return stats;
+    }
+
+    private RouteStats register(RouteStats stats) {
+        Tags tags = Tags.of("method", stats.getMethod(), "route", stats.getRoute());
+        for (int i = 0; i < RouteStats.STATUS_CLASSES.length; i++) {
+            int statusClass = i;
+            FunctionCounter.builder("http.route.requests", stats, s -> s.getCount(statusClass))
+                    .description("Requests served by route and status class")
+                    .tags(tags)
+                    .tag("status", RouteStats.STATUS_CLASSES[i])
+                    .register(meterRegistry);
+        }
+        FunctionTimer.builder("http.route.latency", stats, RouteStats::getCount, RouteStats::getTotalNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Time to serve requests by route")
+                .tags(tags)
+                .register(meterRegistry);
+        for (double quantile : QUANTILES) {
+            Gauge.builder("http.route.latency.percentile", stats, s -> s.percentileSeconds(quantile * 100))
+                    .description("Latency percentile by route over the recent window")
+                    .tags(tags)
+                    .tag("quantile", String.valueOf(quantile))
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+        Gauge.builder("http.route.latency.max", stats, RouteStats::maxSeconds)
+                .description("Slowest request by route over the recent window")
+                .tags(tags)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("http.route.in-flight", stats, RouteStats::getInFlight)
+                .description("Requests currently being served by route")
+                .tags(tags)
+                .register(meterRegistry);
+        return stats;
+    }
+}
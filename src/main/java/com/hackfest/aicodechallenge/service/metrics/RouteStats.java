@@ -0,0 +1,157 @@
+package com.hackfest.aicodechallenge.service.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Requests served by one route template and method: counts per status class since startup, the
+ * requests in flight, and a latency histogram in microseconds over a sliding window, covering one
+ * microsecond to one hour at two significant digits.
+ *
+ * <p>Recording touches only striped {@link LongAdder}s and a shared {@link Recorder}, whose writes
+ * are wait-free atomic increments, so request threads never block each other or a reader. Readers
+ * swap out the recorder's interval histogram and fold it into a ring of window histograms. Every
+ * {@code window / buckets} the oldest one is cleared and the next becomes current, so percentiles
+ * and the maximum cover between {@code window * (buckets - 1) / buckets} and {@code window} of
+ * history, and a slow spell ages out instead of weighing on them forever.</p>
+ */
+public class RouteStats {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    static final int SIGNIFICANT_DIGITS = 2;
+    /** Status classes 1xx to 5xx; anything outside is counted as 5xx. */
+    static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final String method;
+    private final String route;
+    private final LongAdder[] statusCounts = new LongAdder[STATUS_CLASSES.length];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final long rotationNanos;
+
+    /** Samples of the last window, staggered by one rotation each; guarded by {@code this}. */
+    private final Histogram[] windows;
+    /** Index of the window cleared longest ago, which covers the most history; guarded by {@code this}. */
+    private int current;
+    private long lastRotationNanos;
+    /** Interval histogram handed back to the recorder for reuse; guarded by {@code this}. */
+    private Histogram spare;
+
+    RouteStats(String method, String route, long windowNanos, int buckets, long nowNanos) {
+        this.method = method;
+        this.route = route;
+        for (int i = 0; i < statusCounts.length; i++) {
+            statusCounts[i] = new LongAdder();
+        }
+        this.rotationNanos = Math.max(1, windowNanos / buckets);
+        this.windows = new Histogram[buckets];
+        for (int i = 0; i < buckets; i++) {
+            windows[i] = new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        }
+        this.lastRotationNanos = nowNanos;
+    }
+
+    void started() {
+        inFlight.increment();
+    }
+
+    void finished() {
+        inFlight.decrement();
+    }
+
+    void record(int status, long nanos) {
+        long clamped = Math.max(nanos, 0);
+        statusCounts[statusClass(status)].increment();
+        totalNanos.add(clamped);
+        recorder.recordValue(Math.max(1, Math.min(clamped / 1_000, HIGHEST_TRACKABLE_MICROS)));
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder statusCount : statusCounts) {
+            count += statusCount.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Requests answered with a status in {@code STATUS_CLASSES[index]}.
+     */
+    public long getCount(int statusClassIndex) {
+        return statusCounts[statusClassIndex].sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Requests this route's handler has accepted that have not completed yet.
+     */
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Harvests pending samples and returns a copy of the current window.
+     */
+    public Histogram snapshot() {
+        return snapshot(System.nanoTime());
+    }
+
+    synchronized Histogram snapshot(long nowNanos) {
+        return harvest(nowNanos).copy();
+    }
+
+    /**
+     * Latency at or below which {@code percentile} percent of the window's requests completed, in
+     * seconds.
+     */
+    synchronized double percentileSeconds(double percentile) {
+        Histogram window = harvest(System.nanoTime());
+        return window.getTotalCount() == 0 ? 0 : window.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    synchronized double maxSeconds() {
+        Histogram window = harvest(System.nanoTime());
+        return window.getTotalCount() == 0 ? 0 : window.getMaxValue() / 1e6;
+    }
+
+    private Histogram harvest(long nowNanos) {
+        rotate(nowNanos);
+        spare = recorder.getIntervalHistogram(spare);
+        for (Histogram window : windows) {
+            window.add(spare);
+        }
+        return windows[current];
+    }
+
+    private void rotate(long nowNanos) {
+        long rotations = (nowNanos - lastRotationNanos) / rotationNanos;
+        if (rotations <= 0) {
+            return;
+        }
+        for (long i = 0; i < Math.min(rotations, windows.length); i++) {
+            windows[current].reset();
+            current = (current + 1) % windows.length;
+        }
+        lastRotationNanos += rotations * rotationNanos;
+    }
+
+    static int statusClass(int status) {
+        int index = status / 100 - 1;
+        return index >= 0 && index < STATUS_CLASSES.length ? index : STATUS_CLASSES.length - 1;
+    }
+}
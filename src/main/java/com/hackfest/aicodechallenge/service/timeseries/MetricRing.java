@@ -0,0 +1,78 @@
+package com.hackfest.aicodechallenge.service.timeseries;
+
+/**
+ * Fixed-capacity ring of metric points stored column by column in primitive arrays; once full, each
+ * append overwrites the oldest point. All arrays are allocated up front, so memory never changes
+ * after construction.
+ */
+final class MetricRing {
+
+    /** Columns per point: time, requests, failures, mean, p50, p90, p99, max. */
+    static final int COLUMNS = 8;
+
+    final int capacity;
+    final long[] time;
+    final long[] requests;
+    final long[] failures;
+    final double[] mean;
+    final double[] p50;
+    final double[] p90;
+    final double[] p99;
+    final double[] max;
+
+    private int next;
+    private int size;
+
+    MetricRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Ring capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.time = new long[capacity];
+        this.requests = new long[capacity];
+        this.failures = new long[capacity];
+        this.mean = new double[capacity];
+        this.p50 = new double[capacity];
+        this.p90 = new double[capacity];
+        this.p99 = new double[capacity];
+        this.max = new double[capacity];
+    }
+
+    void append(long t, long requestCount, long failureCount, double meanMs, double p50Ms, double p90Ms,
+                double p99Ms, double maxMs) {
+        time[next] = t;
+        requests[next] = requestCount;
+        failures[next] = failureCount;
+        mean[next] = meanMs;
+        p50[next] = p50Ms;
+        p90[next] = p90Ms;
+        p99[next] = p99Ms;
+        max[next] = maxMs;
+        next = (next + 1) % capacity;
+        if (size < capacity) {
+            size++;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Array slot of the {@code i}-th oldest point.
+     */
+    int slot(int i) {
+        return (next - size + i + capacity) % capacity;
+    }
+
+    /**
+     * Time of the oldest retained point, or {@link Long#MAX_VALUE} when empty.
+     */
+    long oldestTime() {
+        return size == 0 ? Long.MAX_VALUE : time[slot(0)];
+    }
+
+    static long bytesFor(int capacity) {
+        return (long) capacity * COLUMNS * Long.BYTES;
+    }
+}
@@ -0,0 +1,342 @@
+package com.hackfest.aicodechallenge.service.timeseries;
+
+import com.hackfest.aicodechallenge.model.dto.TimeSeriesResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Per-second metrics of one test, kept in three fixed-size tiers: 1 second, 10 seconds and 1 minute.
+ *
+ * <p>Samples go into the 1s tier; every closed point of a tier is folded into the next coarser one,
+ * so a multi-hour soak keeps full detail for recent minutes and coarser history behind it, and the
+ * memory of a series is fixed when it is created. Counts add up when points merge; mean, p50 and p90
+ * are averaged weighted by requests, while p99 and max keep the worst value so tail spikes survive
+ * downsampling.</p>
+ *
+ * <p>Each tier's current window stays open until a sample for a later window arrives or the series
+ * is {@link #finish() finished}; queries return open windows as partial trailing points.</p>
+ */
+public class TestTimeSeries {
+
+    public enum Resolution {
+        SECOND(1), TEN_SECONDS(10), MINUTE(60);
+
+        private final int seconds;
+
+        Resolution(int seconds) {
+            this.seconds = seconds;
+        }
+
+        public int getSeconds() {
+            return seconds;
+        }
+
+        /**
+         * Parses {@code 1s}, {@code 10s} or {@code 1m}; {@code auto} or blank yields {@code null}.
+         */
+        public static Resolution from(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "auto" -> null;
+                case "1s" -> SECOND;
+                case "10s" -> TEN_SECONDS;
+                case "1m", "60s" -> MINUTE;
+                default -> throw new IllegalArgumentException(
+                        "Unsupported resolution: " + value + " (expected 1s, 10s, 1m or auto)");
+            };
+        }
+    }
+
+    private final String testId;
+    private final Tier[] tiers;
+    /** Epoch second of the first sample, or {@link Long#MAX_VALUE} before any. */
+    private long firstTime = Long.MAX_VALUE;
+
+    public TestTimeSeries(String testId, int secondCapacity, int tenSecondCapacity, int minuteCapacity) {
+        this.testId = testId;
+        this.tiers = new Tier[] {
+                new Tier(Resolution.SECOND, secondCapacity),
+                new Tier(Resolution.TEN_SECONDS, tenSecondCapacity),
+                new Tier(Resolution.MINUTE, minuteCapacity)
+        };
+    }
+
+    /**
+     * Records the metrics of the interval that started at {@code epochSecond}. A second sample for the
+     * same second merges into the first; samples older than the open 1s window are ignored.
+     */
+    public synchronized void record(long epochSecond, long requests, long failures, double meanMs,
+                                    double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+        firstTime = Math.min(firstTime, epochSecond);
+        tiers[0].offer(epochSecond, requests, failures, meanMs, p50Ms, p90Ms, p99Ms, maxMs);
+    }
+
+    /**
+     * Closes every open window, for when the test will not record again.
+     */
+    public synchronized void finish() {
+        // Finest first, so each closed window reaches the coarser tiers before they close
+        for (Tier tier : tiers) {
+            tier.close();
+        }
+    }
+
+    /**
+     * Returns the points whose window starts within {@code [from, to]} (epoch seconds, either bound
+     * optional) at {@code resolution}, or at the finest tier that still covers {@code from} when it
+     * is {@code null}.
+     */
+    public synchronized TimeSeriesResponse query(Long from, Long to, Resolution resolution) {
+        long lower = from == null ? Long.MIN_VALUE : from;
+        long upper = to == null ? Long.MAX_VALUE : to;
+        Tier tier = resolution != null ? tiers[resolution.ordinal()] : finestCovering(Math.max(lower, firstTime));
+        List<Window> partial = partialWindows(tier);
+
+        MetricRing ring = tier.ring;
+        int count = 0;
+        for (int i = 0; i < ring.size(); i++) {
+            long t = ring.time[ring.slot(i)];
+            if (t >= lower && t <= upper) {
+                count++;
+            }
+        }
+        for (Window window : partial) {
+            if (window.start >= lower && window.start <= upper) {
+                count++;
+            }
+        }
+
+        Columns columns = new Columns(count);
+        for (int i = 0; i < ring.size(); i++) {
+            int slot = ring.slot(i);
+            long t = ring.time[slot];
+            if (t >= lower && t <= upper) {
+                columns.add(t, tier.seconds, ring.requests[slot], ring.failures[slot], ring.mean[slot],
+                        ring.p50[slot], ring.p90[slot], ring.p99[slot], ring.max[slot]);
+            }
+        }
+        for (Window window : partial) {
+            if (window.start >= lower && window.start <= upper) {
+                columns.add(window.start, tier.seconds, window.requests, window.failures,
+                        window.weighted(window.meanSum), window.weighted(window.p50Sum),
+                        window.weighted(window.p90Sum), window.p99, window.max);
+            }
+        }
+        return columns.toResponse(testId, tier.seconds);
+    }
+
+    /**
+     * Fixed memory of a series with these capacities, in bytes of primitive columns.
+     */
+    public static long bytesFor(int secondCapacity, int tenSecondCapacity, int minuteCapacity) {
+        return MetricRing.bytesFor(secondCapacity) + MetricRing.bytesFor(tenSecondCapacity)
+                + MetricRing.bytesFor(minuteCapacity);
+    }
+
+    private Tier finestCovering(long time) {
+        for (Tier tier : tiers) {
+            long oldest = Math.min(tier.ring.oldestTime(), tier.window.open ? tier.window.start : Long.MAX_VALUE);
+            // The window holding the oldest point started up to one tier width before it
+            if (oldest <= time - Math.floorMod(time, tier.seconds)) {
+                return tier;
+            }
+        }
+        return tiers[tiers.length - 1];
+    }
+
+    /**
+     * Open windows of {@code tier} and every finer tier, aligned to {@code tier}'s width. Samples in
+     * finer open windows have not reached {@code tier} yet, so without them the newest seconds of a
+     * running test would be missing from coarse queries. At most one window per tier, oldest first.
+     */
+    private List<Window> partialWindows(Tier tier) {
+        List<Window> partial = new ArrayList<>(tiers.length);
+        for (int i = tier.index; i >= 0; i--) {
+            Window open = tiers[i].window;
+            if (!open.open) {
+                continue;
+            }
+            long aligned = open.start - Math.floorMod(open.start, tier.seconds);
+            Window last = partial.isEmpty() ? null : partial.get(partial.size() - 1);
+            if (last == null || last.start != aligned) {
+                last = new Window();
+                last.open = true;
+                last.start = aligned;
+                partial.add(last);
+            }
+            last.merge(open);
+        }
+        return partial;
+    }
+
+    /**
+     * One resolution: a ring of closed points plus the window currently being accumulated.
+     */
+    private final class Tier {
+
+        final int seconds;
+        final int index;
+        final MetricRing ring;
+        final Window window = new Window();
+
+        Tier(Resolution resolution, int capacity) {
+            this.seconds = resolution.getSeconds();
+            this.index = resolution.ordinal();
+            this.ring = new MetricRing(capacity);
+        }
+
+        void offer(long t, long requests, long failures, double meanMs, double p50Ms, double p90Ms,
+                   double p99Ms, double maxMs) {
+            long windowStart = t - Math.floorMod(t, seconds);
+            if (window.open && windowStart < window.start) {
+                return;
+            }
+            if (window.open && windowStart > window.start) {
+                close();
+            }
+            if (!window.open) {
+                window.open = true;
+                window.start = windowStart;
+            }
+            window.add(requests, failures, meanMs, p50Ms, p90Ms, p99Ms, maxMs);
+        }
+
+        /**
+         * Appends the open window to the ring and hands it to the next coarser tier.
+         */
+        void close() {
+            if (!window.open) {
+                return;
+            }
+            double meanMs = window.weighted(window.meanSum);
+            double p50Ms = window.weighted(window.p50Sum);
+            double p90Ms = window.weighted(window.p90Sum);
+            ring.append(window.start, window.requests, window.failures, meanMs, p50Ms, p90Ms, window.p99, window.max);
+            if (index + 1 < tiers.length) {
+                tiers[index + 1].offer(window.start, window.requests, window.failures, meanMs, p50Ms, p90Ms,
+                        window.p99, window.max);
+            }
+            window.reset();
+        }
+    }
+
+    /**
+     * Metrics accumulated over one window that has not been closed into a ring yet.
+     */
+    private static final class Window {
+
+        boolean open;
+        long start;
+        long requests;
+        long failures;
+        /** Request-weighted sums; divided by {@link #requests} when the window closes. */
+        double meanSum;
+        double p50Sum;
+        double p90Sum;
+        double p99;
+        double max;
+
+        void add(long requestCount, long failureCount, double meanMs, double p50Ms, double p90Ms,
+                 double p99Ms, double maxMs) {
+            requests += requestCount;
+            failures += failureCount;
+            meanSum += meanMs * requestCount;
+            p50Sum += p50Ms * requestCount;
+            p90Sum += p90Ms * requestCount;
+            p99 = Math.max(p99, p99Ms);
+            max = Math.max(max, maxMs);
+        }
+
+        void merge(Window other) {
+            requests += other.requests;
+            failures += other.failures;
+            meanSum += other.meanSum;
+            p50Sum += other.p50Sum;
+            p90Sum += other.p90Sum;
+            p99 = Math.max(p99, other.p99);
+            max = Math.max(max, other.max);
+        }
+
+        double weighted(double sum) {
+            return requests == 0 ? 0 : sum / requests;
+        }
+
+        void reset() {
+            open = false;
+            requests = 0;
+            failures = 0;
+            meanSum = 0;
+            p50Sum = 0;
+            p90Sum = 0;
+            p99 = 0;
+            max = 0;
+        }
+    }
+
+    /**
+     * Column builder for a query result.
+     */
+    private static final class Columns {
+
+        final long[] timestamps;
+        final long[] requests;
+        final long[] failures;
+        final double[] throughput;
+        final double[] errorRate;
+        final double[] mean;
+        final double[] p50;
+        final double[] p90;
+        final double[] p99;
+        final double[] max;
+        int size;
+
+        Columns(int count) {
+            timestamps = new long[count];
+            requests = new long[count];
+            failures = new long[count];
+            throughput = new double[count];
+            errorRate = new double[count];
+            mean = new double[count];
+            p50 = new double[count];
+            p90 = new double[count];
+            p99 = new double[count];
+            max = new double[count];
+        }
+
+        void add(long t, int seconds, long requestCount, long failureCount, double meanMs, double p50Ms,
+                 double p90Ms, double p99Ms, double maxMs) {
+            timestamps[size] = t;
+            requests[size] = requestCount;
+            failures[size] = failureCount;
+            throughput[size] = (double) requestCount / seconds;
+            errorRate[size] = requestCount == 0 ? 0 : failureCount * 100.0 / requestCount;
+            mean[size] = meanMs;
+            p50[size] = p50Ms;
+            p90[size] = p90Ms;
+            p99[size] = p99Ms;
+            max[size] = maxMs;
+            size++;
+        }
+
+        TimeSeriesResponse toResponse(String testId, int resolutionSeconds) {
+            return TimeSeriesResponse.builder()
+                    .testId(testId)
+                    .resolutionSeconds(resolutionSeconds)
+                    .timestamps(timestamps)
+                    .requests(requests)
+                    .failures(failures)
+                    .throughput(throughput)
+                    .errorRate(errorRate)
+                    .averageResponseTime(mean)
+                    .p50ResponseTime(p50)
+                    .p90ResponseTime(p90)
+                    .p99ResponseTime(p99)
+                    .maxResponseTime(max)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.hackfest.aicodechallenge.service.timeseries;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Holds the time series of the most recently started tests. Every series has the same fixed
+ * capacity, and at most {@code max-tests} are kept, evicting the series of the test started longest
+ * ago, so total memory is bounded by configuration alone.
+ */
+@Slf4j
+@Service
+public class TimeSeriesService {
+
+    private final int secondCapacity;
+    private final int tenSecondCapacity;
+    private final int minuteCapacity;
+    /** Insertion-ordered so the eldest entry is the series started longest ago; guarded by {@code this}. */
+    private final Map<String, TestTimeSeries> series;
+
+    public TimeSeriesService(@Value("${performance.timeseries.second-capacity:900}") int secondCapacity,
+                             @Value("${performance.timeseries.ten-second-capacity:1080}") int tenSecondCapacity,
+                             @Value("${performance.timeseries.minute-capacity:1440}") int minuteCapacity,
+                             @Value("${performance.timeseries.max-tests:100}") int maxTests) {
+        this.secondCapacity = secondCapacity;
+        this.tenSecondCapacity = tenSecondCapacity;
+        this.minuteCapacity = minuteCapacity;
+        this.series = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TestTimeSeries> eldest) {
+                return size() > maxTests;
+            }
+        };
+        log.info("Time series use {} KiB per test for up to {} tests",
+                TestTimeSeries.bytesFor(secondCapacity, tenSecondCapacity, minuteCapacity) / 1024, maxTests);
+    }
+
+    /**
+     * Starts an empty series for {@code testId}, replacing any series of an earlier run.
+     */
+    public synchronized TestTimeSeries create(String testId) {
+        TestTimeSeries created = new TestTimeSeries(testId, secondCapacity, tenSecondCapacity, minuteCapacity);
+        series.remove(testId);
+        series.put(testId, created);
+        return created;
+    }
+
+    public synchronized Optional<TestTimeSeries> find(String testId) {
+        return Optional.ofNullable(series.get(testId));
+    }
+
+    public synchronized void remove(String testId) {
+        series.remove(testId);
+    }
+}
@@ -1,17 +1,30 @@
 package com.hackfest.aicodechallenge.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.PerformanceTestPage;
 import com.hackfest.aicodechallenge.model.dto.PerformanceTestRequest;
+import com.hackfest.aicodechallenge.model.dto.PerformanceTestResponse;
 import com.hackfest.aicodechallenge.service.PerformanceTestService;
+import com.hackfest.aicodechallenge.service.TestResultCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @WebMvcTest(PerformanceTestController.class)
 class PerformanceTestControllerTest {
@@ -37,6 +50,108 @@ class PerformanceTestControllerTest {
                 .andExpect(status().isCreated());
     }
     
+    @Test
+    void testTimeSeriesRejectsUnknownResolution() throws Exception {
+        mockMvc.perform(get("/api/v1/performance/tests/abc/timeseries").param("resolution", "5s"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+    
+    @Test
+    void testCancelUnknownTest() throws Exception {
+        when(performanceTestService.cancelTest("missing"))
+                .thenThrow(new IllegalArgumentException("Test not found: missing"));
+        
+        mockMvc.perform(post("/api/v1/performance/tests/missing/cancel"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Test not found: missing"));
+    }
+    
+    @Test
+    void testListingReturnsNextCursor() throws Exception {
+        when(performanceTestService.getTests(eq("RUNNING"), any(), isNull(), isNull(), eq(1)))
+                .thenReturn(new PerformanceTestPage(
+                        List.of(PerformanceTestResponse.builder().testId("a").build()), "next"));
+        
+        mockMvc.perform(get("/api/v1/performance/tests")
+                .param("status", "RUNNING")
+                .param("from", "2024-01-01T00:00:00")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data[0].testId").value("a"));
+    }
+    
+    @Test
+    void testListingRejectsMalformedTime() throws Exception {
+        mockMvc.perform(get("/api/v1/performance/tests").param("from", "yesterday"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+    
+    @Test
+    void testExportWritesNdjsonAndJsonArray() throws Exception {
+        when(performanceTestService.streamTests(null, null, null)).thenAnswer(invocation -> Stream.of(
+                PerformanceTestResponse.builder().testId("a").build(),
+                PerformanceTestResponse.builder().testId("b").build()));
+        
+        String ndjson = export("ndjson");
+        String[] lines = ndjson.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("a", objectMapper.readTree(lines[0]).get("testId").asText());
+        assertEquals("b", objectMapper.readTree(lines[1]).get("testId").asText());
+        
+        String json = export("json");
+        assertEquals(2, objectMapper.readTree(json).size());
+        assertEquals("b", objectMapper.readTree(json).get(1).get("testId").asText());
+    }
+    
+    private String export(String format) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/performance/tests/export").param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+    
+    @Test
+    void testFinishedResultIsServedWithEtagAndRevalidated() throws Exception {
+        byte[] body = "{\"success\":true}".getBytes();
+        TestResultCache.Representation cached =
+                new TestResultCache.Representation(TestResultCache.Format.JSON, body, new byte[]{31, -117}, "abc");
+        when(performanceTestService.getCachedResult("done", TestResultCache.Format.JSON))
+                .thenReturn(Optional.of(cached));
+        
+        mockMvc.perform(get("/api/v1/performance/tests/done"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().bytes(body));
+        mockMvc.perform(get("/api/v1/performance/tests/done").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc-gzip\""))
+                .andExpect(header().string("Content-Encoding", "gzip"));
+        mockMvc.perform(get("/api/v1/performance/tests/done").header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+    
+    @Test
+    void testResultIsNegotiatedAsCbor() throws Exception {
+        when(performanceTestService.getTestResult("live"))
+                .thenReturn(PerformanceTestResponse.builder().testId("live").status("RUNNING").build());
+        
+        mockMvc.perform(get("/api/v1/performance/tests/live").header("Accept", "application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"));
+        mockMvc.perform(get("/api/v1/performance/tests/live").header("Accept", "application/json, application/cbor;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.testId").value("live"));
+    }
+    
     @Test
     void testHealthCheck() throws Exception {
         mockMvc.perform(get("/api/v1/performance/health"))
@@ -0,0 +1,117 @@
+package com.hackfest.aicodechallenge.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.service.limit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter("compute", 4, 2, 100, 1.5, 0.2, new SimpleMeterRegistry());
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter,
+            RequestCostEstimator.logarithmic(1024, 16), List.of("/compute/jobs/**"),
+            new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void testAdmittedRequestReleasesItsPermits() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/compute/inefficient/100"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testRejectsWith429AndRetryAfterWhenAtTheLimit() throws Exception {
+        AdaptiveConcurrencyLimiter.Permit held = limiter.tryAcquire(4).orElseThrow();
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/compute/inefficient/100"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"success\":false"));
+        assertEquals(4, limiter.getInFlight());
+        held.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+    }
+
+    @Test
+    void testExcludedPathsBypassTheLimit() throws Exception {
+        limiter.tryAcquire(4).orElseThrow();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/compute/jobs/abc"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void testServerErrorsShrinkTheLimitAndClientErrorsDoNot() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/compute/inefficient/100"), new MockHttpServletResponse(),
+                (request, response) -> ((HttpServletResponse) response).setStatus(503));
+        assertEquals(3, limiter.getLimit());
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/compute/inefficient/100"), new MockHttpServletResponse(),
+                (request, response) -> ((HttpServletResponse) response).setStatus(400));
+        assertEquals(3, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testExceptionsReleasePermits() {
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(
+                new MockHttpServletRequest("GET", "/compute/inefficient/100"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    throw new IllegalStateException("boom");
+                }));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testAsyncRequestHoldsPermitsUntilComplete() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/compute/inefficient/100");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+
+        assertEquals(1, limiter.getInFlight());
+        request.getAsyncContext().complete();
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testLogarithmicCostGrowsWithProblemSize() {
+        RequestCostEstimator estimator = RequestCostEstimator.logarithmic(1024, 16);
+
+        assertEquals(1, estimator.cost(new MockHttpServletRequest("GET", "/compute/inefficient/100")));
+        assertEquals(1, estimator.cost(new MockHttpServletRequest("GET", "/compute/fibonacci/1024")));
+        assertEquals(2, estimator.cost(new MockHttpServletRequest("GET", "/compute/fibonacci/2048")));
+        assertEquals(11, estimator.cost(new MockHttpServletRequest("GET", "/compute/sequence/1048576")));
+        assertEquals(16, estimator.cost(new MockHttpServletRequest("GET", "/compute/sequence/" + Long.MAX_VALUE)));
+        assertEquals(1, estimator.cost(new MockHttpServletRequest("POST", "/compute/batch")));
+
+        MockHttpServletRequest primes = new MockHttpServletRequest("GET", "/compute/primes");
+        primes.setParameter("from", "1000000");
+        primes.setParameter("to", "1004096");
+        assertEquals(3, estimator.cost(primes));
+
+        MockHttpServletRequest query = new MockHttpServletRequest("GET", "/compute/other");
+        query.setParameter("n", "4096");
+        assertEquals(3, estimator.cost(query));
+    }
+}
@@ -0,0 +1,100 @@
+package com.hackfest.aicodechallenge.filter;
+
+import com.hackfest.aicodechallenge.service.metrics.RouteMetricsRegistry;
+import com.hackfest.aicodechallenge.service.metrics.RouteStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestMetricsFilterTest {
+
+    private final RouteMetricsRegistry registry = new RouteMetricsRegistry(new SimpleMeterRegistry(), 60_000, 3);
+    private final RequestMetricsFilter filter = new RequestMetricsFilter(registry);
+    private final RouteMetricsInterceptor interceptor = new RouteMetricsInterceptor(registry);
+
+    @Test
+    void testRecordsMatchedRequestUnderItsTemplate() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/compute/fibonacci/42"), new MockHttpServletResponse(),
+                (request, response) -> request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                        "/compute/fibonacci/{n}"));
+
+        RouteStats stats = onlyRoute();
+        assertEquals("GET", stats.getMethod());
+        assertEquals("/compute/fibonacci/{n}", stats.getRoute());
+        assertEquals(1, stats.getCount(1));
+        assertEquals(0, registry.getInFlight());
+    }
+
+    @Test
+    void testGroupsUnmatchedRequestsWithoutTheirPaths() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/missing/1"), new MockHttpServletResponse(),
+                (request, response) -> ((HttpServletResponse) response).setStatus(404));
+        filter.doFilter(new MockHttpServletRequest("GET", "/missing/2"), new MockHttpServletResponse(),
+                (request, response) -> ((HttpServletResponse) response).setStatus(404));
+        filter.doFilter(new MockHttpServletRequest("GET", "/compute/primes"), new MockHttpServletResponse(),
+                (request, response) -> ((HttpServletResponse) response).setStatus(429));
+
+        assertEquals(2, registry.getRoutes().size());
+        assertEquals("NOT_FOUND", registry.getRoutes().get(0).getRoute());
+        assertEquals(2, registry.getRoutes().get(0).getCount(3));
+        assertEquals("UNKNOWN", registry.getRoutes().get(1).getRoute());
+    }
+
+    @Test
+    void testCountsExceptionsAsServerErrors() {
+        assertThrows(IOException.class, () -> filter.doFilter(new MockHttpServletRequest("POST", "/compute/batch"),
+                new MockHttpServletResponse(), (request, response) -> {
+                    throw new IOException("reset");
+                }));
+
+        assertEquals(1, onlyRoute().getCount(4));
+        assertEquals(0, registry.getInFlight());
+    }
+
+    @Test
+    void testRecordsAsyncRequestWhenItCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/performance/tests/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/performance/tests/export");
+            interceptor.preHandle(request, response, null);
+            req.startAsync();
+        });
+        // The async dispatch that writes the result runs the interceptor again
+        interceptor.preHandle(request, response, null);
+
+        assertEquals(1, onlyRoute().getInFlight());
+        assertEquals(0, onlyRoute().getCount());
+        request.getAsyncContext().complete();
+        assertEquals(0, registry.getInFlight());
+        assertEquals("/api/v1/performance/tests/export", onlyRoute().getRoute());
+        assertEquals(1, onlyRoute().getCount());
+    }
+
+    @Test
+    void testRequestsWithoutAHandlerAreNeverInFlight() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/missing");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            interceptor.preHandle(request, (HttpServletResponse) res, null);
+            assertEquals(0, registry.getInFlight());
+            ((HttpServletResponse) res).setStatus(404);
+        });
+
+        assertEquals(0, onlyRoute().getInFlight());
+        assertEquals(1, onlyRoute().getCount(3));
+    }
+
+    private RouteStats onlyRoute() {
+        assertEquals(1, registry.getRoutes().size());
+        return registry.getRoutes().get(0);
+    }
+}
@@ -0,0 +1,205 @@
+package com.hackfest.aicodechallenge.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.LatencyBucket;
+import com.hackfest.aicodechallenge.model.entity.PerformanceTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceTestRepositoryTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void testStateSurvivesRestart() throws Exception {
+        PerformanceTestRepository repository = open();
+        PerformanceTest kept = repository.save(new PerformanceTest("Kept", 10, 5, "kept"));
+        PerformanceTest deleted = repository.save(new PerformanceTest("Deleted", 10, 5, null));
+        kept.setStatus("COMPLETED");
+        kept.setP99ResponseTime(42.5);
+        kept.setLatencyDistribution(List.of(new LatencyBucket(1.0, 3L), new LatencyBucket(null, 1L)));
+        repository.save(kept);
+        repository.deleteById(deleted.getId());
+        repository.shutdown();
+        
+        PerformanceTestRepository reopened = open();
+        
+        assertEquals(1, reopened.findAll().size());
+        PerformanceTest restored = reopened.findById(kept.getId()).orElseThrow();
+        assertEquals("COMPLETED", restored.getStatus());
+        assertEquals(42.5, restored.getP99ResponseTime());
+        assertEquals(kept.getStartTime(), restored.getStartTime());
+        assertEquals(2, restored.getLatencyDistribution().size());
+        assertFalse(reopened.existsById(deleted.getId()));
+        reopened.shutdown();
+    }
+    
+    @Test
+    void testCompactionReplacesSegmentsWithSnapshot() throws Exception {
+        PerformanceTestRepository repository = open();
+        PerformanceTest test = repository.save(new PerformanceTest("Compacted", 10, 5, null));
+        for (int i = 0; i < 200; i++) {
+            test.setTotalRequests(i);
+            repository.save(test);
+        }
+        PerformanceTest later = new PerformanceTest("After snapshot", 1, 1, null);
+        repository.compact();
+        repository.save(later);
+        repository.shutdown();
+        
+        assertEquals(1, countSegments());
+        PerformanceTestRepository reopened = open();
+        
+        assertEquals(199, reopened.findById(test.getId()).orElseThrow().getTotalRequests());
+        assertTrue(reopened.existsById(later.getId()));
+        reopened.shutdown();
+    }
+    
+    @Test
+    void testAppendsRollOverIntoNewSegments() throws Exception {
+        PerformanceTestRepository repository = open();
+        for (int i = 0; i < 100; i++) {
+            repository.save(new PerformanceTest("Test " + i, 10, 5, "x".repeat(200)));
+        }
+        repository.shutdown();
+        
+        assertTrue(countSegments() > 1);
+        PerformanceTestRepository reopened = open();
+        assertEquals(100, reopened.findAll().size());
+        reopened.shutdown();
+    }
+    
+    @Test
+    void testTornTailIsDiscarded() throws Exception {
+        PerformanceTestRepository repository = open();
+        PerformanceTest intact = repository.save(new PerformanceTest("Intact", 10, 5, null));
+        repository.shutdown();
+        
+        // Simulate a crash halfway through the next record: a length and type with a truncated payload
+        Path segment = lastSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(4);
+            int offset = 0;
+            while (true) {
+                buffer.clear();
+                channel.read(buffer, offset);
+                int length = buffer.flip().getInt();
+                if (length == 0) {
+                    break;
+                }
+                offset += length + 9;
+            }
+            channel.write(ByteBuffer.allocate(9).putInt(500).put((byte) 1).putInt(0xCAFE).flip(), offset);
+        }
+        
+        PerformanceTestRepository reopened = open();
+        assertEquals(1, reopened.findAll().size());
+        assertTrue(reopened.existsById(intact.getId()));
+        PerformanceTest next = reopened.save(new PerformanceTest("Next", 1, 1, null));
+        reopened.shutdown();
+        
+        PerformanceTestRepository again = open();
+        assertEquals(2, again.findAll().size());
+        assertTrue(again.existsById(next.getId()));
+        again.shutdown();
+    }
+    
+    @Test
+    void testDisabledStoreKeepsNothingOnDisk() throws Exception {
+        PerformanceTestRepository repository = new PerformanceTestRepository(
+                new ObjectMapper(), false, directory.toString(), 4096, 10, 60_000, 1 << 20);
+        repository.save(new PerformanceTest("Memory only", 1, 1, null));
+        
+        assertEquals(1, repository.findAll().size());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+    
+    @Test
+    void testIndexListsByCreationTimeAndStatus() throws Exception {
+        PerformanceTestRepository repository = open();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        PerformanceTest first = created(repository, "First", base);
+        PerformanceTest second = created(repository, "Second", base.plusMinutes(1));
+        PerformanceTest third = created(repository, "Third", base.plusMinutes(2));
+        second.setStatus("COMPLETED");
+        repository.save(second);
+        
+        assertEquals(List.of(first, second, third), values(repository.find(null, null, null, null)));
+        assertEquals(List.of(first, third), values(repository.find("PENDING", null, null, null)));
+        assertEquals(List.of(second), values(repository.find("COMPLETED", null, null, null)));
+        assertEquals(List.of(), values(repository.find("RUNNING", null, null, null)));
+        assertEquals(List.of(second),
+                values(repository.find(null, base.plusMinutes(1), base.plusMinutes(2), null)));
+        
+        PerformanceTestRepository.Key afterFirst = repository.find(null, null, null, null)
+                .findFirst().orElseThrow().getKey();
+        PerformanceTestRepository.Key decoded = PerformanceTestRepository.Key.fromCursor(afterFirst.toCursor());
+        assertEquals(afterFirst, decoded);
+        assertEquals(List.of(second, third), values(repository.find(null, null, null, decoded)));
+        
+        repository.deleteById(third.getId());
+        assertEquals(List.of(first), values(repository.find("PENDING", null, null, null)));
+        repository.shutdown();
+        
+        PerformanceTestRepository reopened = open();
+        assertEquals(List.of(first.getId(), second.getId()),
+                ids(reopened.find(null, null, null, null)));
+        assertEquals(List.of(second.getId()), ids(reopened.find("COMPLETED", null, null, null)));
+        reopened.shutdown();
+    }
+    
+    @Test
+    void testMalformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PerformanceTestRepository.Key.fromCursor("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> PerformanceTestRepository.Key.fromCursor("bm8tc2VwYXJhdG9y"));
+    }
+    
+    private static PerformanceTest created(PerformanceTestRepository repository, String name, LocalDateTime time) {
+        PerformanceTest test = new PerformanceTest(name, 10, 5, null);
+        test.setCreatedTime(time);
+        return repository.save(test);
+    }
+    
+    private static List<PerformanceTest> values(Stream<Map.Entry<PerformanceTestRepository.Key, PerformanceTest>> entries) {
+        return entries.map(Map.Entry::getValue).toList();
+    }
+    
+    private static List<String> ids(Stream<Map.Entry<PerformanceTestRepository.Key, PerformanceTest>> entries) {
+        return entries.map(entry -> entry.getValue().getId()).toList();
+    }
+    
+    private PerformanceTestRepository open() throws IOException {
+        return new PerformanceTestRepository(
+                new ObjectMapper().findAndRegisterModules(), true, directory.toString(), 4096, 10, 60_000, 1 << 20);
+    }
+    
+    private long countSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("journal-")).count();
+        }
+    }
+    
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("journal-"))
+                    .max(Path::compareTo)
+                    .orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.model.dto.BatchComputationResponse;
+import com.hackfest.aicodechallenge.model.dto.ComputationResult;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchComputationServiceTest {
+    
+    private MatrixKernelService matrixKernelService;
+    private ComputationService computationService;
+    private BatchComputationService batchComputationService;
+    
+    @BeforeEach
+    void setUp() {
+        PrimeSieveService primeSieveService = new PrimeSieveService(10_000_000, 1_000_000);
+        FibonacciService fibonacciService = new FibonacciService(1_000_000, 16, 1 << 20);
+        SequenceService sequenceService = new SequenceService();
+        matrixKernelService = new MatrixKernelService(new ExecutorRegistry("platform", new SimpleMeterRegistry()), 2, 512);
+        computationService = new ComputationService(primeSieveService, fibonacciService, sequenceService,
+                matrixKernelService, new ComputationMetrics(new SimpleMeterRegistry()));
+        batchComputationService = new BatchComputationService(primeSieveService, fibonacciService, sequenceService,
+                matrixKernelService, 10);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        matrixKernelService.shutdown();
+    }
+    
+    @Test
+    void testBatch_MatchesIndividualComputations() {
+        List<Integer> values = List.of(300, 10, 95, 10, 512, 1);
+        
+        BatchComputationResponse response = batchComputationService.compute(values, MatrixKernelService.Mode.AUTO);
+        
+        assertEquals(6, response.getCount());
+        assertEquals(5, response.getDistinctCount());
+        for (int i = 0; i < values.size(); i++) {
+            ComputationResult batch = response.getResults().get(i);
+            ComputationResult single = computationService.compute(values.get(i), MatrixKernelService.Mode.AUTO);
+            assertEquals(single.getN(), batch.getN());
+            assertEquals(single.getPrimeCount(), batch.getPrimeCount());
+            assertEquals(single.getFibonacci(), batch.getFibonacci());
+            assertEquals(single.getConcatenatedLength(), batch.getConcatenatedLength());
+            assertEquals(single.getMatrixValue(), batch.getMatrixValue());
+            assertNotNull(batch.getStageTimings());
+        }
+    }
+    
+    @Test
+    void testBatch_InvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> batchComputationService.compute(List.of(), MatrixKernelService.Mode.AUTO));
+        assertThrows(IllegalArgumentException.class,
+                () -> batchComputationService.compute(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11), MatrixKernelService.Mode.AUTO));
+        assertThrows(IllegalArgumentException.class,
+                () -> batchComputationService.compute(List.of(10, 1024), MatrixKernelService.Mode.AUTO));
+    }
+}
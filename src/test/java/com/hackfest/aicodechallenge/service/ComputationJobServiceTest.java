@@ -0,0 +1,101 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.model.dto.ComputationJobRequest;
+import com.hackfest.aicodechallenge.model.dto.ComputationJobResponse;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComputationJobServiceTest {
+    
+    private MatrixKernelService matrixKernelService;
+    private ComputationJobService computationJobService;
+    
+    @BeforeEach
+    void setUp() {
+        matrixKernelService = new MatrixKernelService(new ExecutorRegistry("platform", new SimpleMeterRegistry()), 2, 2048);
+        ComputationService computationService = new ComputationService(
+                new PrimeSieveService(10_000_000, 1_000_000),
+                new FibonacciService(1_000_000, 16, 1 << 20),
+                new SequenceService(),
+                matrixKernelService,
+                new ComputationMetrics(new SimpleMeterRegistry()));
+        computationJobService = new ComputationJobService(computationService,
+                new ExecutorRegistry("platform", new SimpleMeterRegistry()), 1, 4, 30_000, 60_000, 10_000, 60_000);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        computationJobService.shutdown();
+        matrixKernelService.shutdown();
+    }
+    
+    @Test
+    void testSubmitAndAwaitCompletion() throws Exception {
+        ComputationJobResponse submitted = computationJobService.submit(new ComputationJobRequest(100, null, null));
+        
+        ComputationJobResponse finished = computationJobService.awaitJob(submitted.getJobId(), 10_000)
+                .get(15, TimeUnit.SECONDS);
+        
+        assertEquals("COMPLETED", finished.getStatus());
+        assertEquals(25, finished.getResult().getPrimeCount());
+        assertNotNull(finished.getCompletedAt());
+    }
+    
+    @Test
+    void testCancelRunningJob() throws Exception {
+        ComputationJobResponse submitted = computationJobService.submit(new ComputationJobRequest(2048, "naive", null));
+        awaitStatus(submitted.getJobId(), "RUNNING");
+        
+        computationJobService.cancel(submitted.getJobId());
+        
+        ComputationJobResponse finished = computationJobService.awaitJob(submitted.getJobId(), 10_000)
+                .get(15, TimeUnit.SECONDS);
+        assertEquals("CANCELLED", finished.getStatus());
+        assertNull(finished.getResult());
+    }
+    
+    @Test
+    void testCancelQueuedJob() throws Exception {
+        ComputationJobResponse blocker = computationJobService.submit(new ComputationJobRequest(2048, "naive", null));
+        ComputationJobResponse queued = computationJobService.submit(new ComputationJobRequest(10, null, null));
+        
+        ComputationJobResponse cancelled = computationJobService.cancel(queued.getJobId());
+        computationJobService.cancel(blocker.getJobId());
+        
+        assertEquals("CANCELLED", cancelled.getStatus());
+    }
+    
+    @Test
+    void testDeadlineExceeded() throws Exception {
+        ComputationJobResponse submitted = computationJobService.submit(new ComputationJobRequest(2048, "naive", 200L));
+        
+        ComputationJobResponse finished = computationJobService.awaitJob(submitted.getJobId(), 10_000)
+                .get(15, TimeUnit.SECONDS);
+        
+        assertEquals("TIMED_OUT", finished.getStatus());
+    }
+    
+    @Test
+    void testInvalidRequests() {
+        assertThrows(IllegalArgumentException.class, () -> computationJobService.getJob("non-existent-id"));
+        assertThrows(IllegalArgumentException.class,
+                () -> computationJobService.submit(new ComputationJobRequest(10, "bogus", null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> computationJobService.submit(new ComputationJobRequest(10, null, 120_000L)));
+    }
+    
+    private void awaitStatus(String jobId, String status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!status.equals(computationJobService.getJob(jobId).getStatus())) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for " + status);
+            Thread.sleep(5);
+        }
+    }
+}
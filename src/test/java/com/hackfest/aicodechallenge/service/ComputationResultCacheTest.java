@@ -0,0 +1,122 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.model.dto.ComputationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComputationResultCacheTest {
+    
+    private static final MatrixKernelService.Mode MODE = MatrixKernelService.Mode.AUTO;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private ComputationResultCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ComputationResultCache(meterRegistry, 1 << 20);
+    }
+    
+    @Test
+    void testHitAfterMiss() {
+        AtomicInteger computations = new AtomicInteger();
+        
+        ComputationResult first = cache.get(10, MODE, () -> result(computations.incrementAndGet()));
+        ComputationResult second = cache.get(10, MODE, () -> result(computations.incrementAndGet()));
+        
+        assertSame(first, second);
+        assertEquals(1, computations.get());
+        assertEquals(1.0, requests("miss"));
+        assertEquals(1.0, requests("hit"));
+    }
+    
+    @Test
+    void testConcurrentMissesAreCoalesced() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ComputationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cache.get(42, MODE, () -> {
+                    computations.incrementAndGet();
+                    awaitQuietly(release);
+                    return result(42);
+                })));
+            }
+            // Let every caller reach the cache before the single computation finishes
+            while (requests("miss") + requests("coalesced") + requests("hit") < 8) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            
+            for (Future<ComputationResult> future : futures) {
+                assertEquals(42, future.get(5, TimeUnit.SECONDS).getPrimeCount());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        assertEquals(1, computations.get());
+        assertEquals(1.0, requests("miss"));
+        assertEquals(7.0, requests("coalesced") + requests("hit"));
+    }
+    
+    @Test
+    void testFailuresAreNotCached() {
+        assertThrows(IllegalArgumentException.class, () -> cache.get(-1, MODE, () -> {
+            throw new IllegalArgumentException("bad n");
+        }));
+        
+        ComputationResult retried = cache.get(-1, MODE, () -> result(7));
+        
+        assertEquals(7, retried.getPrimeCount());
+    }
+    
+    @Test
+    void testErrorsCompleteTheEntryInsteadOfLeavingItPending() {
+        assertThrows(StackOverflowError.class, () -> cache.get(5, MODE, () -> {
+            throw new StackOverflowError();
+        }));
+        
+        ComputationResult retried = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> cache.get(5, MODE, () -> result(9)));
+        
+        assertEquals(9, retried.getPrimeCount());
+    }
+    
+    private double requests(String result) {
+        return meterRegistry.get("compute.cache.requests").tag("result", result).counter().count();
+    }
+    
+    private static ComputationResult result(int primeCount) {
+        return ComputationResult.builder()
+                .primeCount(primeCount)
+                .fibonacci(1L)
+                .concatenatedLength(2L)
+                .matrixValue(3)
+                .computationTimeMs(4L)
+                .build();
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
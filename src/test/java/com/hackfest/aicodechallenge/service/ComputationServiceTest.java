@@ -0,0 +1,68 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.model.dto.ComputationResult;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComputationServiceTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private MatrixKernelService matrixKernelService;
+    private ComputationService computationService;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        matrixKernelService = new MatrixKernelService(new ExecutorRegistry("platform", new SimpleMeterRegistry()), 2, 2048);
+        computationService = new ComputationService(
+                new PrimeSieveService(10_000_000, 1_000_000),
+                new FibonacciService(1_000_000, 16, 1 << 20),
+                new SequenceService(),
+                matrixKernelService,
+                new ComputationMetrics(meterRegistry));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        matrixKernelService.shutdown();
+    }
+    
+    @Test
+    void testCompute_MatchesOriginalWorkload() {
+        ComputationResult result = computationService.compute(100, MatrixKernelService.Mode.AUTO);
+        
+        assertEquals(25, result.getPrimeCount());
+        assertEquals(new BigInteger("354224848179261915075"), result.getFibonacci());
+        assertEquals(290, result.getConcatenatedLength());
+        assertEquals(980100, result.getMatrixValue());
+    }
+    
+    @Test
+    void testCompute_RecordsStageTimings() {
+        ComputationResult result = computationService.compute(300, MatrixKernelService.Mode.TILED);
+        
+        ComputationResult.StageTimings timings = result.getStageTimings();
+        assertNotNull(timings);
+        assertTrue(timings.getMatrixMs() > 0);
+        for (String stage : new String[]{"primes", "fibonacci", "concatenation", "matrix", "total"}) {
+            Timer timer = meterRegistry.get("compute.stage").tag("stage", stage).tag("n_bucket", "100-999").timer();
+            assertEquals(1, timer.count(), stage);
+        }
+    }
+    
+    @Test
+    void testBucketIndex() {
+        assertEquals("0-9", ComputationMetrics.N_BUCKETS[ComputationMetrics.bucketIndex(0)]);
+        assertEquals("10-99", ComputationMetrics.N_BUCKETS[ComputationMetrics.bucketIndex(10)]);
+        assertEquals("1000-9999", ComputationMetrics.N_BUCKETS[ComputationMetrics.bucketIndex(9999)]);
+        assertEquals("10000+", ComputationMetrics.N_BUCKETS[ComputationMetrics.bucketIndex(2_000_000)]);
+    }
+}
@@ -0,0 +1,70 @@
+package com.hackfest.aicodechallenge.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FibonacciServiceTest {
+    
+    private FibonacciService fibonacciService;
+    
+    @BeforeEach
+    void setUp() {
+        fibonacciService = new FibonacciService(2_000_000, 8, 1 << 20);
+    }
+    
+    @Test
+    void testFibonacci_FitsInLong() {
+        assertEquals(0L, fibonacciService.fibonacci(0));
+        assertEquals(1L, fibonacciService.fibonacci(1));
+        assertEquals(55L, fibonacciService.fibonacci(10));
+        assertEquals(63245986L, fibonacciService.fibonacci(39));
+        assertEquals(7540113804746346429L, fibonacciService.fibonacci(FibonacciService.MAX_LONG_INDEX));
+    }
+    
+    @Test
+    void testFibonacci_MatchesIterativeBeyondLong() {
+        BigInteger previous = BigInteger.ZERO;
+        BigInteger current = BigInteger.ONE;
+        for (int n = 1; n <= 1000; n++) {
+            assertEquals(current, fibonacciService.fibonacciExact(n), "F(" + n + ")");
+            BigInteger next = previous.add(current);
+            previous = current;
+            current = next;
+        }
+        assertInstanceOf(BigInteger.class, fibonacciService.fibonacci(FibonacciService.MAX_LONG_INDEX + 1));
+    }
+    
+    @Test
+    void testFibonacci_LargeIndex() {
+        BigInteger f = fibonacciService.fibonacciExact(1_000_000);
+        
+        // F(1,000,000) has 208,988 decimal digits and ends in ...42546875
+        assertEquals(694241, f.bitLength());
+        assertEquals(BigInteger.valueOf(42546875), f.mod(BigInteger.valueOf(100_000_000)));
+        assertSame(f, fibonacciService.fibonacciExact(1_000_000));
+    }
+    
+    @Test
+    void testFibonacciAscending_MatchesIndividualValues() {
+        int[] indices = {0, 5, 92, 93, 100, 150, 5_000, 5_010, 12_000, 200_000, 200_001, 900_000};
+        FibonacciService reference = new FibonacciService(2_000_000, 0, 0);
+        
+        Number[] values = fibonacciService.fibonacciAscending(indices, CancellationToken.NONE);
+        
+        for (int i = 0; i < indices.length; i++) {
+            assertEquals(reference.fibonacciExact(indices[i]), new BigInteger(values[i].toString()), "F(" + indices[i] + ")");
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> fibonacciService.fibonacciAscending(new int[]{10, 5}, CancellationToken.NONE));
+    }
+    
+    @Test
+    void testFibonacci_InvalidIndex() {
+        assertThrows(IllegalArgumentException.class, () -> fibonacciService.fibonacci(-1));
+        assertThrows(IllegalArgumentException.class, () -> fibonacciService.fibonacci(2_000_001));
+    }
+}
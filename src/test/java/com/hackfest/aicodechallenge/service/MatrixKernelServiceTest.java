@@ -0,0 +1,63 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixKernelServiceTest {
+    
+    private MatrixKernelService matrixKernelService;
+    
+    @BeforeEach
+    void setUp() {
+        matrixKernelService = new MatrixKernelService(new ExecutorRegistry("platform", new SimpleMeterRegistry()), 4, 2048);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        matrixKernelService.shutdown();
+    }
+    
+    @Test
+    void testWorkloadCorner_MatchesOriginalLoop() {
+        for (int n : new int[]{1, 2, 7, 64, 300}) {
+            int expected = 0;
+            for (int k = 0; k < n; k++) {
+                expected += (n - 1) * k + (n - 1) * k;
+            }
+            for (MatrixKernelService.Mode mode : MatrixKernelService.Mode.values()) {
+                assertEquals(expected, matrixKernelService.workloadCorner(n, mode), "n=" + n + ", mode=" + mode);
+            }
+        }
+    }
+    
+    @Test
+    void testMultiply_AllModesAgree() {
+        Random random = new Random(42);
+        int rows = 129;
+        int inner = 301;
+        int cols = 257;
+        int[] a = random.ints(rows * inner, -1000, 1000).toArray();
+        int[] b = random.ints(inner * cols, -1000, 1000).toArray();
+        
+        int[] naive = matrixKernelService.multiply(a, b, rows, inner, cols, MatrixKernelService.Mode.NAIVE);
+        
+        assertArrayEquals(naive, matrixKernelService.multiply(a, b, rows, inner, cols, MatrixKernelService.Mode.TILED));
+        assertArrayEquals(naive, matrixKernelService.multiply(a, b, rows, inner, cols, MatrixKernelService.Mode.PARALLEL));
+        assertArrayEquals(naive, matrixKernelService.multiply(a, b, rows, inner, cols, MatrixKernelService.Mode.AUTO));
+    }
+    
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> matrixKernelService.workloadCorner(0, MatrixKernelService.Mode.AUTO));
+        assertThrows(IllegalArgumentException.class, () -> matrixKernelService.workloadCorner(4096, MatrixKernelService.Mode.AUTO));
+        assertThrows(IllegalArgumentException.class, () -> MatrixKernelService.Mode.from("bogus"));
+        assertEquals(MatrixKernelService.Mode.PARALLEL, MatrixKernelService.Mode.from("parallel"));
+    }
+}
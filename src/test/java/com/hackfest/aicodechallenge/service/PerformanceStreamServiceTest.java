@@ -0,0 +1,147 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.PerformanceSnapshot;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceStreamServiceTest {
+    
+    private PerformanceStreamService performanceStreamService;
+    
+    @BeforeEach
+    void setUp() {
+        performanceStreamService = new PerformanceStreamService(
+                new ObjectMapper().findAndRegisterModules(), new ExecutorRegistry("platform", new SimpleMeterRegistry()),
+                60_000, 2, 2);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        performanceStreamService.shutdown();
+    }
+    
+    @Test
+    void testSnapshotsFanOutToAllSubscribers() throws Exception {
+        RecordingEmitter first = new RecordingEmitter(new CountDownLatch(0));
+        RecordingEmitter second = new RecordingEmitter(new CountDownLatch(0));
+        performanceStreamService.subscribe("test-1", first);
+        performanceStreamService.subscribe("test-1", second);
+        
+        performanceStreamService.publish(snapshot("test-1", 1));
+        performanceStreamService.publish(snapshot("test-1", 2));
+        performanceStreamService.complete("test-1", Map.of("status", "COMPLETED"));
+        
+        assertTrue(first.completed.await(2, TimeUnit.SECONDS));
+        assertTrue(second.completed.await(2, TimeUnit.SECONDS));
+        for (RecordingEmitter emitter : List.of(first, second)) {
+            assertTrue(emitter.events.stream().anyMatch(e -> e.contains("event:snapshot")));
+            assertTrue(emitter.events.stream().anyMatch(e -> e.contains("\"throughput\"")));
+            assertTrue(emitter.events.get(emitter.events.size() - 1).contains("event:complete"));
+        }
+        assertEquals(0, performanceStreamService.getSubscriberCount("test-1"));
+    }
+    
+    @Test
+    void testSlowSubscriberIsDropped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stuck = new RecordingEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter(new CountDownLatch(0));
+        performanceStreamService.subscribe("test-2", stuck);
+        performanceStreamService.subscribe("test-2", healthy);
+        
+        // One event blocks in send, two fill the queue and the next overflows it
+        performanceStreamService.publish(snapshot("test-2", 1));
+        assertTrue(stuck.entered.await(2, TimeUnit.SECONDS));
+        assertTrue(healthy.sent.tryAcquire(2, TimeUnit.SECONDS));
+        for (long sequence = 2; sequence <= 4; sequence++) {
+            performanceStreamService.publish(snapshot("test-2", sequence));
+            assertTrue(healthy.sent.tryAcquire(2, TimeUnit.SECONDS));
+        }
+        
+        assertEquals(1, performanceStreamService.getSubscriberCount("test-2"));
+        assertEquals(0, stuck.completed.getCount());
+        assertEquals(4, healthy.events.size());
+        release.countDown();
+    }
+    
+    @Test
+    void testFinalResultReachesSubscriberWithFullBacklog() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter behind = new RecordingEmitter(release);
+        performanceStreamService.subscribe("test-3", behind);
+        
+        performanceStreamService.publish(snapshot("test-3", 1));
+        assertTrue(behind.entered.await(2, TimeUnit.SECONDS));
+        performanceStreamService.publish(snapshot("test-3", 2));
+        performanceStreamService.publish(snapshot("test-3", 3));
+        performanceStreamService.complete("test-3", Map.of("status", "COMPLETED"));
+        release.countDown();
+        
+        assertTrue(behind.completed.await(2, TimeUnit.SECONDS));
+        assertEquals(4, behind.events.size());
+        assertTrue(behind.events.get(3).contains("event:complete"));
+    }
+    
+    private static PerformanceSnapshot snapshot(String testId, long sequence) {
+        return PerformanceSnapshot.builder()
+                .testId(testId)
+                .sequence(sequence)
+                .intervalRequests(100L)
+                .throughput(100.0)
+                .build();
+    }
+    
+    /**
+     * Records encoded events instead of writing them to a response; {@code release} gates every send,
+     * and {@code sent} gets a permit per recorded event.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final CountDownLatch entered = new CountDownLatch(1);
+        final Semaphore sent = new Semaphore(0);
+        private final CountDownLatch release;
+        
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+        
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            StringBuilder event = new StringBuilder();
+            items.forEach(item -> event.append(item.getData()));
+            events.add(event.toString());
+            sent.release();
+        }
+        
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+    }
+}
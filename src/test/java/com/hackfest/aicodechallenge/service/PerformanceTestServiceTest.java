@@ -1,19 +1,73 @@
 package com.hackfest.aicodechallenge.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.LatencyBucket;
+import com.hackfest.aicodechallenge.model.dto.LoadStage;
+import com.hackfest.aicodechallenge.model.dto.ParameterSpec;
+import com.hackfest.aicodechallenge.model.dto.PerformanceTestPage;
 import com.hackfest.aicodechallenge.model.dto.PerformanceTestRequest;
 import com.hackfest.aicodechallenge.model.dto.PerformanceTestResponse;
+import com.hackfest.aicodechallenge.model.dto.RequestTemplate;
+import com.hackfest.aicodechallenge.model.dto.TemplateMetrics;
+import com.hackfest.aicodechallenge.model.dto.TimeSeriesResponse;
+import com.hackfest.aicodechallenge.repository.PerformanceTestRepository;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import com.hackfest.aicodechallenge.service.load.DistributedLoadCoordinator;
+import com.hackfest.aicodechallenge.service.load.HttpLoadTargetFactory;
+import com.hackfest.aicodechallenge.service.load.LoadGenerator;
+import com.hackfest.aicodechallenge.service.load.StubTargetServer;
+import com.hackfest.aicodechallenge.service.timeseries.TestTimeSeries;
+import com.hackfest.aicodechallenge.service.timeseries.TimeSeriesService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PerformanceTestServiceTest {
     
+    private final ExecutorRegistry executorRegistry = new ExecutorRegistry("platform", new SimpleMeterRegistry());
+    private LoadGenerator loadGenerator;
+    private StubTargetServer stubTarget;
+    private HttpLoadTargetFactory httpLoadTargetFactory;
+    private PerformanceStreamService performanceStreamService;
+    private TestMetricsSampler testMetricsSampler;
+    private TestScheduler testScheduler;
     private PerformanceTestService performanceTestService;
     
     @BeforeEach
-    void setUp() {
-        performanceTestService = new PerformanceTestService();
+    void setUp() throws Exception {
+        loadGenerator = new LoadGenerator(executorRegistry, 2, 1, 50_000);
+        stubTarget = new StubTargetServer(true, 0, "FIXED", 5, 0, 0, 0.0, 503);
+        httpLoadTargetFactory = new HttpLoadTargetFactory(stubTarget, executorRegistry, 2, 2000, 5000, 30);
+        performanceStreamService = new PerformanceStreamService(new ObjectMapper().findAndRegisterModules(),
+                executorRegistry, 60_000, 16, 1);
+        TimeSeriesService timeSeriesService = new TimeSeriesService(60, 60, 60, 10);
+        testScheduler = new TestScheduler(2, 1_000);
+        testMetricsSampler = new TestMetricsSampler(performanceStreamService, timeSeriesService, 100);
+        PerformanceTestRepository performanceTestRepository =
+                new PerformanceTestRepository(new ObjectMapper(), false, null, 0, 0, 0, 0);
+        performanceTestService = new PerformanceTestService(
+                performanceTestRepository, loadGenerator, httpLoadTargetFactory, performanceStreamService,
+                testMetricsSampler, timeSeriesService, testScheduler,
+                new DistributedLoadCoordinator(new ObjectMapper(), "", 1000, 5000, 2000, ""),
+                new TestResultCache(new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), 1 << 20, 1024));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        testMetricsSampler.shutdown();
+        performanceStreamService.shutdown();
+        loadGenerator.shutdown();
+        httpLoadTargetFactory.shutdown();
+        stubTarget.shutdown();
     }
     
     @Test
@@ -52,6 +106,190 @@ class PerformanceTestServiceTest {
         assertNotNull(startedTest.getStartTime());
     }
     
+    @Test
+    void testTestsBeyondBudgetQueueUntilCapacityFrees() throws Exception {
+        // The scheduler admits two tests at a time; each of these would run for 5 seconds
+        String first = createLongTest("First");
+        String second = createLongTest("Second");
+        String third = createLongTest("Third");
+        
+        assertEquals("RUNNING", performanceTestService.startTest(first).getStatus());
+        assertEquals("RUNNING", performanceTestService.startTest(second).getStatus());
+        PerformanceTestResponse queued = performanceTestService.startTest(third);
+        assertEquals("QUEUED", queued.getStatus());
+        assertNull(queued.getStartTime());
+        assertNotNull(queued.getQueuedTime());
+        
+        performanceTestService.cancelTest(first);
+        PerformanceTestResponse cancelled = awaitTerminal(first);
+        assertEquals("CANCELLED", cancelled.getStatus());
+        assertTrue(cancelled.getMetrics().getTotalRequests() < 50);
+        
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!"RUNNING".equals(performanceTestService.getTestResult(third).getStatus())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals("RUNNING", performanceTestService.getTestResult(third).getStatus());
+        
+        performanceTestService.cancelTest(second);
+        performanceTestService.cancelTest(third);
+        assertEquals("CANCELLED", awaitTerminal(second).getStatus());
+        assertEquals("CANCELLED", awaitTerminal(third).getStatus());
+        assertEquals(0, testScheduler.getRunningCount());
+    }
+    
+    @Test
+    void testCancelQueuedTestNeverStartsIt() throws Exception {
+        String first = createLongTest("First");
+        String second = createLongTest("Second");
+        String third = createLongTest("Third");
+        performanceTestService.startTest(first);
+        performanceTestService.startTest(second);
+        performanceTestService.startTest(third);
+        
+        PerformanceTestResponse cancelled = performanceTestService.cancelTest(third);
+        
+        assertEquals("CANCELLED", cancelled.getStatus());
+        assertNull(cancelled.getStartTime());
+        assertEquals(0, testScheduler.getQueuedCount());
+        performanceTestService.cancelTest(first);
+        performanceTestService.cancelTest(second);
+        awaitTerminal(first);
+        awaitTerminal(second);
+        assertEquals("CANCELLED", performanceTestService.getTestResult(third).getStatus());
+    }
+    
+    @Test
+    void testCreateTestRejectsLoadAboveBudget() {
+        PerformanceTestRequest request = new PerformanceTestRequest("Too Much", 1, 1_001, null);
+        
+        assertThrows(IllegalArgumentException.class, () -> performanceTestService.createTest(request));
+    }
+    
+    @Test
+    void testExecuteTestAgainstStub() throws Exception {
+        PerformanceTestRequest request = new PerformanceTestRequest("Stub Load", 1, 50, "Stub test");
+        request.setTargetUrl(stubTarget.getUri() + "?latencyMs=20&errorRate=0.5");
+        request.setConcurrency(20);
+        PerformanceTestResponse created = performanceTestService.createTest(request);
+        assertEquals("GET", created.getHttpMethod());
+        
+        performanceTestService.startTest(created.getTestId());
+        PerformanceTestResponse result = awaitTerminal(created.getTestId());
+        
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(50, result.getMetrics().getTotalRequests());
+        assertTrue(result.getMetrics().getFailedRequests() > 5, "failed " + result.getMetrics().getFailedRequests());
+        assertTrue(result.getMetrics().getSuccessfulRequests() > 5);
+        assertTrue(result.getMetrics().getP50ResponseTime() >= 19, "p50 " + result.getMetrics().getP50ResponseTime());
+        assertTrue(result.getMetrics().getP99ResponseTime() >= result.getMetrics().getP50ResponseTime());
+    }
+    
+    @Test
+    void testExecuteShapedTest() throws Exception {
+        PerformanceTestRequest request = new PerformanceTestRequest("Ramp", null, null, null);
+        request.setTargetUrl(stubTarget.getUri().toString());
+        request.setStages(List.of(new LoadStage(1, 60.0, "LINEAR"), new LoadStage(1, 20.0, "STEP")));
+        PerformanceTestResponse created = performanceTestService.createTest(request);
+        assertEquals(2, created.getDurationSeconds());
+        assertEquals(60, created.getLoadLevel());
+        
+        performanceTestService.startTest(created.getTestId());
+        PerformanceTestResponse result = awaitTerminal(created.getTestId());
+        
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(30 + 20, result.getMetrics().getTotalRequests());
+        assertNotNull(result.getMetrics().getP99ScheduleLag());
+        assertTrue(result.getMetrics().getMaxScheduleLag() >= result.getMetrics().getP99ScheduleLag());
+    }
+    
+    @Test
+    void testExecuteScenarioReportsEachTemplate() throws Exception {
+        PerformanceTestRequest request = new PerformanceTestRequest("Mix", 1, 60, null);
+        request.setTargetUrl(stubTarget.getUri() + "?latencyMs=2");
+        request.setScenario(List.of(
+                RequestTemplate.builder().name("compute").weight(7.0).path("/compute/{n}")
+                        .parameters(Map.of("n", ParameterSpec.builder().type("EXPONENTIAL").mean(100.0).build()))
+                        .build(),
+                RequestTemplate.builder().name("fail").weight(3.0).path("/fail?errorRate=1").build()));
+        PerformanceTestResponse created = performanceTestService.createTest(request);
+        assertEquals(2, created.getScenario().size());
+        
+        performanceTestService.startTest(created.getTestId());
+        PerformanceTestResponse result = awaitTerminal(created.getTestId());
+        
+        assertEquals("COMPLETED", result.getStatus());
+        List<TemplateMetrics> templates = result.getMetrics().getTemplates();
+        assertEquals(List.of("compute", "fail"), templates.stream().map(TemplateMetrics::getName).toList());
+        assertEquals(60, templates.get(0).getTotalRequests() + templates.get(1).getTotalRequests());
+        assertEquals(0, templates.get(0).getFailedRequests());
+        assertEquals(100.0, templates.get(1).getErrorRate());
+        assertEquals((long) templates.get(1).getFailedRequests(), (long) result.getMetrics().getFailedRequests());
+    }
+    
+    @Test
+    void testCreateTestRequiresLoadOrStages() {
+        PerformanceTestRequest request = new PerformanceTestRequest("No Load", 10, null, null);
+        
+        assertThrows(IllegalArgumentException.class, () -> performanceTestService.createTest(request));
+        
+        request.setStages(List.of(new LoadStage(10, 10.0, "SAWTOOTH")));
+        assertThrows(IllegalArgumentException.class, () -> performanceTestService.createTest(request));
+    }
+    
+    @Test
+    void testTimeSeriesCoversWholeRun() throws Exception {
+        PerformanceTestRequest request = new PerformanceTestRequest("Series", 2, 40, null);
+        request.setTargetUrl(stubTarget.getUri() + "?errorRate=0.25");
+        PerformanceTestResponse created = performanceTestService.createTest(request);
+        assertEquals(0, performanceTestService.getTimeSeries(created.getTestId(), null, null, null)
+                .getTimestamps().length);
+        
+        performanceTestService.startTest(created.getTestId());
+        PerformanceTestResponse result = awaitTerminal(created.getTestId());
+        
+        for (TestTimeSeries.Resolution resolution : TestTimeSeries.Resolution.values()) {
+            TimeSeriesResponse series = performanceTestService.getTimeSeries(
+                    created.getTestId(), null, null, resolution);
+            assertEquals(resolution.getSeconds(), series.getResolutionSeconds());
+            assertEquals(80, LongStream.of(series.getRequests()).sum());
+            assertEquals((long) result.getMetrics().getFailedRequests(), LongStream.of(series.getFailures()).sum());
+        }
+        TimeSeriesResponse auto = performanceTestService.getTimeSeries(created.getTestId(), null, null, null);
+        assertEquals(1, auto.getResolutionSeconds());
+        assertTrue(auto.getTimestamps().length >= 2);
+    }
+    
+    @Test
+    void testExecuteTestCountsUnreachableTargetAsFailures() throws Exception {
+        PerformanceTestRequest request = new PerformanceTestRequest("Dead Target", 1, 10, null);
+        // Port 9 (discard) on loopback is not listening, so every connection is refused
+        request.setTargetUrl("http://127.0.0.1:9/");
+        request.setHttpMethod("post");
+        request.setRequestBody("{\"n\":1}");
+        PerformanceTestResponse created = performanceTestService.createTest(request);
+        assertEquals("POST", created.getHttpMethod());
+        
+        performanceTestService.startTest(created.getTestId());
+        PerformanceTestResponse result = awaitTerminal(created.getTestId());
+        
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(10, result.getMetrics().getFailedRequests());
+        assertEquals(100.0, result.getMetrics().getErrorRate());
+    }
+    
+    @Test
+    void testCreateTestRejectsInvalidTarget() {
+        PerformanceTestRequest request = new PerformanceTestRequest("Bad", 1, 1, null);
+        request.setTargetUrl("ftp://example.com/file");
+        assertThrows(IllegalArgumentException.class, () -> performanceTestService.createTest(request));
+        
+        request.setTargetUrl(null);
+        request.setHttpMethod("TRACE");
+        assertThrows(IllegalArgumentException.class, () -> performanceTestService.createTest(request));
+    }
+    
     @Test
     void testSimulateLoad() {
         // When
@@ -63,6 +301,97 @@ class PerformanceTestServiceTest {
         assertNotNull(response.getMetrics());
         assertEquals(10, response.getMetrics().getTotalRequests());
         assertTrue(response.getMetrics().getAverageResponseTime() > 0);
+        assertTrue(response.getMetrics().getP99ResponseTime() >= response.getMetrics().getP50ResponseTime());
+        assertTrue(response.getMetrics().getP9999ResponseTime() <= response.getMetrics().getMaxResponseTime());
+        assertEquals(10, response.getMetrics().getLatencyDistribution().stream()
+                .mapToLong(LatencyBucket::getCount).sum());
+    }
+    
+    @Test
+    void testStartLoadSimulation_RunsConcurrently() throws Exception {
+        // 200 requests of ~75ms each would take 15s sequentially
+        PerformanceTestResponse started = performanceTestService.startLoadSimulation(200, 50, 50, 1000.0);
+        assertEquals(200, started.getLoadLevel());
+        
+        PerformanceTestResponse result = started;
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!"COMPLETED".equals(result.getStatus()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            result = performanceTestService.getLoadSimulation(started.getTestId());
+        }
+        
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(200, result.getMetrics().getTotalRequests());
+        assertEquals(200, result.getMetrics().getSuccessfulRequests() + result.getMetrics().getFailedRequests());
+        assertTrue(result.getMetrics().getThroughput() > 100);
+    }
+    
+    @Test
+    void testOnlyFinishedResultsAreCached() throws Exception {
+        PerformanceTestRequest request = new PerformanceTestRequest("Cached", 1, 10, null);
+        request.setTargetUrl(stubTarget.getUri().toString());
+        String testId = performanceTestService.createTest(request).getTestId();
+        assertTrue(performanceTestService.getCachedResult(testId, TestResultCache.Format.JSON).isEmpty());
+        
+        performanceTestService.startTest(testId);
+        awaitTerminal(testId);
+        TestResultCache.Representation first =
+                performanceTestService.getCachedResult(testId, TestResultCache.Format.JSON).orElseThrow();
+        assertSame(first, performanceTestService.getCachedResult(testId, TestResultCache.Format.JSON).orElseThrow());
+        
+        // A rerun replaces the result, so it must not be served from the old entry
+        performanceTestService.startTest(testId);
+        awaitTerminal(testId);
+        assertNotSame(first, performanceTestService.getCachedResult(testId, TestResultCache.Format.JSON).orElseThrow());
+        
+        performanceTestService.deleteTest(testId);
+        assertThrows(IllegalArgumentException.class,
+                () -> performanceTestService.getCachedResult(testId, TestResultCache.Format.JSON));
+    }
+    
+    @Test
+    void testTestsArePagedInCreationOrder() {
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(performanceTestService.createTest(
+                    new PerformanceTestRequest("Paged " + i, 10, 1, null)).getTestId());
+        }
+        
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PerformanceTestPage page = performanceTestService.getTests(null, null, null, cursor, 2);
+            page.getTests().forEach(test -> paged.add(test.getTestId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        
+        List<String> streamed = performanceTestService.streamTests(null, null, null)
+                .map(PerformanceTestResponse::getTestId)
+                .toList();
+        assertEquals(3, pages);
+        assertEquals(5, paged.size());
+        assertEquals(streamed, paged);
+        assertTrue(paged.containsAll(created));
+        
+        PerformanceTestPage pending = performanceTestService.getTests("pending", null, null, null, 10);
+        assertEquals(paged, pending.getTests().stream().map(PerformanceTestResponse::getTestId).toList());
+        assertNull(pending.getNextCursor());
+        assertTrue(performanceTestService.getTests("COMPLETED", null, null, null, 10).getTests().isEmpty());
+    }
+    
+    @Test
+    void testListingRejectsInvalidFilters() {
+        assertThrows(IllegalArgumentException.class,
+                () -> performanceTestService.getTests("DONE", null, null, null, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> performanceTestService.getTests(null, null, null, "garbage", 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> performanceTestService.getTests(null, null, null, null, 0));
+        LocalDateTime now = LocalDateTime.now();
+        assertThrows(IllegalArgumentException.class,
+                () -> performanceTestService.streamTests(null, now, now.minusSeconds(1)));
     }
     
     @Test
@@ -72,4 +401,21 @@ class PerformanceTestServiceTest {
             performanceTestService.getTestResult("non-existent-id");
         });
     }
+    
+    private String createLongTest(String name) {
+        PerformanceTestRequest request = new PerformanceTestRequest(name, 5, 10, null);
+        request.setTargetUrl(stubTarget.getUri().toString());
+        return performanceTestService.createTest(request).getTestId();
+    }
+    
+    private PerformanceTestResponse awaitTerminal(String testId) throws InterruptedException {
+        PerformanceTestResponse result = performanceTestService.getTestResult(testId);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (("QUEUED".equals(result.getStatus()) || "RUNNING".equals(result.getStatus()))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            result = performanceTestService.getTestResult(testId);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,88 @@
+package com.hackfest.aicodechallenge.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimeSieveServiceTest {
+    
+    private PrimeSieveService primeSieveService;
+    
+    @BeforeEach
+    void setUp() {
+        primeSieveService = new PrimeSieveService(20_000_000, 1_000_000);
+    }
+    
+    @Test
+    void testCountPrimes_KnownValues() {
+        assertEquals(0, primeSieveService.countPrimes(1));
+        assertEquals(1, primeSieveService.countPrimes(2));
+        assertEquals(4, primeSieveService.countPrimes(10));
+        assertEquals(25, primeSieveService.countPrimes(100));
+        assertEquals(78498, primeSieveService.countPrimes(1_000_000));
+        assertEquals(664579, primeSieveService.countPrimes(10_000_000));
+    }
+    
+    @Test
+    void testCountPrimes_MatchesTrialDivision() {
+        int expected = 0;
+        for (int n = 0; n <= 200_000; n++) {
+            if (isPrimeByTrialDivision(n)) {
+                expected++;
+            }
+            if (n % 997 == 0 || n > 199_000) {
+                assertEquals(expected, primeSieveService.countPrimes(n), "pi(" + n + ")");
+            }
+        }
+    }
+    
+    @Test
+    void testSieveGrowsIncrementally() {
+        long initial = primeSieveService.getSievedLimit();
+        
+        primeSieveService.countPrimes(initial + 1);
+        long grown = primeSieveService.getSievedLimit();
+        
+        assertTrue(grown > initial + 1);
+        assertEquals(1270607, primeSieveService.countPrimes(20_000_000));
+        assertEquals(20_000_000, primeSieveService.getSievedLimit(), 128);
+    }
+    
+    @Test
+    void testPrimesInRange() {
+        assertEquals(List.of(2L, 3L, 5L, 7L), primeSieveService.primesInRange(0, 10));
+        assertEquals(List.of(101L, 103L, 107L, 109L, 113L), primeSieveService.primesInRange(100, 113));
+        assertEquals(5, primeSieveService.countPrimes(100, 113));
+        assertTrue(primeSieveService.primesInRange(24, 28).isEmpty());
+    }
+    
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> primeSieveService.primesInRange(10, 5));
+        assertThrows(IllegalArgumentException.class, () -> primeSieveService.primesInRange(0, 2_000_000));
+        assertThrows(IllegalArgumentException.class, () -> primeSieveService.countPrimes(30_000_000));
+    }
+    
+    @Test
+    void testRejectsLimitBeyondWhatTheSieveCanExtendTo() {
+        assertThrows(IllegalArgumentException.class, () -> new PrimeSieveService(5_000_000_000L, 1_000_000));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrimeSieveService(PrimeSieveService.MAX_SUPPORTED_LIMIT + 1, 1_000_000));
+        assertDoesNotThrow(() -> new PrimeSieveService(PrimeSieveService.MAX_SUPPORTED_LIMIT, 1_000_000));
+    }
+    
+    private boolean isPrimeByTrialDivision(int n) {
+        if (n < 2) {
+            return false;
+        }
+        for (int d = 2; (long) d * d <= n; d++) {
+            if (n % d == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
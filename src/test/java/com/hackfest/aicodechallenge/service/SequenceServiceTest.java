@@ -0,0 +1,58 @@
+package com.hackfest.aicodechallenge.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequenceServiceTest {
+    
+    private SequenceService sequenceService;
+    
+    @BeforeEach
+    void setUp() {
+        sequenceService = new SequenceService();
+    }
+    
+    @Test
+    void testSequenceLength_MatchesConcatenation() {
+        StringBuilder expected = new StringBuilder();
+        for (int n = 0; n <= 12_000; n++) {
+            assertEquals(expected.length(), sequenceService.sequenceLength(n), "n=" + n);
+            expected.append(n).append(',');
+        }
+    }
+    
+    @Test
+    void testSequenceLength_LargeN() {
+        // 10 one-digit, 90 two-digit, ..., 900,000,000 nine-digit numbers plus one comma each
+        assertEquals(8_888_888_890L + 1_000_000_000L, sequenceService.sequenceLength(1_000_000_000));
+    }
+    
+    @Test
+    void testWriteSequence_SpansBufferBoundaries() throws Exception {
+        int n = 50_000;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        sequenceService.writeSequence(n, out);
+        
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            expected.append(i).append(',');
+        }
+        assertTrue(expected.length() > SequenceService.BUFFER_SIZE);
+        assertEquals(expected.toString(), out.toString(StandardCharsets.US_ASCII));
+    }
+    
+    @Test
+    void testWriteSequence_Empty() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        sequenceService.writeSequence(0, out);
+        
+        assertEquals(0, out.size());
+    }
+}
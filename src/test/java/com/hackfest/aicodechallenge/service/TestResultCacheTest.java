@@ -0,0 +1,91 @@
+package com.hackfest.aicodechallenge.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.hackfest.aicodechallenge.model.dto.PerformanceTestResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestResultCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final TestResultCache cache = new TestResultCache(objectMapper, new SimpleMeterRegistry(), 1 << 20, 256);
+
+    @Test
+    void testResponseIsEncodedOnceUntilInvalidated() {
+        AtomicInteger builds = new AtomicInteger();
+        TestResultCache.Representation first = cache.get("t1", TestResultCache.Format.JSON, () -> {
+            builds.incrementAndGet();
+            return response("t1", "short");
+        });
+        TestResultCache.Representation second = cache.get("t1", TestResultCache.Format.JSON, () -> {
+            builds.incrementAndGet();
+            return response("t1", "short");
+        });
+
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+
+        cache.invalidate("t1");
+        TestResultCache.Representation rebuilt = cache.get("t1", TestResultCache.Format.JSON,
+                () -> response("t1", "changed"));
+        assertNotEquals(first.tag(), rebuilt.tag());
+    }
+
+    @Test
+    void testEncodingsDecodeToTheSameResponse() throws Exception {
+        TestResultCache.Representation json = cache.get("t2", TestResultCache.Format.JSON,
+                () -> response("t2", "x".repeat(1000)));
+        TestResultCache.Representation cbor = cache.get("t2", TestResultCache.Format.CBOR,
+                () -> response("t2", "x".repeat(1000)));
+
+        JsonNode fromJson = objectMapper.readTree(json.identity());
+        JsonNode fromCbor = new ObjectMapper(new CBORFactory()).readTree(cbor.identity());
+        assertEquals(fromJson.get("data"), fromCbor.get("data"));
+        assertNotEquals(json.tag(), cbor.tag());
+
+        // Large enough to be kept compressed as well; the copy inflates back to the same bytes
+        assertNotNull(json.gzip());
+        assertTrue(json.gzip().length < json.identity().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(json.gzip()))) {
+            assertArrayEquals(json.identity(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testSmallResponsesAreNotCompressed() {
+        TestResultCache uncompressed = new TestResultCache(objectMapper, new SimpleMeterRegistry(), 1 << 20, 1 << 16);
+        TestResultCache.Representation small =
+                uncompressed.get("t3", TestResultCache.Format.JSON, () -> response("t3", null));
+
+        assertNull(small.gzip());
+    }
+
+    @Test
+    void testEitherEncodingsEtagRevalidates() {
+        TestResultCache.Representation representation = cache.get("t4", TestResultCache.Format.JSON,
+                () -> response("t4", null));
+
+        assertTrue(representation.matches(representation.etag(false)));
+        assertTrue(representation.matches("\"other\", " + representation.etag(true)));
+        assertTrue(representation.matches("W/" + representation.etag(false)));
+        assertTrue(representation.matches("*"));
+        assertFalse(representation.matches("\"other\""));
+        assertFalse(representation.matches(null));
+    }
+
+    private static PerformanceTestResponse response(String testId, String description) {
+        return PerformanceTestResponse.builder()
+                .testId(testId)
+                .status("COMPLETED")
+                .description(description)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.hackfest.aicodechallenge.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSchedulerTest {
+
+    private final List<String> launched = new ArrayList<>();
+    private final Map<String, TestScheduler.Ticket> tickets = new HashMap<>();
+
+    @Test
+    void testConcurrentTestBudget() {
+        TestScheduler scheduler = new TestScheduler(2, 1_000);
+
+        submit(scheduler, "a", "t1", 0, 10);
+        submit(scheduler, "b", "t1", 0, 10);
+        submit(scheduler, "c", "t1", 0, 10);
+
+        assertEquals(List.of("a", "b"), launched);
+        assertEquals(1, scheduler.getQueuedCount());
+        scheduler.release(tickets.get("a"));
+        assertEquals(List.of("a", "b", "c"), launched);
+        assertEquals(2, scheduler.getRunningCount());
+    }
+
+    @Test
+    void testRequestRateBudgetWithoutBackfill() {
+        TestScheduler scheduler = new TestScheduler(10, 100);
+
+        submit(scheduler, "a", "t1", 0, 60);
+        submit(scheduler, "big", "t1", 0, 50);
+        // Would fit, but must not overtake the larger test queued before it
+        submit(scheduler, "small", "t1", 0, 10);
+
+        assertEquals(List.of("a"), launched);
+        assertEquals(60, scheduler.getUsedRequestsPerSecond());
+        scheduler.release(tickets.get("a"));
+        assertEquals(List.of("a", "big", "small"), launched);
+        assertThrows(IllegalArgumentException.class, () -> scheduler.validate(101));
+    }
+
+    @Test
+    void testPriorityWithinTenant() {
+        TestScheduler scheduler = new TestScheduler(1, 1_000);
+
+        submit(scheduler, "running", "t1", 0, 10);
+        submit(scheduler, "low", "t1", 0, 10);
+        submit(scheduler, "high", "t1", 5, 10);
+        scheduler.release(tickets.get("running"));
+
+        assertEquals(List.of("running", "high"), launched);
+    }
+
+    @Test
+    void testTenantWithLeastLoadGoesFirst() {
+        TestScheduler scheduler = new TestScheduler(3, 1_000);
+
+        submit(scheduler, "heavy-1", "heavy", 0, 100);
+        submit(scheduler, "heavy-2", "heavy", 0, 100);
+        submit(scheduler, "light-1", "light", 0, 10);
+        // Full: heavy is offering 200 req/s and light 10 req/s
+        submit(scheduler, "heavy-3", "heavy", 9, 10);
+        submit(scheduler, "light-2", "light", 0, 10);
+        scheduler.release(tickets.get("heavy-1"));
+
+        assertEquals(List.of("heavy-1", "heavy-2", "light-1", "light-2"), launched);
+    }
+
+    @Test
+    void testDequeueAndDeclinedLaunchFreeCapacity() {
+        TestScheduler scheduler = new TestScheduler(1, 1_000);
+        submit(scheduler, "a", "t1", 0, 10);
+        submit(scheduler, "b", "t1", 0, 10);
+
+        assertTrue(scheduler.dequeue("b"));
+        assertFalse(scheduler.dequeue("b"));
+        assertEquals(0, scheduler.getQueuedCount());
+
+        // A launcher that declines gives the slot straight back
+        scheduler.submit("declined", "t1", 0, 10, ticket -> false);
+        scheduler.release(tickets.get("a"));
+        assertEquals(0, scheduler.getRunningCount());
+    }
+
+    private void submit(TestScheduler scheduler, String testId, String tenant, int priority, int rate) {
+        tickets.put(testId, scheduler.submit(testId, tenant, priority, rate, ticket -> launched.add(ticket.testId())));
+    }
+}
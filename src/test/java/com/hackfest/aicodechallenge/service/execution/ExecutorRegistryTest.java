@@ -0,0 +1,128 @@
+package com.hackfest.aicodechallenge.service.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ExecutorRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExecutorRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) {
+            registry.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExecutionStrategy.class)
+    void testEveryStrategyRejectsBeyondItsCapacity(ExecutionStrategy strategy) throws Exception {
+        assumeTrue(strategy != ExecutionStrategy.VIRTUAL || Runtime.version().feature() >= 21);
+        registry = new ExecutorRegistry(strategy.name(), meterRegistry);
+        ManagedExecutor executor = registry.create("test", 2, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(2);
+
+        Future<?> first = executor.submit(() -> block(running, release));
+        executor.submit(() -> block(running, release));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        Future<?> third = executor.submit(() -> block(running, release));
+
+        assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> { }));
+        assertEquals(1.0, executor.getSaturation());
+        assertEquals(1, executor.getRejectedCount());
+        assertEquals(1, meterRegistry.get("execution.rejected").tag("name", "test").functionCounter().count());
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        third.get(5, TimeUnit.SECONDS);
+        awaitIdle(executor);
+        assertEquals(3, executor.getCompletedCount());
+        assertEquals(0, executor.getSaturation());
+    }
+
+    @Test
+    void testPlatformPoolQueuesBeyondItsThreads() throws Exception {
+        registry = new ExecutorRegistry("platform", meterRegistry);
+        ManagedExecutor executor = registry.create("queued", 1, 5);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        executor.submit(() -> block(running, release));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        executor.submit(() -> { });
+        executor.submit(() -> { });
+
+        assertEquals(1, executor.getActiveCount());
+        assertEquals(2, executor.getQueueDepth());
+        assertEquals(2.0, meterRegistry.get("execution.queued").tag("name", "queued").gauge().value());
+        assertEquals(0.5, meterRegistry.get("execution.saturation").tag("strategy", "platform").gauge().value());
+        release.countDown();
+        awaitIdle(executor);
+        assertEquals(0, executor.getQueueDepth());
+    }
+
+    @Test
+    void testPlatformExecutorsIgnoreConfiguredStrategyWhenPinned() {
+        registry = new ExecutorRegistry("work-stealing", meterRegistry);
+
+        assertEquals(ExecutionStrategy.WORK_STEALING, registry.create("default", 1, 0).getStrategy());
+        assertEquals(ExecutionStrategy.PLATFORM,
+                registry.create("pinned", ExecutionStrategy.PLATFORM, 1, 0).getStrategy());
+    }
+
+    @Test
+    void testForkJoinPoolsAreNamedMeteredAndShutDownWithTheRegistry() throws Exception {
+        registry = new ExecutorRegistry("platform", meterRegistry);
+        ForkJoinPool pool = registry.createForkJoinPool("forking", 2);
+
+        Thread worker = pool.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+        assertTrue(worker.getName().startsWith("forking-"), worker.getName());
+        assertTrue(worker.isDaemon());
+        assertEquals(0.0, meterRegistry.get("execution.queued").tag("name", "forking").gauge().value());
+
+        registry.shutdown();
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    void testVirtualStrategyNeedsJava21() {
+        assumeTrue(Runtime.version().feature() < 21);
+
+        assertThrows(IllegalStateException.class, () -> new ExecutorRegistry("virtual", meterRegistry));
+    }
+
+    @Test
+    void testUnknownStrategyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorRegistry("green", meterRegistry));
+    }
+
+    private static void block(CountDownLatch running, CountDownLatch release) {
+        running.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitIdle(ManagedExecutor executor) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (executor.getSaturation() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.hackfest.aicodechallenge.service.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testRejectsRequestsBeyondTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1.5);
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(limiter, 4);
+
+        assertTrue(limiter.tryAcquire(1).isEmpty());
+        assertEquals(4, limiter.getInFlight());
+
+        permits.get(0).release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+        assertTrue(limiter.tryAcquire(1).isPresent());
+        assertEquals(1, meterRegistry.get("limiter.requests").tag("outcome", "rejected").counter().count());
+        assertEquals(5, meterRegistry.get("limiter.requests").tag("outcome", "accepted").counter().count());
+    }
+
+    @Test
+    void testCostlyRequestsHoldMorePermits() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1.5);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(3).orElseThrow();
+
+        assertEquals(3, limiter.getInFlight());
+        assertTrue(limiter.tryAcquire(2).isEmpty());
+        assertTrue(limiter.tryAcquire(1).isPresent());
+
+        permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void testAdmitsRequestCostlierThanTheLimitWhenIdle() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1.5);
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit = limiter.tryAcquire(1000);
+
+        assertTrue(permit.isPresent());
+        assertEquals(100, permit.get().getCost());
+        assertTrue(limiter.tryAcquire(1).isEmpty());
+    }
+
+    @Test
+    void testLimitGrowsWhileLatencyHolds() throws InterruptedException {
+        // A generous tolerance keeps scheduling jitter from reading as congestion
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 10);
+        for (int round = 0; round < 5; round++) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(limiter, limiter.getLimit());
+            Thread.sleep(2);
+            permits.forEach(permit -> permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED));
+        }
+
+        assertTrue(limiter.getLimit() > 10, "limit " + limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testLimitShrinksWhenLatencyRises() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 1.5);
+        AdaptiveConcurrencyLimiter.Permit baseline = limiter.tryAcquire(1).orElseThrow();
+        Thread.sleep(1);
+        baseline.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+        assertEquals(20, limiter.getLimit());
+
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(limiter, 20);
+        Thread.sleep(50);
+        permits.forEach(permit -> permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED));
+
+        assertTrue(limiter.getLimit() < 20, "limit " + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= 2);
+    }
+
+    @Test
+    void testDropsBackOffDownToTheMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 1.5);
+        limiter.tryAcquire(1).orElseThrow().release(AdaptiveConcurrencyLimiter.Outcome.DROPPED);
+        assertEquals(18, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(1).orElseThrow().release(AdaptiveConcurrencyLimiter.Outcome.DROPPED);
+        }
+        assertEquals(2, limiter.getLimit());
+        assertEquals(2.0, meterRegistry.get("limiter.limit").tag("name", "test").gauge().value());
+    }
+
+    @Test
+    void testReleasingTwiceReturnsPermitsOnce() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1.5);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(2).orElseThrow();
+        limiter.tryAcquire(1).orElseThrow();
+
+        permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+        permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCEEDED);
+
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void testRejectsInvalidBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter("bad", 1, 2, 10, 1.5, 0.2, meterRegistry));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter("bad", 5, 2, 10, 0.5, 0.2, meterRegistry));
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, double tolerance) {
+        return new AdaptiveConcurrencyLimiter("test", initialLimit, 2, 100, tolerance, 0.2, meterRegistry);
+    }
+
+    private static List<AdaptiveConcurrencyLimiter.Permit> acquire(AdaptiveConcurrencyLimiter limiter, int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.tryAcquire(1).orElseThrow());
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,45 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasSamplerTest {
+
+    @Test
+    void testSamplesFollowWeights() {
+        double[] weights = {70, 20, 10, 0.5};
+        AliasSampler sampler = new AliasSampler(weights);
+        SplittableRandom random = new SplittableRandom(42);
+        int samples = 1_000_000;
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < samples; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        double total = 100.5;
+        for (int i = 0; i < weights.length; i++) {
+            double expected = weights[i] / total;
+            double actual = (double) counts[i] / samples;
+            assertEquals(expected, actual, 0.005, "weight " + weights[i]);
+        }
+    }
+
+    @Test
+    void testSingleWeight() {
+        AliasSampler sampler = new AliasSampler(new double[]{3});
+        SplittableRandom random = new SplittableRandom();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, sampler.sample(random));
+        }
+    }
+
+    @Test
+    void testInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{1, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{1, Double.NaN}));
+    }
+}
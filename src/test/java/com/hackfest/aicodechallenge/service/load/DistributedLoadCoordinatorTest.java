@@ -0,0 +1,251 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.ApiResponse;
+import com.hackfest.aicodechallenge.model.dto.WorkerReport;
+import com.hackfest.aicodechallenge.model.dto.WorkerRunRequest;
+import com.hackfest.aicodechallenge.service.TestScheduler;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistributedLoadCoordinatorTest {
+
+    private static final String TOKEN = "worker-secret";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ExecutorRegistry executorRegistry = new ExecutorRegistry("platform", new SimpleMeterRegistry());
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final List<LoadGenerator> generators = new ArrayList<>();
+    private StubTargetServer stubTarget;
+    private HttpLoadTargetFactory httpLoadTargetFactory;
+    private DistributedLoadCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubTarget = new StubTargetServer(true, 0, "FIXED", 5, 0, 0, 0.0, 503);
+        httpLoadTargetFactory = new HttpLoadTargetFactory(stubTarget, executorRegistry, 2, 2000, 5000, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (coordinator != null) {
+            coordinator.shutdown();
+        }
+        servers.forEach(server -> server.stop(0));
+        generators.forEach(LoadGenerator::shutdown);
+        httpLoadTargetFactory.shutdown();
+        stubTarget.shutdown();
+    }
+
+    @Test
+    void testWorkerResultsAreMerged() throws Exception {
+        coordinator = coordinator(startWorker() + "," + startWorker(), 5_000);
+
+        LoadRun run = coordinator.start(plan(101, 4, 200), null, null, null);
+        run.getCompletion().get(15, TimeUnit.SECONDS);
+
+        assertEquals("COMPLETED", run.getStatus());
+        assertEquals(2, run.getWorkers());
+        assertEquals(0, run.getLostWorkers().get());
+        assertEquals(101, run.getCompletedRequests());
+        assertEquals(101, run.getSuccesses().sum());
+        assertEquals(101, run.getLatency().snapshot().getCount());
+        assertTrue(run.getLatency().snapshot().getMinMillis() >= 4);
+    }
+
+    @Test
+    void testLostWorkerDoesNotStallTheRun() throws Exception {
+        HttpServer dropout = startDropoutWorker();
+        coordinator = coordinator(startWorker() + ",http://localhost:" + dropout.getAddress().getPort(), 300);
+
+        LoadRun run = coordinator.start(plan(40, 2, 200), null, null, null);
+        // The dropout acknowledges its share, then disappears
+        Thread.sleep(100);
+        dropout.stop(0);
+        run.getCompletion().get(15, TimeUnit.SECONDS);
+
+        assertEquals("COMPLETED", run.getStatus());
+        assertEquals(1, run.getLostWorkers().get());
+        assertEquals(20, run.getCompletedRequests());
+        assertEquals(20, run.getLatency().snapshot().getCount());
+    }
+
+    @Test
+    void testCancelIsPropagatedToWorkers() throws Exception {
+        coordinator = coordinator(startWorker() + "," + startWorker(), 5_000);
+
+        LoadRun run = coordinator.start(plan(10_000, 4, 100), null, null, null);
+        Thread.sleep(300);
+        generators.get(0).cancel(run);
+        run.getCompletion().get(10, TimeUnit.SECONDS);
+
+        assertEquals("CANCELLED", run.getStatus());
+        assertTrue(run.getCompletedRequests() < 10_000);
+        assertEquals(0, run.getInFlightRequests());
+    }
+
+    @Test
+    void testCancelReachesWorkersThatNeverAcknowledgedTheStart() throws Exception {
+        LoadWorker worker = worker(new TestScheduler(4, 5000));
+        // The worker starts its share, but every reply to a start is lost
+        HttpServer server = server(exchange -> {
+            String token = exchange.getRequestHeaders().getFirst(LoadWorker.TOKEN_HEADER);
+            String[] path = exchange.getRequestURI().getPath()
+                    .substring(DistributedLoadCoordinator.RUNS_PATH.length()).split("/");
+            if (path.length < 2) {
+                worker.start(token, objectMapper.readValue(exchange.getRequestBody(), WorkerRunRequest.class));
+                throw new IOException("Reply lost");
+            }
+            return path.length > 2 ? worker.cancel(token, path[1]) : worker.getReport(token, path[1]);
+        });
+        coordinator = coordinator("http://localhost:" + server.getAddress().getPort(), 5_000);
+
+        LoadRun run = coordinator.start(plan(10_000, 2, 100), null, null, null);
+        Thread.sleep(200);
+        generators.get(0).cancel(run);
+        run.getCompletion().get(10, TimeUnit.SECONDS);
+
+        assertEquals("CANCELLED", run.getStatus());
+        String shareId = run.getId() + "-0";
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"CANCELLED".equals(worker.getReport(TOKEN, shareId).getStatus()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("CANCELLED", worker.getReport(TOKEN, shareId).getStatus());
+    }
+
+    @Test
+    void testWorkerRejectsCallsWithoutTheToken() {
+        LoadWorker worker = worker(new TestScheduler(4, 5000));
+
+        assertThrows(SecurityException.class, () -> worker.start(null, share("a", 10)));
+        assertThrows(SecurityException.class, () -> worker.start("wrong", share("a", 10)));
+        assertThrows(SecurityException.class, () -> worker.getReport("wrong", "a"));
+        assertThrows(IllegalArgumentException.class, () -> new LoadWorker(
+                generator(), httpLoadTargetFactory, new TestScheduler(4, 5000), true, " ", 60_000));
+    }
+
+    @Test
+    void testDisabledWorkerAcceptsNothing() {
+        LoadWorker worker = new LoadWorker(generator(), httpLoadTargetFactory, new TestScheduler(4, 5000),
+                false, "", 60_000);
+
+        assertThrows(IllegalStateException.class, () -> worker.start(TOKEN, share("a", 10)));
+    }
+
+    @Test
+    void testWorkerSharesAreAdmittedAgainstTheSchedulerBudget() throws Exception {
+        TestScheduler scheduler = new TestScheduler(4, 100);
+        LoadWorker worker = worker(scheduler);
+
+        assertThrows(IllegalArgumentException.class, () -> worker.start(TOKEN, share("huge", 500)));
+        worker.start(TOKEN, share("first", 80));
+        assertEquals(80, scheduler.getUsedRequestsPerSecond());
+        // Retrying the same run id must not take the budget twice
+        worker.start(TOKEN, share("first", 80));
+        assertEquals(80, scheduler.getUsedRequestsPerSecond());
+        assertThrows(IllegalStateException.class, () -> worker.start(TOKEN, share("second", 50)));
+
+        worker.cancel(TOKEN, "first");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.getUsedRequestsPerSecond() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, scheduler.getUsedRequestsPerSecond());
+        worker.start(TOKEN, share("second", 50));
+        assertEquals(50, scheduler.getUsedRequestsPerSecond());
+    }
+
+    private DistributedLoadCoordinator coordinator(String workers, long workerTimeoutMs) {
+        return new DistributedLoadCoordinator(objectMapper, workers, 50, workerTimeoutMs, 1000, TOKEN);
+    }
+
+    private LoadGenerator generator() {
+        LoadGenerator generator = new LoadGenerator(executorRegistry, 2, 1, 50_000);
+        generators.add(generator);
+        return generator;
+    }
+
+    private LoadWorker worker(TestScheduler scheduler) {
+        return new LoadWorker(generator(), httpLoadTargetFactory, scheduler, true, TOKEN, 60_000);
+    }
+
+    private static WorkerRunRequest share(String runId, double ratePerSecond) {
+        return WorkerRunRequest.builder()
+                .runId(runId)
+                .totalRequests(10_000)
+                .ratePerSecond(ratePerSecond)
+                .concurrency(2)
+                .build();
+    }
+
+    /**
+     * Serves a real {@link LoadWorker} the way its controller would.
+     */
+    private String startWorker() throws IOException {
+        LoadWorker worker = worker(new TestScheduler(4, 5000));
+        HttpServer server = server(exchange -> {
+            String token = exchange.getRequestHeaders().getFirst(LoadWorker.TOKEN_HEADER);
+            String[] path = exchange.getRequestURI().getPath()
+                    .substring(DistributedLoadCoordinator.RUNS_PATH.length()).split("/");
+            if (path.length < 2) {
+                return worker.start(token, objectMapper.readValue(exchange.getRequestBody(), WorkerRunRequest.class));
+            }
+            return path.length > 2 ? worker.cancel(token, path[1]) : worker.getReport(token, path[1]);
+        });
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private HttpServer startDropoutWorker() throws IOException {
+        byte[] empty = new LatencyRecorder().snapshot().toByteArray();
+        return server(exchange -> WorkerReport.builder()
+                .runId("dropout")
+                .status("RUNNING")
+                .elapsedSeconds(0.0)
+                .completedRequests(0L)
+                .successfulRequests(0L)
+                .failedRequests(0L)
+                .inFlightRequests(0)
+                .latencyHistogram(empty)
+                .build());
+    }
+
+    private HttpServer server(Handler handler) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(DistributedLoadCoordinator.RUNS_PATH, exchange -> {
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success(handler.handle(exchange)));
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        servers.add(server);
+        return server;
+    }
+
+    private static LoadPlan plan(int totalRequests, int concurrency, double ratePerSecond) {
+        return LoadPlan.builder()
+                .totalRequests(totalRequests)
+                .concurrency(concurrency)
+                .ratePerSecond(ratePerSecond)
+                .build();
+    }
+
+    private interface Handler {
+        Object handle(HttpExchange exchange) throws IOException;
+    }
+}
@@ -0,0 +1,169 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.model.dto.LatencyBucket;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyRecorderTest {
+    
+    @Test
+    void testPercentilesOfUniformSamples() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        // 1ms .. 10000ms in 1ms steps
+        for (int i = 1; i <= 10_000; i++) {
+            recorder.record(i * 1_000_000L);
+        }
+        
+        LatencySnapshot snapshot = recorder.snapshot();
+        
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(5_000, snapshot.getPercentileMillis(50), 50);
+        assertEquals(9_000, snapshot.getPercentileMillis(90), 90);
+        assertEquals(9_900, snapshot.getPercentileMillis(99), 99);
+        assertEquals(9_990, snapshot.getPercentileMillis(99.9), 100);
+        assertEquals(1, snapshot.getMinMillis(), 0.01);
+        assertEquals(10_000, snapshot.getMaxMillis(), 100);
+        assertEquals(5_000.5, snapshot.getMeanMillis(), 50);
+    }
+    
+    @Test
+    void testTailIsVisible() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 0; i < 9_990; i++) {
+            recorder.record(2_000_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            recorder.record(3_000_000_000L);
+        }
+        
+        LatencySnapshot snapshot = recorder.snapshot();
+        
+        assertEquals(2, snapshot.getPercentileMillis(99), 0.05);
+        assertEquals(3_000, snapshot.getPercentileMillis(99.99), 30);
+    }
+    
+    @Test
+    void testDistributionBuckets() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(500_000);          // 0.5ms -> <= 1
+        recorder.record(1_000_000);        // 1ms   -> <= 1
+        recorder.record(15_000_000);       // 15ms  -> <= 20
+        recorder.record(60_000_000_000L);  // 60s   -> overflow
+        
+        List<LatencyBucket> buckets = recorder.snapshot().getDistribution();
+        
+        assertEquals(14, buckets.size());
+        assertEquals(1.0, buckets.get(0).getUpperBoundMs());
+        assertEquals(2, buckets.get(0).getCount());
+        assertEquals(20.0, buckets.get(4).getUpperBoundMs());
+        assertEquals(1, buckets.get(4).getCount());
+        assertNull(buckets.get(13).getUpperBoundMs());
+        assertEquals(1, buckets.get(13).getCount());
+        assertEquals(4, buckets.stream().mapToLong(LatencyBucket::getCount).sum());
+    }
+    
+    @Test
+    void testConcurrentWritersAreMergedOnRead() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        int threads = 4;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    recorder.record(1_000_000 + i);
+                    if (i % 10_000 == 0) {
+                        recorder.snapshot();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        
+        assertEquals((long) threads * perThread, recorder.snapshot().getCount());
+        // Harvesting is cumulative, repeated reads keep every sample
+        assertEquals((long) threads * perThread, recorder.snapshot().getCount());
+    }
+    
+    @Test
+    void testShortLivedThreadsShareABoundedSetOfStripes() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder(64);
+        int threads = 2_000;
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> recorder.record(3_000_000));
+            thread.start();
+            thread.join();
+        }
+        
+        assertEquals(LatencyRecorder.MAX_STRIPES, recorder.getStripeCount());
+        assertEquals(threads, recorder.snapshot().getCount());
+        assertEquals(1, new LatencyRecorder(1).getStripeCount());
+        assertEquals(4, new LatencyRecorder(3).getStripeCount());
+    }
+    
+    @Test
+    void testIntervalSnapshotCoversOnlyNewSamples() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(1_000_000);
+        recorder.record(2_000_000);
+        assertEquals(2, recorder.intervalSnapshot().getCount());
+        
+        recorder.record(50_000_000);
+        // A cumulative read in between must not steal samples from the next interval
+        assertEquals(3, recorder.snapshot().getCount());
+        LatencySnapshot interval = recorder.intervalSnapshot();
+        
+        assertEquals(1, interval.getCount());
+        assertEquals(50, interval.getMinMillis(), 0.5);
+        assertEquals(0, recorder.intervalSnapshot().getCount());
+        assertEquals(3, recorder.snapshot().getCount());
+    }
+    
+    @Test
+    void testEncodedSnapshotsMergeIntoAnotherRecorder() {
+        LatencyRecorder worker = new LatencyRecorder();
+        for (int i = 1; i <= 1_000; i++) {
+            worker.record(i * 1_000_000L);
+        }
+        LatencySnapshot first = worker.snapshot();
+        worker.record(5_000_000_000L);
+        LatencySnapshot second = worker.snapshot();
+        
+        byte[] encoded = second.toByteArray();
+        LatencySnapshot decoded = LatencySnapshot.fromByteArray(encoded);
+        assertTrue(encoded.length < 4_096, "encoded " + encoded.length + " bytes");
+        assertEquals(second.getCount(), decoded.getCount());
+        assertEquals(second.getPercentileMillis(99), decoded.getPercentileMillis(99));
+        
+        LatencyRecorder coordinator = new LatencyRecorder();
+        coordinator.record(2_000_000);
+        coordinator.add(LatencySnapshot.fromByteArray(first.toByteArray()));
+        coordinator.add(decoded.minus(first));
+        
+        assertEquals(1_002, coordinator.snapshot().getCount());
+        assertEquals(5_000, coordinator.snapshot().getMaxMillis(), 50);
+        assertEquals(1_002, coordinator.intervalSnapshot().getCount());
+        assertThrows(IllegalArgumentException.class, () -> LatencySnapshot.fromByteArray(new byte[] {1, 2, 3}));
+    }
+    
+    @Test
+    void testEmptySnapshot() {
+        LatencySnapshot snapshot = new LatencyRecorder().snapshot();
+        
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMeanMillis());
+        assertEquals(0, snapshot.getPercentileMillis(99));
+        assertEquals(0, snapshot.getMinMillis());
+    }
+}
@@ -0,0 +1,140 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.model.dto.LoadStage;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+    
+    private LoadGenerator loadGenerator;
+    
+    @BeforeEach
+    void setUp() {
+        loadGenerator = new LoadGenerator(new ExecutorRegistry("platform", new SimpleMeterRegistry()), 2, 1, 50_000);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        loadGenerator.shutdown();
+    }
+    
+    @Test
+    void testConcurrencyIsBounded() throws Exception {
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        LoadTarget target = () -> {
+            peak.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+            CompletableFuture<Boolean> response = new CompletableFuture<>();
+            loadGenerator.getTimer().schedule(() -> {
+                outstanding.decrementAndGet();
+                response.complete(true);
+            }, 20, TimeUnit.MILLISECONDS);
+            return response;
+        };
+        
+        LoadRun run = loadGenerator.start(plan(100, 5, 2000), target);
+        run.getCompletion().get(10, TimeUnit.SECONDS);
+        
+        assertEquals("COMPLETED", run.getStatus());
+        assertEquals(100, run.getSuccesses().sum());
+        assertTrue(peak.get() <= 5, "peak outstanding " + peak.get());
+        assertTrue(run.getMaxBacklog().get() > 1 && run.getMaxBacklog().get() <= 100);
+        assertEquals(0, run.backlogDepth.get());
+    }
+    
+    @Test
+    void testOpenLoopChargesQueueingToLatency() throws Exception {
+        // One slot, 20ms service time, 200 req/s offered: requests queue and latency must grow with the backlog
+        LoadTarget target = new SimulatedLoadTarget(loadGenerator.getTimer(), 20, 0, 0.0);
+        
+        LoadRun run = loadGenerator.start(plan(20, 1, 200), target);
+        run.getCompletion().get(10, TimeUnit.SECONDS);
+        
+        LatencySnapshot latency = run.getLatency().snapshot();
+        assertTrue(latency.getMaxMillis() > 200, "max " + latency.getMaxMillis());
+        assertTrue(latency.getMinMillis() >= 19);
+    }
+    
+    @Test
+    void testFailuresAreCounted() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        LoadTarget target = () -> {
+            if (calls.incrementAndGet() % 2 == 0) {
+                throw new IllegalStateException("connection refused");
+            }
+            return CompletableFuture.completedFuture(false);
+        };
+        
+        LoadRun run = loadGenerator.start(plan(50, 3, 5000), target);
+        run.getCompletion().get(10, TimeUnit.SECONDS);
+        
+        assertEquals(50, run.getFailures().sum());
+        assertEquals(0, run.getSuccesses().sum());
+    }
+    
+    @Test
+    void testCancelStopsArrivalsAndAwaitsInFlight() throws Exception {
+        LoadTarget target = new SimulatedLoadTarget(loadGenerator.getTimer(), 50, 0, 0.0);
+        
+        // 10 req/s for 100 requests would take 10s
+        LoadRun run = loadGenerator.start(plan(100, 5, 10), target);
+        Thread.sleep(250);
+        loadGenerator.cancel(run);
+        run.getCompletion().get(2, TimeUnit.SECONDS);
+        
+        assertEquals("CANCELLED", run.getStatus());
+        assertTrue(run.isCancelled());
+        assertTrue(run.getCompletedRequests() >= 1 && run.getCompletedRequests() < 10,
+                "completed " + run.getCompletedRequests());
+        assertEquals(run.getIssued().get(), run.getCompletedRequests());
+        assertEquals(0, run.getInFlightRequests());
+    }
+    
+    @Test
+    void testProfileShapesArrivalsAndRecordsScheduleLag() throws Exception {
+        // Ramp 0 -> 400 req/s over one second: 200 requests, only a quarter of them in the first half
+        LoadProfile profile = LoadProfile.of(List.of(new LoadStage(1, 400.0, "LINEAR")));
+        List<Long> sent = new CopyOnWriteArrayList<>();
+        LoadTarget target = () -> {
+            sent.add(System.nanoTime());
+            return CompletableFuture.completedFuture(true);
+        };
+        
+        LoadRun run = loadGenerator.start(LoadPlan.builder()
+                .totalRequests(profile.getTotalRequests())
+                .concurrency(10)
+                .ratePerSecond(profile.getPeakRate())
+                .profile(profile)
+                .build(), target);
+        run.getCompletion().get(10, TimeUnit.SECONDS);
+        
+        assertEquals(200, run.getSuccesses().sum());
+        long halfway = run.getStartNanos() + 500_000_000L;
+        long firstHalf = sent.stream().filter(time -> time < halfway).count();
+        assertTrue(firstHalf >= 40 && firstHalf <= 60, "first half " + firstHalf);
+        LatencySnapshot lag = run.getScheduleLag().snapshot();
+        assertEquals(200, lag.getCount());
+        assertTrue(lag.getPercentileMillis(50) < 5, "median lag " + lag.getPercentileMillis(50));
+    }
+    
+    @Test
+    void testInvalidPlan() {
+        assertThrows(IllegalArgumentException.class,
+                () -> loadGenerator.start(plan(0, 1, 10), () -> CompletableFuture.completedFuture(true)));
+    }
+    
+    private static LoadPlan plan(int requests, int concurrency, double rate) {
+        return LoadPlan.builder().totalRequests(requests).concurrency(concurrency).ratePerSecond(rate).build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.model.dto.LoadStage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadProfileTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void testStepHoldsTheRate() {
+        LoadProfile profile = LoadProfile.of(List.of(stage(10, 100, "STEP")));
+
+        assertEquals(1_000, profile.getTotalRequests());
+        assertEquals(10, profile.getDurationSeconds());
+        assertEquals(0, profile.offsetNanos(0));
+        assertEquals(SECOND / 100, profile.offsetNanos(1));
+        assertEquals(5 * SECOND, profile.offsetNanos(500));
+    }
+
+    @Test
+    void testLinearRampFollowsTheIntegral() {
+        // 0 -> 100 req/s over 10s, then hold 100 req/s for 10s
+        LoadProfile profile = LoadProfile.of(List.of(stage(10, 100, null), stage(10, 100, "step")));
+
+        assertEquals(500 + 1_000, profile.getTotalRequests());
+        assertEquals(100, profile.getPeakRate());
+        // Half way through the ramp the rate is 50 req/s and 125 requests have been sent
+        assertEquals(5 * SECOND, profile.offsetNanos(125), 1_000);
+        assertEquals(10 * SECOND, profile.offsetNanos(500), 1_000);
+        assertEquals(15 * SECOND, profile.offsetNanos(1_000), 1_000);
+    }
+
+    @Test
+    void testSpikeAndPause() {
+        LoadProfile profile = LoadProfile.of(List.of(
+                stage(2, 10, "STEP"), stage(1, 0, "STEP"), stage(1, 1_000, "STEP"), stage(2, 10, "STEP")));
+
+        assertEquals(20 + 1_000 + 20, profile.getTotalRequests());
+        // Nothing is scheduled during the pause: arrival 20 is the first of the spike
+        assertEquals(3 * SECOND, profile.offsetNanos(20));
+        assertEquals(4 * SECOND, profile.offsetNanos(1_020));
+        long previous = -1;
+        for (int i = 0; i < profile.getTotalRequests(); i++) {
+            long offset = profile.offsetNanos(i);
+            assertTrue(offset >= previous, "arrival " + i);
+            previous = offset;
+        }
+    }
+
+    @Test
+    void testArrivalsBeyondTheProfileContinueAtTheFinalRate() {
+        LoadProfile profile = LoadProfile.of(List.of(stage(1, 10, "STEP")));
+
+        assertEquals(SECOND + SECOND / 10, profile.offsetNanos(11));
+    }
+
+    @Test
+    void testScaleKeepsTheShape() {
+        LoadProfile profile = LoadProfile.of(List.of(stage(10, 100, "LINEAR"), stage(5, 40, "STEP")));
+        LoadProfile half = profile.scale(0.5);
+
+        assertEquals(profile.getTotalRequests() / 2, half.getTotalRequests());
+        assertEquals(50, half.getPeakRate());
+        assertEquals(profile.offsetNanos(250), half.offsetNanos(125), 1_000);
+    }
+
+    @Test
+    void testInvalidProfiles() {
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.of(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.of(List.of(stage(10, 0, "STEP"))));
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.of(List.of(stage(10, 10, "SINE"))));
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.of(List.of(stage(10, -1, "STEP"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadProfile.of(List.of(stage(1_000_000, 10_000, "STEP"))));
+    }
+
+    private static LoadStage stage(int durationSeconds, double targetRate, String shape) {
+        return new LoadStage(durationSeconds, targetRate, shape);
+    }
+}
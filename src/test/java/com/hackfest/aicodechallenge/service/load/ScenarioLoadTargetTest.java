@@ -0,0 +1,172 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackfest.aicodechallenge.model.dto.ParameterSpec;
+import com.hackfest.aicodechallenge.model.dto.RequestTemplate;
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioLoadTargetTest {
+
+    private final ExecutorRegistry executorRegistry = new ExecutorRegistry("platform", new SimpleMeterRegistry());
+    private final Queue<String> received = new ConcurrentLinkedQueue<>();
+    private HttpServer server;
+    private StubTargetServer stubTarget;
+    private HttpLoadTargetFactory httpLoadTargetFactory;
+    private LoadGenerator loadGenerator;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            received.add(exchange.getRequestMethod() + " " + exchange.getRequestURI() + (body.isEmpty() ? "" : " " + body));
+            exchange.sendResponseHeaders(exchange.getRequestURI().getPath().endsWith("/missing") ? 404 : 200, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/api";
+        stubTarget = new StubTargetServer(false, 0, "FIXED", 0, 0, 0, 0.0, 503);
+        httpLoadTargetFactory = new HttpLoadTargetFactory(stubTarget, executorRegistry, 2, 2000, 5000, 30);
+        loadGenerator = new LoadGenerator(executorRegistry, 2, 1, 50_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loadGenerator.shutdown();
+        httpLoadTargetFactory.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void testTemplatesAreMixedByWeightAndMeasuredSeparately() throws Exception {
+        ScenarioLoadTarget target = httpLoadTargetFactory.createScenario(baseUrl, List.of(
+                template("compute", 3, "GET", "/compute/{n}", null,
+                        Map.of("n", ParameterSpec.builder().type("uniform").min(1L).max(3L).build())),
+                template("missing", 1, "POST", "/missing", "{\"id\":\"{id}\"}",
+                        Map.of("id", ParameterSpec.builder().type("CHOICE").values(List.of("a", "b")).build()))),
+                loadGenerator.getTimer());
+
+        LoadRun run = loadGenerator.start(plan(400, 8, 2_000), target);
+        run.getCompletion().get(10, TimeUnit.SECONDS);
+
+        TemplateStats compute = run.getTemplates().get(0);
+        TemplateStats missing = run.getTemplates().get(1);
+        assertEquals(400, compute.getSuccesses().sum() + missing.getFailures().sum());
+        assertEquals(0, compute.getFailures().sum());
+        assertEquals(0, missing.getSuccesses().sum());
+        assertEquals(0.75, compute.getSuccesses().sum() / 400.0, 0.08);
+        assertEquals(compute.getSuccesses().sum(), compute.getLatency().snapshot().getCount());
+        assertEquals(missing.getFailures().sum(), run.getFailures().sum());
+        assertTrue(received.stream().allMatch(request -> request.matches("GET /api/compute/[123]")
+                || request.matches("POST /api/missing \\{\"id\":\"[ab]\"}")), received.toString());
+    }
+
+    @Test
+    void testThinkTimeHoldsTheSlotButIsNotLatency() throws Exception {
+        RequestTemplate thinking = template("think", 1, null, "/think", null, Map.of());
+        thinking.setThinkTimeMs(100);
+        ScenarioLoadTarget target = httpLoadTargetFactory.createScenario(baseUrl, List.of(thinking),
+                loadGenerator.getTimer());
+
+        // Arrivals every 200ms, each thinking 100ms first: if think time were charged, every latency
+        // would exceed 100ms
+        LoadRun run = loadGenerator.start(plan(5, 1, 5), target);
+        run.getCompletion().get(10, TimeUnit.SECONDS);
+
+        assertTrue(run.getElapsedSeconds() >= 0.9, "elapsed " + run.getElapsedSeconds());
+        LatencySnapshot latency = run.getTemplates().get(0).getLatency().snapshot();
+        assertTrue(latency.getMinMillis() < 50, "min " + latency.getMinMillis());
+        assertEquals(5, run.getSuccesses().sum());
+    }
+
+    @Test
+    void testBaseQueryIsKeptAndSequencesCount() throws Exception {
+        RequestTemplate sequence = template("poll", 1, null, "/tests/{id}?full=true", null,
+                Map.of("id", ParameterSpec.builder().type("SEQUENCE").min(7L).max(8L).build()));
+        ScenarioLoadTarget target = httpLoadTargetFactory.createScenario(baseUrl + "?latencyMs=1",
+                List.of(sequence), loadGenerator.getTimer());
+
+        LoadRun run = loadGenerator.start(plan(3, 1, 1_000), target);
+        run.getCompletion().get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("GET /api/tests/7?full=true&latencyMs=1", "GET /api/tests/8?full=true&latencyMs=1",
+                "GET /api/tests/7?full=true&latencyMs=1"), List.copyOf(received));
+    }
+
+    @Test
+    void testBodyValuesAreJsonEscaped() throws Exception {
+        ScenarioLoadTarget.Text body = ScenarioLoadTarget.Text.compile("{\"q\":\"{q}\",\"n\":{n}}",
+                List.of("q", "n"), ScenarioLoadTarget.Escaping.JSON);
+        String value = "say \"hi\" \\ C:\\tmp\n\u0001";
+
+        JsonNode json = new ObjectMapper().readTree(body.render(new String[]{value, "42"}));
+
+        assertEquals(value, json.get("q").asText());
+        assertEquals(42, json.get("n").asInt());
+    }
+
+    @Test
+    void testPathValuesArePercentEncoded() {
+        ScenarioLoadTarget.Text path = ScenarioLoadTarget.Text.compile("/items/{name}?tag={tag}",
+                List.of("name", "tag"), ScenarioLoadTarget.Escaping.URL);
+
+        assertEquals("/items/a%20b%2Bc%2Fd?tag=caf%C3%A9%20%26%20co",
+                path.render(new String[]{"a b+c/d", "café & co"}));
+    }
+
+    @Test
+    void testInvalidScenarios() {
+        assertThrows(IllegalArgumentException.class,
+                () -> httpLoadTargetFactory.createScenario(baseUrl, List.of(), loadGenerator.getTimer()));
+        assertThrows(IllegalArgumentException.class, () -> httpLoadTargetFactory.createScenario(baseUrl,
+                List.of(template("a", 1, null, "/{undefined}", null, Map.of())), loadGenerator.getTimer()));
+        assertThrows(IllegalArgumentException.class, () -> httpLoadTargetFactory.createScenario(baseUrl,
+                List.of(template("a", 1, null, "/{n}", null,
+                        Map.of("n", ParameterSpec.builder().type("NORMAL").mean(5.0).build()))),
+                loadGenerator.getTimer()));
+        assertThrows(IllegalArgumentException.class, () -> httpLoadTargetFactory.createScenario(baseUrl,
+                List.of(template("a", 1, "TRACE", "/", null, Map.of())), loadGenerator.getTimer()));
+        assertThrows(IllegalArgumentException.class, () -> httpLoadTargetFactory.createScenario(baseUrl,
+                List.of(template("a", 1, null, "ftp://elsewhere/", null, Map.of())), loadGenerator.getTimer()));
+        assertThrows(IllegalArgumentException.class, () -> httpLoadTargetFactory.createScenario(baseUrl,
+                List.of(template("a", 0, null, "/", null, Map.of())), loadGenerator.getTimer()));
+    }
+
+    private static RequestTemplate template(String name, double weight, String method, String path, String body,
+                                            Map<String, ParameterSpec> parameters) {
+        return RequestTemplate.builder()
+                .name(name)
+                .weight(weight)
+                .httpMethod(method)
+                .path(path)
+                .requestBody(body)
+                .parameters(parameters)
+                .build();
+    }
+
+    private static LoadPlan plan(int totalRequests, int concurrency, double ratePerSecond) {
+        return LoadPlan.builder()
+                .totalRequests(totalRequests)
+                .concurrency(concurrency)
+                .ratePerSecond(ratePerSecond)
+                .build();
+    }
+}
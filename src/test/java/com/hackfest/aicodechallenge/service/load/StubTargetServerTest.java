@@ -0,0 +1,94 @@
+package com.hackfest.aicodechallenge.service.load;
+
+import com.hackfest.aicodechallenge.service.execution.ExecutorRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StubTargetServerTest {
+    
+    private final ExecutorRegistry executorRegistry = new ExecutorRegistry("platform", new SimpleMeterRegistry());
+    private StubTargetServer stubTarget;
+    private HttpLoadTargetFactory httpLoadTargetFactory;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        stubTarget = new StubTargetServer(true, 0, "FIXED", 30, 0, 0, 0.0, 503);
+        httpLoadTargetFactory = new HttpLoadTargetFactory(stubTarget, executorRegistry, 2, 2000, 5000, 30);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        httpLoadTargetFactory.shutdown();
+        stubTarget.shutdown();
+    }
+    
+    @Test
+    void testRespondsAfterConfiguredLatency() throws Exception {
+        HttpLoadTarget target = httpLoadTargetFactory.create(null, null, null);
+        
+        long start = System.nanoTime();
+        assertTrue(target.send().get(5, TimeUnit.SECONDS));
+        
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(29));
+    }
+    
+    @Test
+    void testQueryOverridesErrorRate() throws Exception {
+        HttpLoadTarget failing = httpLoadTargetFactory.create(
+                stubTarget.getUri() + "?latencyMs=0&errorRate=1&errorStatus=500", "POST", "{}");
+        
+        assertFalse(failing.send().get(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testInvalidOverrideIsRejected() throws Exception {
+        HttpLoadTarget invalid = httpLoadTargetFactory.create(stubTarget.getUri() + "?distribution=pareto", null, null);
+        
+        assertFalse(invalid.send().get(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testDistributionShapes() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StubTargetServer.Profile uniform = new StubTargetServer.Profile(
+                StubTargetServer.Distribution.UNIFORM, 10, 5, 0, 0, 503);
+        StubTargetServer.Profile exponential = new StubTargetServer.Profile(
+                StubTargetServer.Distribution.EXPONENTIAL, 10, 0, 0, 0, 503);
+        StubTargetServer.Profile lognormal = new StubTargetServer.Profile(
+                StubTargetServer.Distribution.LOGNORMAL, 10, 0, 1, 0, 503);
+        
+        double exponentialSum = 0;
+        int lognormalBelowMedian = 0;
+        int samples = 20_000;
+        for (int i = 0; i < samples; i++) {
+            double u = uniform.sampleLatencyMs(random);
+            assertTrue(u >= 10 && u < 15);
+            exponentialSum += exponential.sampleLatencyMs(random);
+            if (lognormal.sampleLatencyMs(random) < 10) {
+                lognormalBelowMedian++;
+            }
+        }
+        
+        assertEquals(10, exponentialSum / samples, 0.5);
+        assertEquals(0.5, lognormalBelowMedian / (double) samples, 0.03);
+    }
+    
+    @Test
+    void testDisabledStubRequiresTargetUrl() throws Exception {
+        StubTargetServer disabled = new StubTargetServer(false, 0, "FIXED", 0, 0, 0, 0.0, 503);
+        HttpLoadTargetFactory factory = new HttpLoadTargetFactory(disabled, executorRegistry, 1, 1000, 1000, 30);
+        try {
+            assertThrows(IllegalArgumentException.class, () -> factory.resolve(" "));
+            assertEquals("http://localhost:8080/x", factory.resolve("http://localhost:8080/x").toString());
+        } finally {
+            factory.shutdown();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.hackfest.aicodechallenge.service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncBatchingAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+    private final RecordingAppender delegate = new RecordingAppender();
+    private final AsyncBatchingAppender appender = new AsyncBatchingAppender();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        delegate.release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    void testWritesEveryEventInOrderOnTheWriterThread() {
+        start(1024, OverflowPolicy.DROP, LogSampler.keepAll());
+
+        for (int i = 0; i < 1000; i++) {
+            appender.doAppend(event(Level.INFO, "event " + i));
+        }
+        appender.stop();
+
+        assertEquals(1000, delegate.events.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("event " + i, delegate.events.get(i).getFormattedMessage());
+        }
+        assertEquals(1000, appender.getWrittenCount());
+        assertEquals(0, appender.getDroppedCount());
+        assertTrue(delegate.threads.stream().allMatch(name -> name.startsWith("async-log-writer-")));
+        assertFalse(delegate.isStarted());
+    }
+
+    @Test
+    void testIdleWriterWakesForEachNewEvent() throws Exception {
+        start(1024, OverflowPolicy.DROP, LogSampler.keepAll());
+
+        for (int i = 0; i < 20; i++) {
+            Thread.sleep(5);
+            appender.doAppend(event(Level.INFO, "event " + i));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (delegate.events.size() <= i && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(i + 1, delegate.events.size());
+        }
+        assertEquals(Thread.State.WAITING, writerStateWhenIdle());
+    }
+
+    @Test
+    void testDropPolicyDiscardsInfoButWaitsForWarnings() throws Exception {
+        delegate.blocked = true;
+        start(4, OverflowPolicy.DROP, LogSampler.keepAll());
+        fillUntilWriterIsBlocked();
+
+        appender.doAppend(event(Level.INFO, "dropped"));
+        assertEquals(1, appender.getDroppedCount());
+
+        Thread warning = new Thread(() -> appender.doAppend(event(Level.WARN, "kept")));
+        warning.start();
+        warning.join(200);
+        assertTrue(warning.isAlive(), "warning should wait for space");
+
+        delegate.release.countDown();
+        warning.join(5_000);
+        appender.stop();
+        assertEquals(1, appender.getDroppedCount());
+        assertEquals("kept", delegate.events.get(delegate.events.size() - 1).getFormattedMessage());
+    }
+
+    @Test
+    void testBlockPolicyWaitsInsteadOfDropping() throws Exception {
+        delegate.blocked = true;
+        start(4, OverflowPolicy.BLOCK, LogSampler.keepAll());
+        int queued = fillUntilWriterIsBlocked();
+
+        Thread info = new Thread(() -> appender.doAppend(event(Level.INFO, "waited")));
+        info.start();
+        info.join(200);
+        assertTrue(info.isAlive(), "info should wait for space");
+
+        delegate.release.countDown();
+        info.join(5_000);
+        appender.stop();
+        assertEquals(0, appender.getDroppedCount());
+        assertEquals(queued + 1, delegate.events.size());
+    }
+
+    @Test
+    void testSamplesInfoPerRouteButNeverWarningsOrErrors() {
+        start(1024, OverflowPolicy.DROP, new LogSampler(1.0, Map.of("GET /noisy", 0.0)));
+
+        MDC.put(AsyncBatchingAppender.ROUTE_MDC_KEY, "GET /noisy");
+        appender.doAppend(event(Level.INFO, "sampled"));
+        appender.doAppend(event(Level.DEBUG, "sampled"));
+        appender.doAppend(event(Level.WARN, "warning"));
+        appender.doAppend(event(Level.ERROR, "error"));
+        MDC.put(AsyncBatchingAppender.ROUTE_MDC_KEY, "GET /quiet");
+        appender.doAppend(event(Level.INFO, "quiet"));
+        MDC.remove(AsyncBatchingAppender.ROUTE_MDC_KEY);
+        appender.doAppend(event(Level.INFO, "background"));
+        appender.stop();
+
+        assertEquals(List.of("warning", "error", "quiet", "background"),
+                delegate.events.stream().map(ILoggingEvent::getFormattedMessage).toList());
+        assertEquals(2, appender.getSampledOutCount());
+    }
+
+    @Test
+    void testStopAndReleaseHandsBackRunningAppenders() {
+        start(16, OverflowPolicy.DROP, LogSampler.keepAll());
+        appender.doAppend(event(Level.INFO, "before stop"));
+
+        assertEquals(List.of(delegate), appender.stopAndRelease());
+
+        assertEquals(1, delegate.events.size());
+        assertTrue(delegate.isStarted());
+        assertFalse(appender.isAttached(delegate));
+    }
+
+    @Test
+    void testParsesRouteSamplingRates() {
+        LogSampler sampler = LogSampler.parse(1.0, "GET /a/{id}=0, POST /b=1.0,");
+        assertFalse(sampler.keep("GET /a/{id}"));
+        assertTrue(sampler.keep("POST /b"));
+        assertTrue(sampler.keep(null));
+
+        assertThrows(IllegalArgumentException.class, () -> LogSampler.parse(1.0, "GET /a"));
+        assertThrows(IllegalArgumentException.class, () -> LogSampler.parse(1.0, "GET /a=often"));
+        assertThrows(IllegalArgumentException.class, () -> LogSampler.parse(1.5, ""));
+        assertThrows(IllegalArgumentException.class, () -> OverflowPolicy.from("spill"));
+        assertEquals(OverflowPolicy.BLOCK, OverflowPolicy.from("block"));
+    }
+
+    private void start(int bufferSize, OverflowPolicy overflowPolicy, LogSampler sampler) {
+        context.setMDCAdapter(MDC.getMDCAdapter());
+        delegate.setContext(context);
+        delegate.start();
+        appender.setContext(context);
+        appender.setName("test");
+        appender.setBufferSize(bufferSize);
+        appender.setBatchSize(1);
+        appender.setOverflowPolicy(overflowPolicy);
+        appender.setSampler(sampler);
+        appender.addAppender(delegate);
+        appender.start();
+    }
+
+    /**
+     * Appends until the writer holds one event in the blocked delegate and the buffer is full.
+     *
+     * @return the number of events appended
+     */
+    private int fillUntilWriterIsBlocked() throws InterruptedException {
+        appender.doAppend(event(Level.INFO, "first"));
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 4; i++) {
+            appender.doAppend(event(Level.INFO, "queued " + i));
+        }
+        assertEquals(0, appender.getDroppedCount());
+        assertEquals(4, appender.getQueuedCount());
+        return 5;
+    }
+
+    /** Waits for the writer to park with an empty buffer; a timed park would show TIMED_WAITING. */
+    private Thread.State writerStateWhenIdle() throws InterruptedException {
+        Thread writer = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("async-log-writer-test"))
+                .findFirst()
+                .orElseThrow();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (writer.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return writer.getState();
+    }
+
+    private ILoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+    }
+
+    private static class RecordingAppender extends AppenderBase<ILoggingEvent> {
+
+        final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean blocked;
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            if (blocked) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(event);
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+}
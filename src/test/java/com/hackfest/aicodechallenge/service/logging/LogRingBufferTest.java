@@ -0,0 +1,81 @@
+package com.hackfest.aicodechallenge.service.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogRingBufferTest {
+
+    @Test
+    void testRejectsOffersWhenFullAndAcceptsAgainAfterDrain() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(batch, 2));
+        assertEquals(List.of(0, 1), batch);
+        assertTrue(buffer.offer(4));
+        assertTrue(buffer.offer(5));
+        assertFalse(buffer.offer(6));
+
+        batch.clear();
+        assertEquals(4, buffer.drainTo(batch, 10));
+        assertEquals(List.of(2, 3, 4, 5), batch);
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.drainTo(batch, 10));
+    }
+
+    @Test
+    void testRejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LogRingBuffer<>(1));
+    }
+
+    @Test
+    void testConcurrentProducersLoseAndDuplicateNothing() throws InterruptedException {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 5_000;
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            });
+            thread.start();
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+            batch.clear();
+            if (buffer.drainTo(batch, 32) == 0) {
+                Thread.yield();
+            }
+            for (Integer value : batch) {
+                assertTrue(seen.add(value), "duplicate " + value);
+            }
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(producers * perProducer, seen.size());
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,148 @@
+package com.hackfest.aicodechallenge.service.metrics;
+
+import com.hackfest.aicodechallenge.model.dto.RouteMetrics;
+import com.hackfest.aicodechallenge.model.dto.RouteMetricsReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteMetricsRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RouteMetricsRegistry registry = new RouteMetricsRegistry(meterRegistry, 60_000, 3);
+
+    @Test
+    void testCountsRequestsByRouteAndStatusClass() {
+        record("GET", "/compute/fibonacci/{n}", 200, 2);
+        record("GET", "/compute/fibonacci/{n}", 200, 4);
+        record("GET", "/compute/fibonacci/{n}", 400, 1);
+        record("POST", "/compute/batch", 503, 10);
+
+        List<RouteStats> routes = registry.getRoutes();
+        assertEquals(2, routes.size());
+        assertEquals("/compute/batch", routes.get(0).getRoute());
+        RouteStats fibonacci = routes.get(1);
+        assertEquals(3, fibonacci.getCount());
+        assertEquals(2, fibonacci.getCount(1));
+        assertEquals(1, fibonacci.getCount(3));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(7), fibonacci.getTotalNanos());
+        assertEquals(0, registry.getInFlight());
+    }
+
+    @Test
+    void testExportsMetersTaggedByRouteTemplate() {
+        record("GET", "/compute/fibonacci/{n}", 200, 2);
+        record("GET", "/compute/fibonacci/{n}", 500, 8);
+
+        assertEquals(1, meterRegistry.get("http.route.requests")
+                .tags("route", "/compute/fibonacci/{n}", "method", "GET", "status", "2xx").functionCounter().count());
+        assertEquals(1, meterRegistry.get("http.route.requests").tag("status", "5xx").functionCounter().count());
+        assertEquals(0, meterRegistry.get("http.route.requests").tag("status", "4xx").functionCounter().count());
+        assertEquals(2, meterRegistry.get("http.route.latency").functionTimer().count());
+        assertEquals(10, meterRegistry.get("http.route.latency").functionTimer().totalTime(TimeUnit.MILLISECONDS), 0.01);
+        assertEquals(0.008, meterRegistry.get("http.route.latency.max").gauge().value(), 0.0001);
+        assertEquals(0.002, meterRegistry.get("http.route.latency.percentile").tag("quantile", "0.5").gauge().value(),
+                0.0001);
+    }
+
+    @Test
+    void testUnknownMethodsShareOneSeries() {
+        record("BREW", "UNKNOWN", 405, 1);
+        record("PROPFIND", "UNKNOWN", 405, 1);
+
+        assertEquals(1, registry.getRoutes().size());
+        assertEquals("OTHER", registry.getRoutes().get(0).getMethod());
+    }
+
+    @Test
+    void testTracksRequestsInFlightPerRoute() {
+        RouteStats first = registry.requestStarted("GET", "/x");
+        registry.requestStarted("GET", "/x");
+        registry.requestStarted("POST", "/y");
+        assertEquals(3, registry.getInFlight());
+        assertEquals(2, meterRegistry.get("http.route.in-flight").tags("method", "GET", "route", "/x").gauge().value());
+        assertEquals(1, meterRegistry.get("http.route.in-flight").tags("method", "POST", "route", "/y").gauge().value());
+
+        registry.requestFinished(first, 200, 1_000);
+        assertEquals(1, first.getInFlight());
+        assertEquals(1, first.getCount());
+        assertEquals(2, registry.getInFlight());
+    }
+
+    @Test
+    void testPercentilesCoverOnlyTheRecentWindow() {
+        RouteStats stats = new RouteStats("GET", "/x", TimeUnit.SECONDS.toNanos(3), 3, 0);
+        stats.record(200, TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, stats.snapshot(0).getTotalCount());
+
+        stats.record(200, TimeUnit.MILLISECONDS.toNanos(1));
+        // Both fall in a window that has not been cleared since they were recorded
+        assertEquals(2, stats.snapshot(TimeUnit.MILLISECONDS.toNanos(2_500)).getTotalCount());
+
+        // Three rotations on, only what was harvested after the first rotation is left
+        Histogram recent = stats.snapshot(TimeUnit.MILLISECONDS.toNanos(3_500));
+        assertEquals(1, recent.getTotalCount());
+        assertTrue(recent.getMaxValue() < 2_000, "max " + recent.getMaxValue());
+        assertEquals(2, stats.getCount());
+
+        assertEquals(0, stats.snapshot(TimeUnit.SECONDS.toNanos(60)).getTotalCount());
+    }
+
+    @Test
+    void testConcurrentRecordingLosesNoRequests() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    registry.requestFinished(registry.requestStarted("GET", "/compute/fibonacci/{n}"), 200, 50_000 + i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (int i = 0; i < 100; i++) {
+            registry.getRoutes().forEach(RouteStats::snapshot);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        RouteStats stats = registry.getRoutes().get(0);
+        assertEquals(40_000, stats.getCount());
+        assertEquals(40_000, stats.snapshot().getTotalCount());
+        assertEquals(0, registry.getInFlight());
+    }
+
+    @Test
+    void testEndpointReportsLatencyInMilliseconds() {
+        for (int i = 1; i <= 100; i++) {
+            record("GET", "/compute/fibonacci/{n}", i <= 90 ? 200 : 404, i);
+        }
+        registry.requestStarted("GET", "/compute/fibonacci/{n}");
+
+        RouteMetricsReport report = new RouteMetricsEndpoint(registry).routes();
+
+        assertEquals(1, report.getInFlight());
+        RouteMetrics metrics = report.getRoutes().get(0);
+        assertEquals("GET", metrics.getMethod());
+        assertEquals(100, metrics.getTotalRequests());
+        assertEquals(1, metrics.getInFlight());
+        assertEquals(90, metrics.getStatusCounts().get("2xx"));
+        assertEquals(10, metrics.getStatusCounts().get("4xx"));
+        assertEquals(0, metrics.getStatusCounts().get("5xx"));
+        assertEquals(50.5, metrics.getAverageResponseTime(), 0.5);
+        assertEquals(50, metrics.getP50ResponseTime(), 0.5);
+        assertEquals(99, metrics.getP99ResponseTime(), 1);
+        assertEquals(100, metrics.getMaxResponseTime(), 1);
+    }
+
+    private void record(String method, String route, int status, long millis) {
+        registry.requestFinished(registry.requestStarted(method, route), status, TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
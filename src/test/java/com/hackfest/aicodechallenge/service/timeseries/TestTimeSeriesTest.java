@@ -0,0 +1,111 @@
+package com.hackfest.aicodechallenge.service.timeseries;
+
+import com.hackfest.aicodechallenge.model.dto.TimeSeriesResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestTimeSeriesTest {
+
+    /** Aligned to a whole minute so tier windows line up with the samples. */
+    private static final long START = 1_700_000_040L;
+
+    @Test
+    void testRecordsPerSecondPoints() {
+        TestTimeSeries series = new TestTimeSeries("t", 60, 60, 60);
+        series.record(START, 100, 5, 10, 8, 20, 40, 50);
+        series.record(START + 1, 200, 0, 12, 9, 22, 44, 60);
+
+        TimeSeriesResponse response = series.query(null, null, TestTimeSeries.Resolution.SECOND);
+
+        assertArrayEquals(new long[] {START, START + 1}, response.getTimestamps());
+        assertArrayEquals(new long[] {100, 200}, response.getRequests());
+        assertArrayEquals(new double[] {5.0, 0.0}, response.getErrorRate());
+        assertArrayEquals(new double[] {100.0, 200.0}, response.getThroughput());
+        assertArrayEquals(new double[] {50.0, 60.0}, response.getMaxResponseTime());
+    }
+
+    @Test
+    void testSameSecondMerges() {
+        TestTimeSeries series = new TestTimeSeries("t", 60, 60, 60);
+        series.record(START, 100, 0, 10, 10, 10, 10, 10);
+        series.record(START, 300, 0, 20, 20, 20, 30, 90);
+
+        TimeSeriesResponse response = series.query(null, null, TestTimeSeries.Resolution.SECOND);
+
+        assertArrayEquals(new long[] {400}, response.getRequests());
+        assertEquals(17.5, response.getAverageResponseTime()[0], 1e-9);
+        assertEquals(30.0, response.getP99ResponseTime()[0]);
+        assertEquals(90.0, response.getMaxResponseTime()[0]);
+    }
+
+    @Test
+    void testDownsamplesToCoarserTiers() {
+        TestTimeSeries series = new TestTimeSeries("t", 60, 60, 60);
+        for (int i = 0; i < 120; i++) {
+            // One spike in the second minute must survive in p99 and max
+            double max = i == 75 ? 900 : 30;
+            series.record(START + i, 10, i % 10 == 0 ? 1 : 0, 5, 4, 8, max / 2, max);
+        }
+        series.finish();
+
+        TimeSeriesResponse tens = series.query(null, null, TestTimeSeries.Resolution.TEN_SECONDS);
+        assertEquals(12, tens.getTimestamps().length);
+        assertEquals(START + 10, tens.getTimestamps()[1]);
+        assertEquals(100, tens.getRequests()[0]);
+        assertEquals(1, tens.getFailures()[0]);
+        assertEquals(10.0, tens.getThroughput()[0]);
+        assertEquals(5.0, tens.getAverageResponseTime()[0], 1e-9);
+
+        TimeSeriesResponse minutes = series.query(null, null, TestTimeSeries.Resolution.MINUTE);
+        assertArrayEquals(new long[] {START, START + 60}, minutes.getTimestamps());
+        assertArrayEquals(new long[] {600, 600}, minutes.getRequests());
+        assertArrayEquals(new double[] {30.0, 900.0}, minutes.getMaxResponseTime());
+        assertArrayEquals(new double[] {15.0, 450.0}, minutes.getP99ResponseTime());
+    }
+
+    @Test
+    void testRingKeepsNewestPointsAndAutoFallsBackToCoarserTier() {
+        TestTimeSeries series = new TestTimeSeries("t", 30, 30, 30);
+        for (int i = 0; i < 100; i++) {
+            series.record(START + i, 1, 0, 1, 1, 1, 1, 1);
+        }
+
+        TimeSeriesResponse seconds = series.query(null, null, TestTimeSeries.Resolution.SECOND);
+        // 30 closed points plus the still-open current second
+        assertEquals(31, seconds.getTimestamps().length);
+        assertEquals(START + 69, seconds.getTimestamps()[0]);
+        assertEquals(START + 99, seconds.getTimestamps()[30]);
+
+        assertEquals(1, series.query(START + 80, null, null).getResolutionSeconds());
+        TimeSeriesResponse whole = series.query(null, null, null);
+        assertEquals(10, whole.getResolutionSeconds());
+        assertEquals(START, whole.getTimestamps()[0]);
+        // The open window of the 10s tier is returned as a partial trailing point
+        assertEquals(100, LongStream.of(whole.getRequests()).sum());
+    }
+
+    @Test
+    void testQueryFiltersByRange() {
+        TestTimeSeries series = new TestTimeSeries("t", 60, 60, 60);
+        for (int i = 0; i < 10; i++) {
+            series.record(START + i, i, 0, 1, 1, 1, 1, 1);
+        }
+
+        TimeSeriesResponse response = series.query(START + 3, START + 5, TestTimeSeries.Resolution.SECOND);
+
+        assertArrayEquals(new long[] {START + 3, START + 4, START + 5}, response.getTimestamps());
+        assertArrayEquals(new long[] {3, 4, 5}, response.getRequests());
+    }
+
+    @Test
+    void testParsesResolution() {
+        assertNull(TestTimeSeries.Resolution.from("auto"));
+        assertNull(TestTimeSeries.Resolution.from(null));
+        assertEquals(TestTimeSeries.Resolution.TEN_SECONDS, TestTimeSeries.Resolution.from("10S"));
+        assertEquals(TestTimeSeries.Resolution.MINUTE, TestTimeSeries.Resolution.from("1m"));
+        assertThrows(IllegalArgumentException.class, () -> TestTimeSeries.Resolution.from("5s"));
+    }
+}